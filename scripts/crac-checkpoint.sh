@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Creates a CRaC checkpoint of the crac image: starts it against the docker-compose services, lets it warm up and
+# checkpoint, commits the container as product-api:crac-restore and measures how fast a restore is healthy.
+# The restored process keeps the configuration it was checkpointed with. Usage: scripts/crac-checkpoint.sh [--no-build]
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+PORT=18080
+CAPS=(--cap-add CHECKPOINT_RESTORE --cap-add SYS_PTRACE)
+
+if [ "${1:-}" != "--no-build" ]; then
+    docker build --target crac -t product-api:crac "$ROOT"
+fi
+
+docker compose -f "$ROOT/docker-compose.yml" up -d --wait postgres kafka schema-registry mongodb
+NETWORK="$(docker inspect postgresql -f '{{range $name, $_ := .NetworkSettings.Networks}}{{$name}}{{end}}')"
+
+cleanup() {
+    docker rm -f product-api-crac product-api-crac-restore > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+cleanup
+
+# The JVM exits once the checkpoint is written
+docker run --name product-api-crac --network "$NETWORK" "${CAPS[@]}" \
+    -e SPRING_DATASOURCE_URL=jdbc:postgresql://postgresql:5432/products_db \
+    -e SPRING_DATA_MONGODB_URI=mongodb://mongodb:27017/products_db \
+    -e SPRING_KAFKA_BOOTSTRAP_SERVERS=kafka:29092 \
+    -e SCHEMA_REGISTRY_URL=http://schema_registry:8085 \
+    product-api:crac || true
+docker commit product-api-crac product-api:crac-restore > /dev/null
+echo "Committed the checkpoint as product-api:crac-restore"
+
+start=$(( $(date +%s%N) / 1000000 ))
+docker run -d --name product-api-crac-restore --network "$NETWORK" "${CAPS[@]}" -p "$PORT:8080" \
+    product-api:crac-restore > /dev/null
+until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+    if [ $(( $(date +%s%N) / 1000000 - start )) -gt 60000 ]; then
+        docker logs product-api-crac-restore >&2
+        echo "The restored instance did not become healthy within 60s" >&2
+        exit 1
+    fi
+    sleep 0.02
+done
+echo "Restored instance healthy after $(( $(date +%s%N) / 1000000 - start )) ms"
@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# Smoke test of the JVM and native images: starts each against the docker-compose services, checks that a product
+# can be created and read back, and compares time to healthy, container memory (docker stats) and image size.
+# Usage: scripts/native-smoke-test.sh [--no-build]
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+PORT=18080
+IMAGES=(product-api:jvm product-api:native)
+
+if [ "${1:-}" != "--no-build" ]; then
+    docker build -t product-api:jvm "$ROOT"
+    docker build --target native -t product-api:native "$ROOT"
+fi
+
+docker compose -f "$ROOT/docker-compose.yml" up -d --wait postgres kafka schema-registry mongodb
+NETWORK="$(docker inspect postgresql -f '{{range $name, $_ := .NetworkSettings.Networks}}{{$name}}{{end}}')"
+
+cleanup() {
+    docker rm -f product-api-smoke > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Prints "<ms to healthy> <container memory> <image size MB>" for one image
+smoke() {
+    local image="$1" start ready id token
+    cleanup
+    start=$(now_ms)
+    docker run -d --name product-api-smoke --network "$NETWORK" -p "$PORT:8080" \
+        -e SPRING_DATASOURCE_URL=jdbc:postgresql://postgresql:5432/products_db \
+        -e SPRING_DATA_MONGODB_URI=mongodb://mongodb:27017/products_db \
+        -e SPRING_KAFKA_BOOTSTRAP_SERVERS=kafka:29092 \
+        -e SCHEMA_REGISTRY_URL=http://schema_registry:8085 \
+        -e SPRING_JPA_HIBERNATE_DDL_AUTO=update \
+        "$image" > /dev/null
+
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+        if [ $(( $(now_ms) - start )) -gt 120000 ]; then
+            docker logs product-api-smoke >&2
+            echo "$image did not become healthy within 120s" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    ready=$(( $(now_ms) - start ))
+
+    id=$(curl -sf -X POST "http://localhost:$PORT/api/v1/products" -H 'Content-Type: application/json' \
+        -d '{"name":"Smoke Test Product","price":9.99,"category":"BOOKS","active":true}' \
+        -D /tmp/product-api-smoke-headers | sed -E 's/.*"id":([0-9]+).*/\1/')
+    token=$(grep -i '^X-Consistency-Token:' /tmp/product-api-smoke-headers | tr -d '\r' | awk '{ print $2 }')
+    curl -sf "http://localhost:$PORT/api/v1/products/$id" -H "X-Consistency-Token: $token" \
+        | grep -q '"name":"Smoke Test Product"' || { echo "$image failed to read product $id back" >&2; exit 1; }
+
+    echo "$ready $(docker stats --no-stream --format '{{.MemUsage}}' product-api-smoke | cut -d/ -f1 | tr -d ' ') \
+$(( $(docker image inspect -f '{{.Size}}' "$image") / 1024 / 1024 ))"
+}
+
+echo
+echo "| Image | Healthy after (ms) | Memory | Image size (MB) |"
+echo "|---|---|---|---|"
+for image in "${IMAGES[@]}"; do
+    result=$(smoke "$image")
+    read -r ready rss size <<< "$result"
+    echo "| $image | $ready | $rss | $size |"
+done
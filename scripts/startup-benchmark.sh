@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+# Startup-time benchmark for CI: measures JVM start to refreshed context (no infrastructure needed) with and
+# without the AppCDS archive and lazy non-critical beans. Usage: scripts/startup-benchmark.sh [runs]
+set -euo pipefail
+
+RUNS="${1:-5}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+WORK="$ROOT/target/startup"
+JAR="$(ls "$ROOT"/target/product-api-*.jar | grep -v original | head -n 1)"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+PROFILES="--spring.profiles.active=prod,cds-training"
+
+rm -rf "$WORK"
+mkdir -p "$WORK"
+"$JAVA" -Djarmode=tools -jar "$JAR" extract --destination "$WORK/app" > /dev/null
+APP_JAR="$(ls "$WORK"/app/*.jar)"
+
+echo "Training the CDS archive..."
+"$JAVA" -XX:ArchiveClassesAtExit="$WORK/app.jsa" -Xlog:cds=off -Xlog:cds+dynamic=off \
+    -Dspring.context.exit=onRefresh -jar "$APP_JAR" $PROFILES > "$WORK/training.log" 2>&1
+
+# Prints the median wall-clock time of RUNS starts in milliseconds
+measure() {
+    local times=()
+    for _ in $(seq "$RUNS"); do
+        local start end
+        start=$(date +%s%N)
+        "$JAVA" "$@" -Dspring.context.exit=onRefresh -jar "$APP_JAR" $PROFILES > "$WORK/run.log" 2>&1
+        end=$(date +%s%N)
+        times+=($(( (end - start) / 1000000 )))
+    done
+    printf '%s\n' "${times[@]}" | sort -n | awk '{ t[NR] = $1 } END { print t[int((NR + 1) / 2)] }'
+}
+
+BASELINE=$(measure -Xshare:auto -Dproducts.startup.lazy.enabled=false)
+LAZY=$(measure -Xshare:auto)
+CDS=$(measure -XX:SharedArchiveFile="$WORK/app.jsa" -Dproducts.startup.lazy.enabled=false)
+CDS_LAZY=$(measure -XX:SharedArchiveFile="$WORK/app.jsa")
+
+REPORT="$WORK/startup-benchmark.md"
+{
+    echo "### Startup time (median of $RUNS, JVM start to refreshed context)"
+    echo
+    echo "| Variant | ms |"
+    echo "|---|---|"
+    echo "| baseline | $BASELINE |"
+    echo "| lazy non-critical beans | $LAZY |"
+    echo "| AppCDS | $CDS |"
+    echo "| AppCDS + lazy | $CDS_LAZY |"
+} > "$REPORT"
+
+cat "$REPORT"
+if [ -n "${GITHUB_STEP_SUMMARY:-}" ]; then
+    cat "$REPORT" >> "$GITHUB_STEP_SUMMARY"
+fi
@@ -0,0 +1,64 @@
+package com.products.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.products.domain.model.PaginatedResult;
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.infrastructure.dto.ProductPageResponseDTO;
+import com.products.infrastructure.mapper.ProductMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializes a full 100 product page the way the controller does and reports the bytes that would go
+ * on the wire for each view, with and without gzip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PageResponseBenchmark {
+
+    @Param({"full", "lean"})
+    private String view;
+
+    @Param({"identity", "gzip"})
+    private String encoding;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProductMapper productMapper = new ProductMapper();
+
+    private PaginatedResult<Product> page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final ProductCategory[] categories = ProductCategory.values();
+        final List<Product> products = LongStream.rangeClosed(1, 100)
+                .mapToObj(id -> new Product(id, "Product " + id, BigDecimal.valueOf(id * 1000 + 99, 2),
+                        categories[(int) (id % categories.length)], true))
+                .toList();
+        page = new PaginatedResult<>(products, "100", "1", true, true, products.size(), 100);
+
+        System.out.printf("%n[wire-bytes] view=%s encoding=%s bytes=%d%n", view, encoding, responseBody().length);
+    }
+
+    @Benchmark
+    public byte[] responseBody() throws IOException {
+        final ProductPageResponseDTO response = productMapper.toPageResponseDTO(page, view);
+        final byte[] json = objectMapper.writeValueAsBytes(response);
+        if (!"gzip".equals(encoding)) {
+            return json;
+        }
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,97 @@
+package com.products.benchmark;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import com.products.infrastructure.mapper.ProductMapper;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializerConfig;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Publishes a bulk import of ProductEvents to an embedded broker with each producer profile and reports, next
+ * to the events/s score, how many produce requests it took and the average batch size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProductEventPublishBenchmark {
+
+    private static final String TOPIC = "products_changes";
+    private static final int EVENTS_PER_OPERATION = 1_000;
+    private static final Set<String> REPORTED_METRICS = Set.of(
+            "request-total", "batch-size-avg", "records-per-request-avg", "compression-rate-avg");
+
+    // untuned: what KafkaConfig used to send; default: application.yml; throughput: kafka-throughput profile
+    @Param({"untuned", "default", "throughput"})
+    private String producerProfile;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private KafkaProducer<String, Object> producer;
+    private List<ProductEvent> events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC);
+        broker.afterPropertiesSet();
+
+        final Map<String, Object> configs = new HashMap<>();
+        configs.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        configs.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configs.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, KafkaAvroSerializer.class);
+        configs.put(KafkaAvroSerializerConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://publish-benchmark");
+        configs.put(ProducerConfig.ACKS_CONFIG, "all");
+        configs.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configs.putAll(switch (producerProfile) {
+            case "untuned" -> Map.of(ProducerConfig.COMPRESSION_TYPE_CONFIG, "none",
+                    ProducerConfig.LINGER_MS_CONFIG, 0, ProducerConfig.BATCH_SIZE_CONFIG, 16384);
+            case "default" -> Map.of(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4",
+                    ProducerConfig.LINGER_MS_CONFIG, 5, ProducerConfig.BATCH_SIZE_CONFIG, 32768);
+            case "throughput" -> Map.of(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd",
+                    ProducerConfig.LINGER_MS_CONFIG, 20, ProducerConfig.BATCH_SIZE_CONFIG, 262144);
+            default -> throw new IllegalArgumentException("Unknown producer profile: " + producerProfile);
+        });
+        producer = new KafkaProducer<>(configs);
+
+        final ProductMapper productMapper = new ProductMapper();
+        final ProductCategory[] categories = ProductCategory.values();
+        events = LongStream.rangeClosed(1, EVENTS_PER_OPERATION)
+                .mapToObj(id -> productMapper.domainToAvro(new Product(id, "Imported product " + id,
+                        BigDecimal.valueOf(id * 100 + 99, 2), categories[(int) (id % categories.length)], true)))
+                .toList();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_OPERATION)
+    public void publishBulkImport() {
+        for (final ProductEvent event : events) {
+            producer.send(new ProducerRecord<>(TOPIC, String.valueOf(event.getId()), event));
+        }
+        producer.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        producer.metrics().forEach((name, metric) -> {
+            if ("producer-metrics".equals(name.group()) && REPORTED_METRICS.contains(name.name())) {
+                System.out.printf("%n[producer] profile=%s %s=%s", producerProfile, name.name(), metric.metricValue());
+            }
+        });
+        System.out.println();
+        producer.close();
+        broker.destroy();
+    }
+}
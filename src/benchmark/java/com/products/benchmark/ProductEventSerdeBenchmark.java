@@ -0,0 +1,85 @@
+package com.products.benchmark;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import com.products.infrastructure.kafka.serialization.PinnedAvroDeserializer;
+import com.products.infrastructure.kafka.serialization.PinnedAvroSchema;
+import com.products.infrastructure.kafka.serialization.PinnedAvroSerializer;
+import com.products.infrastructure.kafka.serialization.ProductEventCodec;
+import com.products.infrastructure.mapper.ProductMapper;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import io.confluent.kafka.serializers.KafkaAvroSerializerConfig;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes a Product into ProductEvent bytes and decodes them back with the Confluent serializers, the pinned
+ * serializers with SpecificDatumWriter/Reader and the pinned serializers with ProductEventCodec.
+ * Run with {@code -Dbenchmark.includes="ProductEventSerde -prof gc"} to get the bytes allocated per event
+ * ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProductEventSerdeBenchmark {
+
+    private static final String TOPIC = "products_changes";
+
+    @Param({"confluent", "pinned", "codec"})
+    private String path;
+
+    private final ProductMapper productMapper = new ProductMapper();
+    private final Product product = new Product(12345L, "Mechanical Keyboard", new BigDecimal("159.99"),
+            ProductCategory.ELECTRONICS, true);
+
+    private Serializer<Object> serializer;
+    private Deserializer<Object> deserializer;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final SchemaRegistryClient registry = new MockSchemaRegistryClient();
+        final Map<String, Object> configs = Map.of(
+                KafkaAvroSerializerConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://serde-benchmark",
+                "specific.avro.reader", true);
+        final KafkaAvroDeserializer confluentDeserializer = new KafkaAvroDeserializer(registry, configs);
+        final PinnedAvroSchema schema = PinnedAvroSchema.resolve(registry, TOPIC + "-value",
+                ProductEvent.getClassSchema(), true);
+
+        switch (path) {
+            case "confluent" -> {
+                serializer = new KafkaAvroSerializer(registry, configs);
+                deserializer = confluentDeserializer;
+            }
+            case "pinned" -> {
+                serializer = new PinnedAvroSerializer(schema);
+                deserializer = new PinnedAvroDeserializer(schema, confluentDeserializer);
+            }
+            case "codec" -> {
+                serializer = new PinnedAvroSerializer(schema, new ProductEventCodec());
+                deserializer = new PinnedAvroDeserializer(schema, new ProductEventCodec(), confluentDeserializer);
+            }
+            default -> throw new IllegalArgumentException("Unknown path: " + path);
+        }
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(TOPIC, productMapper.domainToAvro(product));
+    }
+
+    @Benchmark
+    public Product decode() {
+        return productMapper.avroToDomain((ProductEvent) deserializer.deserialize(TOPIC, encoded));
+    }
+}
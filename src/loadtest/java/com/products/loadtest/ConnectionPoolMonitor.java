@@ -0,0 +1,135 @@
+package com.products.loadtest;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the Hikari meters of the application under load over the measured phase. Timers and counters are
+ * cumulative since startup, so the seeding and the warmup are subtracted; the pending and active gauges are
+ * sampled every 100 ms, although Hikari only refreshes them about once a second.
+ * <p>
+ * The connections checked out per second and the mean time each one is held are the two inputs of
+ * HikariPoolSizer (target-throughput and query-time-ms), so the size they give by Little's law is reported too.
+ */
+final class ConnectionPoolMonitor {
+
+    private static final long SAMPLE_MILLIS = 100;
+
+    private final MeterRegistry registry;
+    private final String poolName;
+    private final int poolSize;
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "loadtest-pool-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long startNanos;
+    private long acquireCount;
+    private double acquireMillis;
+    private long usageCount;
+    private double usageMillis;
+    private double timeouts;
+    private long samples;
+    private double pendingTotal;
+    private double pendingMax;
+    private double activeTotal;
+
+    ConnectionPoolMonitor(final MeterRegistry registry, final String poolName, final int poolSize) {
+        this.registry = registry;
+        this.poolName = poolName;
+        this.poolSize = poolSize;
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+        acquireCount = timer("hikaricp.connections.acquire").count();
+        acquireMillis = timer("hikaricp.connections.acquire").totalTime(TimeUnit.MILLISECONDS);
+        usageCount = timer("hikaricp.connections.usage").count();
+        usageMillis = timer("hikaricp.connections.usage").totalTime(TimeUnit.MILLISECONDS);
+        timeouts = counter("hikaricp.connections.timeout").count();
+        sampler.scheduleAtFixedRate(this::sample, 0, SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    Stats stop() {
+        sampler.shutdownNow();
+        final double seconds = (System.nanoTime() - startNanos) / 1e9;
+        final long acquired = timer("hikaricp.connections.acquire").count() - acquireCount;
+        final long used = timer("hikaricp.connections.usage").count() - usageCount;
+        final double usageMean = mean(timer("hikaricp.connections.usage").totalTime(TimeUnit.MILLISECONDS)
+                - usageMillis, used);
+        synchronized (this) {
+            return new Stats(
+                    poolSize,
+                    used / seconds,
+                    mean(timer("hikaricp.connections.acquire").totalTime(TimeUnit.MILLISECONDS) - acquireMillis,
+                            acquired),
+                    usageMean,
+                    mean(pendingTotal, samples),
+                    pendingMax,
+                    mean(activeTotal, samples),
+                    (long) (counter("hikaricp.connections.timeout").count() - timeouts),
+                    (int) Math.ceil(used / seconds * usageMean / 1000));
+        }
+    }
+
+    private synchronized void sample() {
+        final double pending = gauge("hikaricp.connections.pending");
+        samples++;
+        pendingTotal += pending;
+        pendingMax = Math.max(pendingMax, pending);
+        activeTotal += gauge("hikaricp.connections.active");
+    }
+
+    private Timer timer(final String name) {
+        return registry.get(name).tag("pool", poolName).timer();
+    }
+
+    private Counter counter(final String name) {
+        return registry.get(name).tag("pool", poolName).counter();
+    }
+
+    private double gauge(final String name) {
+        final Gauge gauge = registry.get(name).tag("pool", poolName).gauge();
+        return gauge.value();
+    }
+
+    private static double mean(final double total, final long count) {
+        return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * @param connectionsPerSecond connections checked out per second over the measured phase
+     * @param littlesLawSize       connections that rate keeps busy at the measured hold time
+     */
+    record Stats(
+            int poolSize,
+            double connectionsPerSecond,
+            double acquireMeanMillis,
+            double usageMeanMillis,
+            double pendingMean,
+            double pendingMax,
+            double activeMean,
+            long timeouts,
+            int littlesLawSize) {
+
+        void writeTo(final ObjectNode node) {
+            node.put("poolSize", poolSize);
+            node.put("connectionsPerSecond", connectionsPerSecond);
+            node.put("acquireMeanMillis", acquireMeanMillis);
+            node.put("usageMeanMillis", usageMeanMillis);
+            node.put("pendingMean", pendingMean);
+            node.put("pendingMax", pendingMax);
+            node.put("activeMean", activeMean);
+            node.put("timeouts", timeouts);
+            node.put("littlesLawSize", littlesLawSize);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.products.loadtest;
+
+import com.products.ProductApplication;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.kafka.ConfluentKafkaContainer;
+import org.testcontainers.lifecycle.Startable;
+import org.testcontainers.lifecycle.Startables;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The instance under load. Either a running one (e.g. {@code docker compose up} plus {@code mvn spring-boot:run})
+ * or the application started in this JVM against Postgres, MongoDB and Kafka containers with the images of
+ * docker-compose.yml. The schema registry is the in-memory mock one.
+ * <p>
+ * An in-process instance can be given a fixed pool size, named {@link #POOL_NAME} so its Hikari meters can be
+ * told apart, and can have its reads forced onto Postgres.
+ */
+final class LoadTestEnvironment implements AutoCloseable {
+
+    static final String POOL_NAME = "products-loadtest";
+
+    private final String baseUrl;
+    private final List<Startable> containers;
+    private final ConfigurableApplicationContext application;
+
+    private LoadTestEnvironment(final String baseUrl, final List<Startable> containers,
+            final ConfigurableApplicationContext application) {
+        this.baseUrl = baseUrl;
+        this.containers = containers;
+        this.application = application;
+    }
+
+    static LoadTestEnvironment start(final LoadTestSettings settings) {
+        return start(settings, Map.of());
+    }
+
+    // HikariPoolSizer is switched off so the tuned profile cannot override the size under test
+    static LoadTestEnvironment start(final LoadTestSettings settings, final int poolSize) {
+        return start(settings, Map.of(
+                "spring.datasource.hikari.pool-name", POOL_NAME,
+                "spring.datasource.hikari.maximum-pool-size", String.valueOf(poolSize),
+                "spring.datasource.hikari.minimum-idle", String.valueOf(poolSize),
+                "products.datasource.pool.auto-size", "false"));
+    }
+
+    private static LoadTestEnvironment start(final LoadTestSettings settings, final Map<String, Object> overrides) {
+        if (settings.external()) {
+            return new LoadTestEnvironment(settings.baseUrl(), List.of(), null);
+        }
+
+        final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                .withDatabaseName("products_db")
+                .withUsername("products_user")
+                .withPassword("products_pass");
+        final MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+        final ConfluentKafkaContainer kafka = new ConfluentKafkaContainer("confluentinc/cp-kafka:7.4.0");
+        Startables.deepStart(postgres, mongo, kafka).join();
+
+        final Map<String, Object> properties = new HashMap<>(Map.of(
+                "server.port", "0",
+                "spring.datasource.url", postgres.getJdbcUrl(),
+                "spring.datasource.username", postgres.getUsername(),
+                "spring.datasource.password", postgres.getPassword(),
+                "spring.data.mongodb.uri", mongo.getReplicaSetUrl("products_db"),
+                "spring.kafka.bootstrap-servers", kafka.getBootstrapServers(),
+                "spring.kafka.schema-registry.url", "mock://loadtest",
+                // The DEBUG logging of application.yml would be most of what is measured
+                "logging.level.com.products", "WARN",
+                "logging.level.org.springframework.data.mongodb", "WARN"));
+        properties.putAll(overrides);
+        final ConfigurableApplicationContext application = new SpringApplicationBuilder(ProductApplication.class)
+                .properties(properties)
+                .run();
+        final int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+        return new LoadTestEnvironment("http://localhost:" + port, List.of(kafka, mongo, postgres), application);
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Opens the Mongo read circuit breaker for good, so lookups and listings are answered by the Postgres
+     * fallback and go through the pool along with the writes.
+     */
+    void forcePostgresReads() {
+        application.getBean("mongoReadCircuitBreaker", CircuitBreaker.class).transitionToForcedOpenState();
+    }
+
+    MeterRegistry meterRegistry() {
+        return application.getBean(MeterRegistry.class);
+    }
+
+    String description() {
+        return application == null ? baseUrl : "in-process against postgres:16-alpine, mongo:7.0, cp-kafka:7.4.0";
+    }
+
+    @Override
+    public void close() {
+        if (application != null) {
+            application.close();
+        }
+        containers.forEach(Startable::stop);
+    }
+}
@@ -0,0 +1,161 @@
+package com.products.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counts per operation for one phase of the run. Latencies are recorded in
+ * microseconds for every HTTP response; 404s and other non-2xx responses are counted apart, and requests that
+ * got no response only count as failures.
+ */
+final class LoadTestReport {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private record OperationStats(Histogram latencies, LongAdder notFound, LongAdder errors, LongAdder failures) {
+    }
+
+    private final Map<ProductOperation, OperationStats> stats = new EnumMap<>(ProductOperation.class);
+    private final long startNanos = System.nanoTime();
+    private final Instant startedAt = Instant.now();
+    private volatile long endNanos;
+    private volatile ConnectionPoolMonitor.Stats connectionPool;
+
+    LoadTestReport() {
+        for (final ProductOperation operation : ProductOperation.values()) {
+            // Auto-resizing, so a stalled request longer than expected is recorded instead of rejected
+            stats.put(operation, new OperationStats(new ConcurrentHistogram(3), new LongAdder(), new LongAdder(),
+                    new LongAdder()));
+        }
+    }
+
+    void record(final ProductOperation operation, final long requestStartNanos, final int status) {
+        final OperationStats operationStats = stats.get(operation);
+        operationStats.latencies().recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestStartNanos));
+        if (status == 404) {
+            operationStats.notFound().increment();
+        } else if (status < 200 || status >= 300) {
+            operationStats.errors().increment();
+        }
+    }
+
+    void recordFailure(final ProductOperation operation) {
+        stats.get(operation).failures().increment();
+    }
+
+    void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    void connectionPool(final ConnectionPoolMonitor.Stats stats) {
+        connectionPool = stats;
+    }
+
+    ConnectionPoolMonitor.Stats connectionPool() {
+        return connectionPool;
+    }
+
+    Path write(final LoadTestSettings settings, final String target, final ObjectMapper objectMapper)
+            throws IOException {
+        final double seconds = (endNanos - startNanos) / 1e9;
+        final ObjectNode root = objectMapper.createObjectNode();
+        root.put("label", settings.label());
+        root.put("startedAt", startedAt.toString());
+        root.put("target", target);
+        root.put("catalogSize", settings.catalogSize());
+        root.put("users", settings.users());
+        root.put("durationSeconds", seconds);
+        final ObjectNode mix = root.putObject("mix");
+        settings.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+
+        long totalRequests = 0;
+        final ObjectNode operations = root.putObject("operations");
+        for (final Map.Entry<ProductOperation, OperationStats> entry : stats.entrySet()) {
+            final Histogram latencies = entry.getValue().latencies();
+            if (latencies.getTotalCount() == 0 && entry.getValue().failures().sum() == 0) {
+                continue;
+            }
+            totalRequests += latencies.getTotalCount();
+            final ObjectNode operation = operations.putObject(entry.getKey().key());
+            operation.put("requests", latencies.getTotalCount());
+            operation.put("throughputPerSecond", latencies.getTotalCount() / seconds);
+            operation.put("notFound", entry.getValue().notFound().sum());
+            operation.put("errors", entry.getValue().errors().sum());
+            operation.put("failures", entry.getValue().failures().sum());
+            final ObjectNode latencyMillis = operation.putObject("latencyMillis");
+            latencyMillis.put("mean", latencies.getMean() / 1000.0);
+            for (final double percentile : PERCENTILES) {
+                latencyMillis.put("p" + formatPercentile(percentile),
+                        latencies.getValueAtPercentile(percentile) / 1000.0);
+            }
+            latencyMillis.put("max", latencies.getMaxValue() / 1000.0);
+        }
+        root.put("totalRequests", totalRequests);
+        root.put("totalThroughputPerSecond", totalRequests / seconds);
+        if (connectionPool != null) {
+            connectionPool.writeTo(root.putObject("connectionPool"));
+        }
+
+        Files.createDirectories(settings.reportDir());
+        final String poolSuffix = connectionPool == null ? "" : "-pool" + connectionPool.poolSize();
+        final Path file = settings.reportDir().resolve(
+                "loadtest-" + settings.label() + poolSuffix + "-" + FILE_TIMESTAMP.format(startedAt) + ".json");
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), root);
+        return file;
+    }
+
+    void print() {
+        System.out.printf("%n%-16s %9s %10s %8s %8s %8s %8s %8s %8s%n",
+                "operation", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        final double seconds = elapsed().toNanos() / 1e9;
+        stats.forEach((operation, operationStats) -> {
+            final Histogram latencies = operationStats.latencies();
+            if (latencies.getTotalCount() == 0) {
+                return;
+            }
+            System.out.printf("%-16s %9d %10.1f %8.2f %8.2f %8.2f %8.2f %8.2f %8d%n",
+                    operation.key(), latencies.getTotalCount(), latencies.getTotalCount() / seconds,
+                    latencies.getValueAtPercentile(50.0) / 1000.0, latencies.getValueAtPercentile(90.0) / 1000.0,
+                    latencies.getValueAtPercentile(99.0) / 1000.0, latencies.getValueAtPercentile(99.9) / 1000.0,
+                    latencies.getMaxValue() / 1000.0,
+                    operationStats.errors().sum() + operationStats.failures().sum());
+        });
+        if (connectionPool != null) {
+            System.out.printf("%n[pool] size=%d connections/s=%.1f acquire.mean=%.3fms usage.mean=%.3fms "
+                            + "pending.mean=%.2f pending.max=%.0f active.mean=%.2f timeouts=%d little=%d%n",
+                    connectionPool.poolSize(), connectionPool.connectionsPerSecond(),
+                    connectionPool.acquireMeanMillis(), connectionPool.usageMeanMillis(),
+                    connectionPool.pendingMean(), connectionPool.pendingMax(), connectionPool.activeMean(),
+                    connectionPool.timeouts(), connectionPool.littlesLawSize());
+        }
+    }
+
+    Duration elapsed() {
+        return Duration.ofNanos(endNanos - startNanos);
+    }
+
+    // 50.0 -> "50", 99.9 -> "99_9", so the JSON keys stay valid identifiers for jq
+    private static String formatPercentile(final double percentile) {
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile).replace('.', '_');
+    }
+}
@@ -0,0 +1,95 @@
+package com.products.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test parameters, read from the {@code loadtest.*} system properties the {@code loadtest} profile passes.
+ *
+ * @param baseUrl     URL of a running instance; when blank the app is started against containers
+ * @param catalogSize products created through the API before the run
+ * @param users       concurrent virtual users, each sending its next request when the previous one returns
+ * @param mix         relative weight of each operation
+ * @param poolSizes   Hikari pool sizes to run one after another; empty runs once with the configured pool
+ */
+record LoadTestSettings(
+        String baseUrl,
+        int catalogSize,
+        int users,
+        Duration warmup,
+        Duration duration,
+        Map<ProductOperation, Integer> mix,
+        long seed,
+        String label,
+        Path reportDir,
+        List<Integer> poolSizes) {
+
+    LoadTestSettings {
+        if (!baseUrl.isBlank() && !poolSizes.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.pool-sizes restarts the application for each size, "
+                    + "it cannot be combined with loadtest.base-url");
+        }
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.base-url", ""),
+                Integer.getInteger("loadtest.catalog-size", 1000),
+                Integer.getInteger("loadtest.users", 32),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "60s")),
+                parseMix(System.getProperty("loadtest.mix",
+                        "list:40,get:25,get-after-write:5,facets:5,create:10,update:10,delete:5")),
+                Long.getLong("loadtest.seed", 42L),
+                System.getProperty("loadtest.label", "local"),
+                Path.of(System.getProperty("loadtest.report-dir", "target/loadtest")),
+                parsePoolSizes(System.getProperty("loadtest.pool-sizes", "")));
+    }
+
+    boolean poolSweep() {
+        return !poolSizes.isEmpty();
+    }
+
+    boolean external() {
+        return !baseUrl.isBlank();
+    }
+
+    static Map<ProductOperation, Integer> parseMix(final String mix) {
+        final Map<ProductOperation, Integer> weights = new EnumMap<>(ProductOperation.class);
+        for (final String entry : mix.split(",")) {
+            final String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight in loadtest.mix, got '" + entry + "'");
+            }
+            final int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(ProductOperation.of(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no operation with a positive weight");
+        }
+        return Collections.unmodifiableMap(weights);
+    }
+
+    static List<Integer> parsePoolSizes(final String poolSizes) {
+        if (poolSizes.isBlank()) {
+            return List.of();
+        }
+        final List<Integer> sizes = Arrays.stream(poolSizes.split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+        if (sizes.stream().anyMatch(size -> size < 1)) {
+            throw new IllegalArgumentException("loadtest.pool-sizes must be positive, got '" + poolSizes + "'");
+        }
+        return sizes;
+    }
+}
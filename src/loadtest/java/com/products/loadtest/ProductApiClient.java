@@ -0,0 +1,101 @@
+package com.products.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.products.infrastructure.dto.ProductRequestDTO;
+import com.products.infrastructure.rest.openapi.ProductApi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Builds and sends the ProductApi requests. Bodies are written from ProductRequestDTO so they follow the
+ * application's own JSON mapping.
+ */
+final class ProductApiClient {
+
+    private static final String PRODUCTS = "/api/v1/products";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    record Response(int status, byte[] body, String consistencyToken) {
+
+        boolean successful() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    ProductApiClient(final String baseUrl, final ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    HttpRequest create(final ProductRequestDTO product) {
+        return request(PRODUCTS).POST(body(product)).build();
+    }
+
+    HttpRequest get(final long id) {
+        return request(PRODUCTS + "/" + id).GET().build();
+    }
+
+    HttpRequest get(final long id, final String consistencyToken) {
+        return request(PRODUCTS + "/" + id).header(ProductApi.CONSISTENCY_TOKEN_HEADER, consistencyToken).GET().build();
+    }
+
+    HttpRequest list(final String query) {
+        return request(PRODUCTS + "?" + query).GET().build();
+    }
+
+    HttpRequest facets() {
+        return request(PRODUCTS + "/facets").GET().build();
+    }
+
+    HttpRequest update(final long id, final ProductRequestDTO product) {
+        return request(PRODUCTS + "/" + id).PUT(body(product)).build();
+    }
+
+    HttpRequest delete(final long id) {
+        return request(PRODUCTS + "/" + id).DELETE().build();
+    }
+
+    Response send(final HttpRequest request) throws IOException, InterruptedException {
+        final HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        return new Response(response.statusCode(), response.body(),
+                response.headers().firstValue(ProductApi.CONSISTENCY_TOKEN_HEADER).orElse(null));
+    }
+
+    JsonNode json(final Response response) {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Response of status " + response.status() + " is not JSON", e);
+        }
+    }
+
+    private HttpRequest.Builder request(final String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher body(final ProductRequestDTO product) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(product));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.products.loadtest;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * Ids of the products the load test created and has not deleted, which reads, updates and deletes pick from.
+ */
+final class ProductIds {
+
+    private long[] ids = new long[1024];
+    private int size;
+
+    synchronized void add(final long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    synchronized OptionalLong random(final RandomGenerator random) {
+        return size == 0 ? OptionalLong.empty() : OptionalLong.of(ids[random.nextInt(size)]);
+    }
+
+    // Swaps the last id into the removed slot, the order of the ids does not matter
+    synchronized OptionalLong removeRandom(final RandomGenerator random) {
+        if (size == 0) {
+            return OptionalLong.empty();
+        }
+        final int index = random.nextInt(size);
+        final long id = ids[index];
+        ids[index] = ids[--size];
+        return OptionalLong.of(id);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
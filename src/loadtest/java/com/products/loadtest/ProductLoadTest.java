@@ -0,0 +1,172 @@
+package com.products.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mixed read/write load against every ProductApi endpoint: seeds a catalog through the API, waits until the
+ * Mongo projection has it, warms up, then measures for the configured duration and writes the throughput and
+ * latency percentiles of each operation to {@code target/loadtest/loadtest-<label>-<timestamp>.json}.
+ * <p>
+ * The users form a closed model: a slow response delays that user's next request. Latencies under
+ * saturation are therefore understated, so compare throughput together with the percentiles.
+ * <p>
+ * With {@code loadtest.pool-sizes} the run is repeated on a fresh environment for each Hikari pool size, with
+ * reads forced onto the Postgres fallback, and the pool meters of each measured phase are reported alongside.
+ */
+public final class ProductLoadTest {
+
+    private static final Duration PROJECTION_TIMEOUT = Duration.ofMinutes(2);
+
+    private ProductLoadTest() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        final ObjectMapper objectMapper = new ObjectMapper();
+
+        if (settings.poolSweep()) {
+            sweepPoolSizes(settings, objectMapper);
+            return;
+        }
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(settings)) {
+            final ProductApiClient client = new ProductApiClient(environment.baseUrl(), objectMapper);
+            final ProductIds productIds = new ProductIds();
+
+            System.out.printf("[loadtest] target=%s catalog=%d users=%d warmup=%s duration=%s%n",
+                    environment.description(), settings.catalogSize(), settings.users(), settings.warmup(),
+                    settings.duration());
+            seed(client, productIds, settings);
+
+            run(client, productIds, settings, settings.warmup(), 1);
+            final LoadTestReport report = run(client, productIds, settings, settings.duration(), 2);
+
+            report.print();
+            final Path file = report.write(settings, environment.description(), objectMapper);
+            System.out.printf("%n[loadtest] report written to %s%n", file);
+        }
+    }
+
+    private static void sweepPoolSizes(final LoadTestSettings settings, final ObjectMapper objectMapper)
+            throws Exception {
+        final List<LoadTestReport> reports = new ArrayList<>();
+        for (final int poolSize : settings.poolSizes()) {
+            try (LoadTestEnvironment environment = LoadTestEnvironment.start(settings, poolSize)) {
+                final ProductApiClient client = new ProductApiClient(environment.baseUrl(), objectMapper);
+                final ProductIds productIds = new ProductIds();
+
+                System.out.printf("%n[loadtest] target=%s pool=%d catalog=%d users=%d warmup=%s duration=%s%n",
+                        environment.description(), poolSize, settings.catalogSize(), settings.users(),
+                        settings.warmup(), settings.duration());
+                // Seeded while Mongo still answers, the seed waits for the projection through the facet counts
+                seed(client, productIds, settings);
+                environment.forcePostgresReads();
+
+                run(client, productIds, settings, settings.warmup(), 1);
+                final ConnectionPoolMonitor monitor = new ConnectionPoolMonitor(environment.meterRegistry(),
+                        LoadTestEnvironment.POOL_NAME, poolSize);
+                monitor.start();
+                final LoadTestReport report = run(client, productIds, settings, settings.duration(), 2);
+                report.connectionPool(monitor.stop());
+
+                report.print();
+                final Path file = report.write(settings, environment.description() + ", reads from postgres",
+                        objectMapper);
+                System.out.printf("%n[loadtest] report written to %s%n", file);
+                reports.add(report);
+            }
+        }
+        printPoolSummary(reports);
+    }
+
+    private static void printPoolSummary(final List<LoadTestReport> reports) {
+        System.out.printf("%n%-6s %10s %12s %12s %10s %10s %9s %8s%n",
+                "pool", "conn/s", "acquire ms", "usage ms", "pending", "pend max", "timeouts", "little");
+        for (final LoadTestReport report : reports) {
+            final ConnectionPoolMonitor.Stats pool = report.connectionPool();
+            System.out.printf("%-6d %10.1f %12.3f %12.3f %10.2f %10.0f %9d %8d%n",
+                    pool.poolSize(), pool.connectionsPerSecond(), pool.acquireMeanMillis(), pool.usageMeanMillis(),
+                    pool.pendingMean(), pool.pendingMax(), pool.timeouts(), pool.littlesLawSize());
+        }
+    }
+
+    private static void seed(final ProductApiClient client, final ProductIds productIds,
+            final LoadTestSettings settings) throws IOException, InterruptedException {
+        final long projectedBefore = projectedProducts(client);
+        final AtomicInteger remaining = new AtomicInteger(settings.catalogSize());
+        final AtomicInteger failed = new AtomicInteger();
+        final long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < settings.users(); user++) {
+                final SplittableRandom random = new SplittableRandom(settings.seed() + user);
+                executor.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        try {
+                            final ProductApiClient.Response response =
+                                    client.send(client.create(VirtualUser.randomProduct(random)));
+                            if (response.successful()) {
+                                productIds.add(client.json(response).path("id").asLong());
+                            } else {
+                                failed.incrementAndGet();
+                            }
+                        } catch (final IOException | RuntimeException e) {
+                            failed.incrementAndGet();
+                        } catch (final InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+        System.out.printf("[loadtest] seeded %d products in %d ms (%d failed)%n", productIds.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failed.get());
+
+        // Reads are served from the projection, so the run only starts once the consumer has caught up
+        final long expected = projectedBefore + productIds.size();
+        final long deadline = System.nanoTime() + PROJECTION_TIMEOUT.toNanos();
+        long projected;
+        while ((projected = projectedProducts(client)) < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Projection has " + projected + " of " + expected
+                        + " products after " + PROJECTION_TIMEOUT);
+            }
+            Thread.sleep(200);
+        }
+    }
+
+    private static long projectedProducts(final ProductApiClient client) throws IOException, InterruptedException {
+        final ProductApiClient.Response response = client.send(client.facets());
+        if (!response.successful()) {
+            throw new IllegalStateException("GET /api/v1/products/facets returned " + response.status());
+        }
+        final JsonNode facets = client.json(response);
+        return facets.path("activeCount").asLong() + facets.path("inactiveCount").asLong();
+    }
+
+    private static LoadTestReport run(final ProductApiClient client, final ProductIds productIds,
+            final LoadTestSettings settings, final Duration duration, final int phase) {
+        final LoadTestReport report = new LoadTestReport();
+        final long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < settings.users(); user++) {
+                executor.submit(new VirtualUser(client, productIds, report, settings.mix(),
+                        settings.seed() * 31 * phase + user, deadline));
+            }
+        }
+        report.finish();
+        return report;
+    }
+}
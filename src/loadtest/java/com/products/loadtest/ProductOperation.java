@@ -0,0 +1,35 @@
+package com.products.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * One kind of request against ProductApi. The key is the name used in {@code loadtest.mix} and in the report.
+ */
+enum ProductOperation {
+
+    LIST("list"),
+    GET("get"),
+    // A GET carrying the X-Consistency-Token of an update the same user just made
+    GET_AFTER_WRITE("get-after-write"),
+    FACETS("facets"),
+    CREATE("create"),
+    UPDATE("update"),
+    DELETE("delete");
+
+    private final String key;
+
+    ProductOperation(final String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static ProductOperation of(final String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown load test operation '" + key + "'"));
+    }
+}
@@ -0,0 +1,160 @@
+package com.products.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.products.domain.model.ProductCategory;
+import com.products.infrastructure.dto.ProductRequestDTO;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One user of the closed model: picks an operation by weight, sends it, and only then picks the next one.
+ * Listing users keep their cursor and page through the catalog part of the time, as a browsing client would.
+ */
+final class VirtualUser implements Runnable {
+
+    private static final ProductCategory[] CATEGORIES = ProductCategory.values();
+    private static final AtomicLong PRODUCT_NAMES = new AtomicLong();
+
+    private final ProductApiClient client;
+    private final ProductIds productIds;
+    private final LoadTestReport report;
+    private final ProductOperation[] operations;
+    private final int[] cumulativeWeights;
+    private final SplittableRandom random;
+    private final long deadlineNanos;
+
+    private String listQuery;
+    private String nextCursor;
+
+    VirtualUser(final ProductApiClient client, final ProductIds productIds, final LoadTestReport report,
+            final Map<ProductOperation, Integer> mix, final long seed, final long deadlineNanos) {
+        this.client = client;
+        this.productIds = productIds;
+        this.report = report;
+        this.operations = mix.keySet().toArray(ProductOperation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.random = new SplittableRandom(seed);
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+            final ProductOperation operation = nextOperation();
+            try {
+                execute(operation);
+            } catch (final IOException | RuntimeException e) {
+                report.recordFailure(operation);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static ProductRequestDTO randomProduct(final SplittableRandom random) {
+        return new ProductRequestDTO(
+                "Load product " + PRODUCT_NAMES.incrementAndGet(),
+                BigDecimal.valueOf(random.nextLong(100, 100_000), 2),
+                CATEGORIES[random.nextInt(CATEGORIES.length)],
+                true);
+    }
+
+    private ProductOperation nextOperation() {
+        final int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weight " + pick + " outside of the mix");
+    }
+
+    private void execute(final ProductOperation operation) throws IOException, InterruptedException {
+        switch (operation) {
+            case LIST -> list();
+            case GET -> withRandomId(id -> send(ProductOperation.GET, client.get(id)));
+            case GET_AFTER_WRITE -> withRandomId(this::getAfterWrite);
+            case FACETS -> send(ProductOperation.FACETS, client.facets());
+            case CREATE -> create();
+            case UPDATE -> withRandomId(id -> send(ProductOperation.UPDATE, client.update(id, randomProduct(random))));
+            case DELETE -> {
+                final OptionalLong id = productIds.removeRandom(random);
+                if (id.isPresent()) {
+                    send(ProductOperation.DELETE, client.delete(id.getAsLong()));
+                }
+            }
+        }
+    }
+
+    private void list() throws IOException, InterruptedException {
+        if (nextCursor == null || random.nextInt(10) >= 7) {
+            listQuery = newListQuery();
+            nextCursor = null;
+        }
+        final String query = nextCursor == null ? listQuery : listQuery + "&cursor=" + nextCursor;
+        final ProductApiClient.Response response = send(ProductOperation.LIST, client.list(query));
+        if (response.successful()) {
+            final JsonNode cursor = client.json(response).path("nextCursor");
+            nextCursor = cursor.isTextual() ? cursor.asText() : null;
+        }
+    }
+
+    private String newListQuery() {
+        final StringBuilder query = new StringBuilder("limit=20");
+        if (random.nextInt(10) < 3) {
+            query.append("&category=").append(CATEGORIES[random.nextInt(CATEGORIES.length)].name());
+        }
+        if (random.nextInt(10) < 3) {
+            query.append("&sortBy=price&sortDir=").append(random.nextBoolean() ? "asc" : "desc");
+        }
+        return query.toString();
+    }
+
+    private void create() throws IOException, InterruptedException {
+        final ProductApiClient.Response response = send(ProductOperation.CREATE,
+                client.create(randomProduct(random)));
+        if (response.successful()) {
+            productIds.add(client.json(response).path("id").asLong());
+        }
+    }
+
+    // The update is measured as an update; this operation is the read that has to observe it
+    private void getAfterWrite(final long id) throws IOException, InterruptedException {
+        final ProductApiClient.Response update = send(ProductOperation.UPDATE,
+                client.update(id, randomProduct(random)));
+        if (update.successful() && update.consistencyToken() != null) {
+            send(ProductOperation.GET_AFTER_WRITE, client.get(id, update.consistencyToken()));
+        }
+    }
+
+    private void withRandomId(final IdOperation operation) throws IOException, InterruptedException {
+        final OptionalLong id = productIds.random(random);
+        if (id.isPresent()) {
+            operation.run(id.getAsLong());
+        }
+    }
+
+    private ProductApiClient.Response send(final ProductOperation operation, final HttpRequest request)
+            throws IOException, InterruptedException {
+        final long start = System.nanoTime();
+        final ProductApiClient.Response response = client.send(request);
+        report.record(operation, start, response.status());
+        return response;
+    }
+
+    @FunctionalInterface
+    private interface IdOperation {
+        void run(long id) throws IOException, InterruptedException;
+    }
+}
@@ -2,11 +2,19 @@ package com.products;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.products.infrastructure.seed.CatalogSeeder;
 
 @SpringBootApplication
 public class ProductApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(ProductApplication.class, args);
+        final ConfigurableApplicationContext context = SpringApplication.run(ProductApplication.class, args);
+        // The seed profile is a one-off job, the Kafka and MongoDB client threads would keep the JVM running
+        final CatalogSeeder seeder = context.getBeanProvider(CatalogSeeder.class).getIfAvailable();
+        if (seeder != null && seeder.exitWhenDone()) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,9 +3,15 @@ package com.products.application;
 import com.products.domain.model.PaginatedResult;
 import com.products.domain.model.PaginationQuery;
 import com.products.domain.model.Product;
+import com.products.domain.model.ProductFacets;
+import com.products.domain.model.ProductFields;
 import com.products.domain.model.ProductFilter;
+import com.products.domain.model.ProductWriteStatus;
 import com.products.domain.service.ProductService;
 
+import java.util.List;
+import java.util.UUID;
+
 public class ProductUseCase {
 
     private final ProductService productService;
@@ -18,16 +24,40 @@ public class ProductUseCase {
         return productService.createProduct(product);
     }
 
+    public List<Product> createProducts(final List<Product> products) {
+        return productService.createProducts(products);
+    }
+
+    public ProductWriteStatus submitCreate(final Product product) {
+        return productService.submitCreate(product);
+    }
+
+    public ProductWriteStatus submitUpdate(final Long id, final Product productRequest) {
+        return productService.submitUpdate(id, productRequest);
+    }
+
+    public ProductWriteStatus getWriteStatus(final UUID writeId) {
+        return productService.getWriteStatus(writeId);
+    }
+
     public PaginatedResult<Product> getAllActiveProducts(final PaginationQuery paginationQuery,
-            final ProductFilter filter) {
+            final ProductFilter filter, final ProductFields fields) {
+
+        return productService.getAllActiveProducts(paginationQuery, filter, fields);
+    }
 
-        return productService.getAllActiveProducts(paginationQuery, filter);
+    public ProductFacets getFacets() {
+        return productService.getFacets();
     }
 
     public Product getActiveProductById(final Long id) {
         return productService.getActiveProductById(id);
     }
 
+    public Product getActiveProductById(final Long id, final long minVersion) {
+        return productService.getActiveProductById(id, minVersion);
+    }
+
     public Product getById(final Long id) {
         return productService.getById(id);
     }
@@ -0,0 +1,8 @@
+package com.products.domain.exception;
+
+// The database rejected a product, e.g. a price with too many digits. The message is safe to return to clients
+public class InvalidProductWriteException extends RuntimeException {
+    public InvalidProductWriteException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.products.domain.exception;
+
+public class ProductWriteNotFoundException extends RuntimeException {
+    public ProductWriteNotFoundException(String message) {
+        super(message);
+    }
+}
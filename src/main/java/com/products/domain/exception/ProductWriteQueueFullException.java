@@ -0,0 +1,7 @@
+package com.products.domain.exception;
+
+public class ProductWriteQueueFullException extends RuntimeException {
+    public ProductWriteQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.products.domain.model;
+
+public record CategoryFacet(ProductCategory category, long activeCount, long inactiveCount) {
+
+    public long totalCount() {
+        return activeCount + inactiveCount;
+    }
+}
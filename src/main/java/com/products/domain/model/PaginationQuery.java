@@ -2,6 +2,8 @@ package com.products.domain.model;
 
 public record PaginationQuery(String cursor, int limit, String sortBy, String sortDir) {
 
+    public static final String SORT_BY_PRICE = "price";
+
     public PaginationQuery {
         if (limit < 1 || limit > 100) {
             throw new IllegalArgumentException("Limit must be between 1 and 100.");
@@ -21,4 +23,12 @@ public record PaginationQuery(String cursor, int limit, String sortBy, String so
     public PaginationQuery(int limit) {
         this(null, limit, "id", "asc");
     }
-}
\ No newline at end of file
+
+    public boolean isSortedByPrice() {
+        return SORT_BY_PRICE.equalsIgnoreCase(sortBy);
+    }
+
+    public boolean isDescending() {
+        return "desc".equalsIgnoreCase(sortDir);
+    }
+}
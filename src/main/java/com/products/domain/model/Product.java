@@ -7,7 +7,9 @@ public record Product(
     String name,
     BigDecimal price,
     ProductCategory category,
-    Boolean active
+    Boolean active,
+    // Incremented by every write in Postgres; the projection has caught up with a write once it holds its version
+    Long version
 ) {
     public Product(String name, BigDecimal price, ProductCategory category) {
         this(null, name, price, category, true);
@@ -16,4 +18,8 @@ public record Product(
     public Product(Long id, String name, BigDecimal price, ProductCategory category) {
         this(id, name, price, category, true);
     }
-}
\ No newline at end of file
+
+    public Product(Long id, String name, BigDecimal price, ProductCategory category, Boolean active) {
+        this(id, name, price, category, active, null);
+    }
+}
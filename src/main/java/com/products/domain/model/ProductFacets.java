@@ -0,0 +1,18 @@
+package com.products.domain.model;
+
+import java.util.List;
+
+public record ProductFacets(List<CategoryFacet> categories) {
+
+    public ProductFacets {
+        categories = List.copyOf(categories);
+    }
+
+    public long activeCount() {
+        return categories.stream().mapToLong(CategoryFacet::activeCount).sum();
+    }
+
+    public long inactiveCount() {
+        return categories.stream().mapToLong(CategoryFacet::inactiveCount).sum();
+    }
+}
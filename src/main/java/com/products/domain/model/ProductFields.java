@@ -0,0 +1,49 @@
+package com.products.domain.model;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public record ProductFields(Set<String> names) {
+
+    public static final String ID = "id";
+
+    public static final List<String> AVAILABLE = List.of(ID, "name", "price", "category", "active");
+
+    public static final ProductFields ALL = new ProductFields(Set.copyOf(AVAILABLE));
+
+    public ProductFields {
+        names = Set.copyOf(names);
+    }
+
+    public static ProductFields of(final String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        // The id is always selected because the next cursor is built from it
+        final Set<String> selected = new LinkedHashSet<>();
+        selected.add(ID);
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(field -> {
+                    if (!AVAILABLE.contains(field)) {
+                        throw new IllegalArgumentException("Unknown product field '" + field
+                                + "'. Allowed fields: " + String.join(", ", AVAILABLE));
+                    }
+                    selected.add(field);
+                });
+
+        return selected.size() == AVAILABLE.size() ? ALL : new ProductFields(selected);
+    }
+
+    public boolean isAll() {
+        return names.size() == AVAILABLE.size();
+    }
+
+    public boolean includes(final String field) {
+        return names.contains(field);
+    }
+}
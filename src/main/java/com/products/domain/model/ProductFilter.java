@@ -1,9 +1,21 @@
 package com.products.domain.model;
 
-public record ProductFilter(String category, String name, Boolean active) {
+import java.math.BigDecimal;
+
+public record ProductFilter(String category, String name, Boolean active, BigDecimal minPrice, BigDecimal maxPrice) {
 
     public ProductFilter {
         active = active != null ? active : true;
+        if (minPrice != null && minPrice.signum() < 0) {
+            throw new IllegalArgumentException("minPrice cannot be negative.");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("minPrice cannot be greater than maxPrice.");
+        }
+    }
+
+    public ProductFilter(String category, String name, Boolean active) {
+        this(category, name, active, null, null);
     }
 
     public boolean hasCategory() {
@@ -21,4 +33,4 @@ public record ProductFilter(String category, String name, Boolean active) {
     public String getNameForQuery() {
         return hasName() ? name : null;
     }
-}
\ No newline at end of file
+}
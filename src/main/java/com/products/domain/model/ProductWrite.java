@@ -0,0 +1,28 @@
+package com.products.domain.model;
+
+import java.util.Objects;
+import java.util.UUID;
+
+// A create or update accepted for asynchronous processing. Updates carry the id of the product they replace
+public record ProductWrite(UUID id, Type type, Product product) {
+
+    public enum Type {
+        CREATE,
+        UPDATE
+    }
+
+    public ProductWrite {
+        Objects.requireNonNull(id, "write ID cannot be null");
+        Objects.requireNonNull(type, "write type cannot be null");
+        Objects.requireNonNull(product, "product cannot be null");
+    }
+
+    public static ProductWrite create(final Product product) {
+        return new ProductWrite(UUID.randomUUID(), Type.CREATE, product);
+    }
+
+    public static ProductWrite update(final Long id, final Product product) {
+        return new ProductWrite(UUID.randomUUID(), Type.UPDATE, new Product(id, product.name(), product.price(),
+                product.category(), product.active()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.products.domain.model;
+
+import java.util.UUID;
+
+// The product is set once the write is committed, the error once it has failed. Errors are returned to clients
+public record ProductWriteStatus(UUID id, State state, Product product, String error) {
+
+    // For failures that are not the write's fault, e.g. the database being unavailable
+    public static final String GENERIC_ERROR = "The write could not be applied, submit it again later";
+
+    public enum State {
+        PENDING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static ProductWriteStatus pending(final UUID id) {
+        return new ProductWriteStatus(id, State.PENDING, null, null);
+    }
+
+    public static ProductWriteStatus completed(final UUID id, final Product product) {
+        return new ProductWriteStatus(id, State.COMPLETED, product, null);
+    }
+
+    public static ProductWriteStatus failed(final UUID id) {
+        return failed(id, GENERIC_ERROR);
+    }
+
+    public static ProductWriteStatus failed(final UUID id, final String error) {
+        return new ProductWriteStatus(id, State.FAILED, null, error);
+    }
+}
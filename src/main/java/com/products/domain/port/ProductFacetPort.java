@@ -0,0 +1,14 @@
+package com.products.domain.port;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductFacets;
+
+public interface ProductFacetPort {
+
+    void recordChange(Product previous, Product current);
+
+    ProductFacets getFacets();
+
+    void rebuild();
+
+}
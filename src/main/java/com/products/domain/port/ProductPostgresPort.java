@@ -2,10 +2,18 @@ package com.products.domain.port;
 
 import com.products.domain.model.Product;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface ProductPostgresPort {
 
     Product save(Product product);
 
-    void deactivateProduct(Long id);
+    List<Product> saveAll(List<Product> products);
+
+    Product deactivateProduct(Long id);
+
+    // Reads the primary, for reads that must see a write that was just made
+    Optional<Product> findById(Long id);
 
 }
\ No newline at end of file
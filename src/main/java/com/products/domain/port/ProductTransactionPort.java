@@ -0,0 +1,11 @@
+package com.products.domain.port;
+
+import java.util.function.Supplier;
+
+public interface ProductTransactionPort {
+
+    <T> T inTransaction(Supplier<T> work);
+
+    void runInTransaction(Runnable work);
+
+}
@@ -0,0 +1,16 @@
+package com.products.domain.port;
+
+import com.products.domain.model.ProductWrite;
+import com.products.domain.model.ProductWriteStatus;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ProductWriteQueuePort {
+
+    // False when the queue is full or no longer accepts writes
+    boolean offer(ProductWrite write);
+
+    Optional<ProductWriteStatus> findStatus(UUID writeId);
+
+}
@@ -1,40 +1,175 @@
 package com.products.domain.service;
 
+import com.products.domain.exception.InvalidProductWriteException;
 import com.products.domain.exception.ProductNotFoundException;
+import com.products.domain.exception.ProductWriteNotFoundException;
+import com.products.domain.exception.ProductWriteQueueFullException;
 import com.products.domain.model.PaginatedResult;
 import com.products.domain.model.PaginationQuery;
 import com.products.domain.model.Product;
+import com.products.domain.model.ProductFacets;
+import com.products.domain.model.ProductFields;
 import com.products.domain.model.ProductFilter;
+import com.products.domain.model.ProductWrite;
+import com.products.domain.model.ProductWriteStatus;
+import com.products.domain.port.ProductFacetPort;
 import com.products.domain.port.ProductPostgresPort;
 import com.products.domain.port.ProductKafkaPort;
 import com.products.domain.port.ProductMongoPort;
+import com.products.domain.port.ProductTransactionPort;
+import com.products.domain.port.ProductWriteQueuePort;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ProductService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ProductService.class);
+
+    private static final long INITIAL_PROJECTION_POLL_MILLIS = 5;
+    private static final long MAX_PROJECTION_POLL_MILLIS = 50;
+
     private final ProductPostgresPort productPostgresPort;
     private final ProductMongoPort productMongoPort;
     private final ProductKafkaPort productEventPort;
+    private final ProductFacetPort productFacetPort;
+    private final ProductTransactionPort productTransactionPort;
+    private final ProductWriteQueuePort productWriteQueuePort;
+    private final Duration projectionWait;
 
     public ProductService(
             final ProductPostgresPort productPostgresPort,
             final ProductMongoPort productPersistenceMongoPort,
-            final ProductKafkaPort productEventPort) {
+            final ProductKafkaPort productEventPort,
+            final ProductFacetPort productFacetPort,
+            final ProductTransactionPort productTransactionPort,
+            final ProductWriteQueuePort productWriteQueuePort,
+            final Duration projectionWait) {
 
         this.productPostgresPort = productPostgresPort;
         this.productMongoPort = productPersistenceMongoPort;
         this.productEventPort = productEventPort;
+        this.productFacetPort = productFacetPort;
+        this.productTransactionPort = productTransactionPort;
+        this.productWriteQueuePort = productWriteQueuePort;
+        this.projectionWait = projectionWait;
     }
 
     public Product createProduct(final Product product) {
-        final Product savedProduct = productPostgresPort.save(product);
-        productEventPort.publishEvent(savedProduct);
-        return savedProduct;
+        return productTransactionPort.inTransaction(() -> {
+            final Product savedProduct = productPostgresPort.save(product);
+            productEventPort.publishEvent(savedProduct);
+            return savedProduct;
+        });
+    }
+
+    // One transaction for the whole batch, so a transactional producer commits once per batch
+    public List<Product> createProducts(final List<Product> products) {
+        return productTransactionPort.inTransaction(() -> {
+            final List<Product> savedProducts = productPostgresPort.saveAll(products);
+            savedProducts.forEach(productEventPort::publishEvent);
+            return savedProducts;
+        });
+    }
+
+    public ProductWriteStatus submitCreate(final Product product) {
+        return submit(ProductWrite.create(product));
+    }
+
+    public ProductWriteStatus submitUpdate(final Long id, final Product productUpdate) {
+        return submit(ProductWrite.update(id, productUpdate));
+    }
+
+    private ProductWriteStatus submit(final ProductWrite write) {
+        if (!productWriteQueuePort.offer(write)) {
+            throw new ProductWriteQueueFullException("Too many pending writes, retry later");
+        }
+        return ProductWriteStatus.pending(write.id());
+    }
+
+    public ProductWriteStatus getWriteStatus(final UUID writeId) {
+        return productWriteQueuePort.findStatus(writeId)
+                .orElseThrow(() -> new ProductWriteNotFoundException("Write not found with id: " + writeId));
+    }
+
+    /**
+     * Commits queued writes in one transaction: creates in one batch insert, updates row by row, and their events
+     * in one transactional producer commit. If a write is rejected, e.g. an update of a missing product, each write
+     * is retried on its own so that only the bad one fails. Any other failure, such as the database being
+     * unavailable, is thrown for the whole batch. Statuses are in the order of the writes.
+     */
+    public List<ProductWriteStatus> applyWrites(final List<ProductWrite> writes) {
+        try {
+            return productTransactionPort.inTransaction(() -> writeAll(writes));
+        } catch (final ProductNotFoundException | InvalidProductWriteException e) {
+            if (writes.size() == 1) {
+                return List.of(ProductWriteStatus.failed(writes.get(0).id(), e.getMessage()));
+            }
+            return applyOneByOne(writes);
+        }
+    }
+
+    // Once a write fails for another reason the rest are not attempted, each would only wait for the same outage
+    private List<ProductWriteStatus> applyOneByOne(final List<ProductWrite> writes) {
+        final List<ProductWriteStatus> statuses = new ArrayList<>(writes.size());
+        for (int i = 0; i < writes.size(); i++) {
+            try {
+                statuses.add(applyWrites(List.of(writes.get(i))).get(0));
+            } catch (final RuntimeException e) {
+                logger.error("Could not apply {} of {} writes", writes.size() - i, writes.size(), e);
+                writes.subList(i, writes.size())
+                        .forEach(write -> statuses.add(ProductWriteStatus.failed(write.id())));
+                break;
+            }
+        }
+        return statuses;
+    }
+
+    // Events are published once every row is written, so a failing write leaves none behind without Kafka
+    // transactions
+    private List<ProductWriteStatus> writeAll(final List<ProductWrite> writes) {
+        final List<Product> creates = writes.stream()
+                .filter(write -> write.type() == ProductWrite.Type.CREATE)
+                .map(ProductWrite::product)
+                .toList();
+        final Iterator<Product> created = creates.isEmpty()
+                ? Collections.emptyIterator()
+                : productPostgresPort.saveAll(creates).iterator();
+
+        final List<ProductWriteStatus> statuses = new ArrayList<>(writes.size());
+        for (final ProductWrite write : writes) {
+            final Product saved = write.type() == ProductWrite.Type.CREATE
+                    ? created.next()
+                    : update(write.product());
+            statuses.add(ProductWriteStatus.completed(write.id(), saved));
+        }
+        statuses.forEach(status -> productEventPort.publishEvent(status.product()));
+        return statuses;
+    }
+
+    private Product update(final Product product) {
+        productPostgresPort.findById(product.id())
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with id: " + product.id()));
+        return productPostgresPort.save(product);
     }
 
     public PaginatedResult<Product> getAllActiveProducts(final PaginationQuery paginationQuery,
-            final ProductFilter filter) {
+            final ProductFilter filter, final ProductFields fields) {
 
-        return productMongoPort.findActiveProducts(paginationQuery, filter);
+        return productMongoPort.findActiveProducts(paginationQuery, filter, fields);
+    }
+
+    public ProductFacets getFacets() {
+        return productFacetPort.getFacets();
     }
 
     public Product getActiveProductById(final Long id) {
@@ -42,6 +177,37 @@ public class ProductService {
                 .orElseThrow(() -> new ProductNotFoundException("Active product not found with id: " + id));
     }
 
+    /**
+     * Reads a product at least as new as {@code minVersion}, the version returned by a write. The projection is
+     * polled for up to the projection wait; if it has not caught up by then the primary database is read instead.
+     */
+    public Product getActiveProductById(final Long id, final long minVersion) {
+        return awaitProjection(id, minVersion)
+                .or(() -> productPostgresPort.findById(id))
+                .filter(product -> Boolean.TRUE.equals(product.active()))
+                .orElseThrow(() -> new ProductNotFoundException("Active product not found with id: " + id));
+    }
+
+    private Optional<Product> awaitProjection(final Long id, final long minVersion) {
+        final long deadline = System.nanoTime() + projectionWait.toNanos();
+        long pauseMillis = INITIAL_PROJECTION_POLL_MILLIS;
+        while (true) {
+            final Optional<Product> projected = productMongoPort.findById(id)
+                    .filter(product -> product.version() != null && product.version() >= minVersion);
+            final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (projected.isPresent() || remainingMillis <= 0) {
+                return projected;
+            }
+            try {
+                Thread.sleep(Math.min(pauseMillis, remainingMillis));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            pauseMillis = Math.min(pauseMillis * 2, MAX_PROJECTION_POLL_MILLIS);
+        }
+    }
+
     public Product getById(final Long id) {
         return productMongoPort.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with id: " + id));
@@ -58,14 +224,17 @@ public class ProductService {
                 productUpdate.category(),
                 productUpdate.active());
 
-        final Product savedProduct = productPostgresPort.save(updatedProduct);
-        productEventPort.publishEvent(savedProduct);
-
-        return savedProduct;
+        return productTransactionPort.inTransaction(() -> {
+            final Product savedProduct = productPostgresPort.save(updatedProduct);
+            productEventPort.publishEvent(savedProduct);
+            return savedProduct;
+        });
     }
 
     public void deactivateProduct(final Product product) {
-        productPostgresPort.deactivateProduct(product.id());
-        productEventPort.publishEvent(product);
+        productTransactionPort.runInTransaction(() -> {
+            final Product deactivatedProduct = productPostgresPort.deactivateProduct(product.id());
+            productEventPort.publishEvent(deactivatedProduct);
+        });
     }
 }
\ No newline at end of file
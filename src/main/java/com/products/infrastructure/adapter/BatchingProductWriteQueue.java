@@ -0,0 +1,199 @@
+package com.products.infrastructure.adapter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.products.domain.model.ProductWrite;
+import com.products.domain.model.ProductWriteStatus;
+import com.products.domain.port.ProductWriteQueuePort;
+import com.products.domain.service.ProductService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded in-memory queue of asynchronous writes, drained by one writer thread. The writer takes whatever is
+ * queued, up to the batch size, waits at most the linger time for more, and commits the batch through
+ * {@link ProductService#applyWrites}, so a burst of single writes shares one transaction and one producer flush.
+ * Statuses are kept in memory for the status TTL, so they can only be read from the instance that accepted the
+ * write. On shutdown the queue stops accepting writes and is drained before the database and Kafka clients stop,
+ * for at most the shutdown timeout. Writes still queued after it are marked failed.
+ */
+@Component
+public class BatchingProductWriteQueue implements ProductWriteQueuePort, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchingProductWriteQueue.class);
+
+    // Stops after the web server, which no longer accepts requests by then, and before the MongoDB client
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final Duration IDLE_POLL = Duration.ofMillis(100);
+
+    private final BlockingQueue<ProductWrite> queue;
+    private final Cache<UUID, ProductWriteStatus> statuses;
+    private final ObjectProvider<ProductService> productService;
+    private final int batchSize;
+    private final Duration linger;
+    private final Duration shutdownTimeout;
+    private final Counter rejected;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+    private Thread writer;
+
+    public BatchingProductWriteQueue(final ObjectProvider<ProductService> productService,
+            @Value("${products.async-writes.queue-capacity:10000}") final int queueCapacity,
+            @Value("${products.async-writes.batch-size:200}") final int batchSize,
+            @Value("${products.async-writes.linger:5ms}") final Duration linger,
+            @Value("${products.async-writes.status-ttl:10m}") final Duration statusTtl,
+            @Value("${products.async-writes.shutdown-timeout:10s}") final Duration shutdownTimeout,
+            final MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(statusTtl)
+                .maximumSize(Math.max(queueCapacity * 10L, 100_000L))
+                .build();
+        this.productService = productService;
+        this.batchSize = batchSize;
+        this.linger = linger;
+        this.shutdownTimeout = shutdownTimeout;
+        Gauge.builder("products.async-writes.queued", queue, BlockingQueue::size)
+                .description("Writes waiting for the batching writer")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("products.async-writes.rejected")
+                .description("Writes rejected because the queue was full")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("products.async-writes.batch.size")
+                .description("Writes committed per transaction")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean offer(final ProductWrite write) {
+        statuses.put(write.id(), ProductWriteStatus.pending(write.id()));
+        if (accepting && queue.offer(write)) {
+            return true;
+        }
+        statuses.invalidate(write.id());
+        rejected.increment();
+        return false;
+    }
+
+    @Override
+    public Optional<ProductWriteStatus> findStatus(final UUID writeId) {
+        return Optional.ofNullable(statuses.getIfPresent(writeId));
+    }
+
+    // Commits one batch, waiting up to pollTimeout for its first write. Returns the number of writes committed
+    int drainOnce(final Duration pollTimeout) throws InterruptedException {
+        final ProductWrite first = queue.poll(pollTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return 0;
+        }
+        final List<ProductWrite> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        final long lingerDeadline = System.nanoTime() + linger.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            final long remaining = lingerDeadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            final ProductWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        write(batch);
+        return batch.size();
+    }
+
+    private void write(final List<ProductWrite> batch) {
+        batchSizes.record(batch.size());
+        try {
+            productService.getObject().applyWrites(batch)
+                    .forEach(status -> statuses.put(status.id(), status));
+        } catch (final RuntimeException e) {
+            logger.error("Could not apply a batch of {} writes", batch.size(), e);
+            batch.forEach(write -> statuses.put(write.id(), ProductWriteStatus.failed(write.id())));
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                drainOnce(IDLE_POLL);
+            }
+            // Writes accepted before the stop are still committed
+            while (!queue.isEmpty()) {
+                drainOnce(Duration.ZERO);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Batching writer interrupted with {} writes still queued", queue.size());
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        accepting = true;
+        running = true;
+        writer = Thread.ofPlatform().name("product-writer").start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        accepting = false;
+        running = false;
+        try {
+            writer.join(shutdownTimeout);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            // A batch stuck on a slow or unavailable database must not hold up the shutdown
+            writer.interrupt();
+        }
+        writer = null;
+        abandonQueued();
+    }
+
+    private void abandonQueued() {
+        final List<ProductWrite> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        if (!abandoned.isEmpty()) {
+            logger.warn("Abandoned {} queued writes that were not applied within {}", abandoned.size(),
+                    shutdownTimeout);
+            abandoned.forEach(write -> statuses.put(write.id(), ProductWriteStatus.failed(write.id())));
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return writer != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,94 @@
+package com.products.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.products.domain.model.PaginatedResult;
+import com.products.domain.model.PaginationQuery;
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductFields;
+import com.products.domain.model.ProductFilter;
+import com.products.domain.port.ProductMongoPort;
+import com.products.infrastructure.deadline.RequestDeadlineExceededException;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+/**
+ * Reads through a circuit breaker around Mongo and falls back to Postgres. A failed read is answered from
+ * Postgres right away; once errors or slow calls pass the thresholds the breaker opens and reads skip Mongo
+ * until a few half-open trial calls succeed again. Writes to the projection always go to Mongo.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "products.read-failover.enabled", havingValue = "true", matchIfMissing = true)
+public class FailoverProductReadAdapter implements ProductMongoPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailoverProductReadAdapter.class);
+
+    private final ProductMongoAdapter mongoAdapter;
+    private final ProductPostgresReadAdapter postgresAdapter;
+    private final CircuitBreaker circuitBreaker;
+
+    public FailoverProductReadAdapter(final ProductMongoAdapter mongoAdapter,
+            final ProductPostgresReadAdapter postgresAdapter,
+            @Qualifier("mongoReadCircuitBreaker") final CircuitBreaker circuitBreaker) {
+        this.mongoAdapter = mongoAdapter;
+        this.postgresAdapter = postgresAdapter;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void save(final Product product) {
+        mongoAdapter.save(product);
+    }
+
+    @Override
+    public Optional<Product> saveAndGetPrevious(final Product product) {
+        return mongoAdapter.saveAndGetPrevious(product);
+    }
+
+    @Override
+    public void saveAll(final List<Product> products) {
+        mongoAdapter.saveAll(products);
+    }
+
+    @Override
+    public Optional<Product> findById(final Long id) {
+        return read(() -> mongoAdapter.findById(id), () -> postgresAdapter.findById(id));
+    }
+
+    @Override
+    public Optional<Product> findActiveById(final Long id) {
+        return read(() -> mongoAdapter.findActiveById(id), () -> postgresAdapter.findActiveById(id));
+    }
+
+    @Override
+    public PaginatedResult<Product> findActiveProducts(final PaginationQuery paginationQuery,
+            final ProductFilter filter, final ProductFields fields) {
+        return read(() -> mongoAdapter.findActiveProducts(paginationQuery, filter, fields),
+                () -> postgresAdapter.findActiveProducts(paginationQuery, filter, fields));
+    }
+
+    private <T> T read(final Supplier<T> mongoRead, final Supplier<T> postgresRead) {
+        try {
+            return circuitBreaker.executeSupplier(mongoRead);
+        } catch (final CallNotPermittedException e) {
+            return postgresRead.get();
+        } catch (final RequestDeadlineExceededException e) {
+            // The client has given up, Postgres would be cut short by the same deadline
+            throw e;
+        } catch (final RuntimeException e) {
+            logger.warn("Mongo read failed, serving it from Postgres", e);
+            return postgresRead.get();
+        }
+    }
+}
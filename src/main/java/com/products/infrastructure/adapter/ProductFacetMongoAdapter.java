@@ -0,0 +1,87 @@
+package com.products.infrastructure.adapter;
+
+import com.products.domain.model.CategoryFacet;
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.domain.model.ProductFacets;
+import com.products.domain.port.ProductFacetPort;
+import com.products.infrastructure.mongo.document.ProductCounterDocument;
+import com.products.infrastructure.mongo.repository.ProductCounterRepository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductFacetMongoAdapter implements ProductFacetPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductFacetMongoAdapter.class);
+
+    private final ProductCounterRepository productCounterRepository;
+
+    // Repairs counters that drifted, e.g. after the consumer saved a product but failed before counting it
+    @Value("${products.facets.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    public ProductFacetMongoAdapter(ProductCounterRepository productCounterRepository) {
+        this.productCounterRepository = productCounterRepository;
+    }
+
+    @Override
+    public void recordChange(final Product previous, final Product current) {
+        if (previous != null && previous.category() == current.category()
+                && Objects.equals(previous.active(), current.active())) {
+            return;
+        }
+
+        if (previous != null) {
+            productCounterRepository.increment(previous.category().name(), Boolean.TRUE.equals(previous.active()), -1);
+        }
+        productCounterRepository.increment(current.category().name(), Boolean.TRUE.equals(current.active()), 1);
+    }
+
+    @Override
+    public ProductFacets getFacets() {
+        final List<ProductCounterDocument> counters = productCounterRepository.findAll();
+
+        final List<CategoryFacet> categories = Arrays.stream(ProductCategory.values())
+                .map(category -> new CategoryFacet(
+                        category,
+                        countOf(counters, category, true),
+                        countOf(counters, category, false)))
+                .toList();
+
+        return new ProductFacets(categories);
+    }
+
+    @Override
+    public void rebuild() {
+        productCounterRepository.rebuildFromProducts();
+        logger.info("Rebuilt product counters from the products collection");
+    }
+
+    // Counters are only seeded once; afterwards the consumer keeps them up to date from event deltas
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeCounters() {
+        if (rebuildOnStartup || productCounterRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    private long countOf(final List<ProductCounterDocument> counters, final ProductCategory category,
+            final boolean active) {
+        final String key = ProductCounterDocument.keyOf(category.name(), active);
+        return counters.stream()
+                .filter(counter -> counter.getId().equals(key))
+                .mapToLong(ProductCounterDocument::getCount)
+                .sum();
+    }
+}
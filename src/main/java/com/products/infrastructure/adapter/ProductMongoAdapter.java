@@ -3,103 +3,115 @@ package com.products.infrastructure.adapter;
 import com.products.domain.model.PaginatedResult;
 import com.products.domain.model.PaginationQuery;
 import com.products.domain.model.Product;
+import com.products.domain.model.ProductFields;
 import com.products.domain.model.ProductFilter;
 import com.products.domain.port.ProductMongoPort;
+import com.products.infrastructure.cache.ProductCache;
 import com.products.infrastructure.mapper.ProductMapper;
 import com.products.infrastructure.mongo.document.ProductDocument;
+import com.products.infrastructure.mongo.document.ProductProjectionDocument;
 import com.products.infrastructure.mongo.repository.ProductRepository;
+import com.products.infrastructure.mongo.repository.ProductSearchCriteria;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.springframework.stereotype.Component;
 
 @Component
 public class ProductMongoAdapter implements ProductMongoPort {
 
-    private static final Logger logger = LoggerFactory.getLogger(ProductMongoAdapter.class);
-
     private final ProductMapper productMapper;
     private final ProductRepository productRepository;
+    private final ProductCache productCache;
 
-    public ProductMongoAdapter(ProductMapper productMapper, ProductRepository productRepository) {
+    public ProductMongoAdapter(ProductMapper productMapper, ProductRepository productRepository,
+            ProductCache productCache) {
         this.productMapper = productMapper;
         this.productRepository = productRepository;
+        this.productCache = productCache;
     }
 
     @Override
     public void save(Product product) {
         ProductDocument document = productMapper.domainToDocument(product);
-        productRepository.save(document);
+        productRepository.upsert(document);
+        productCache.evict(product.id());
+    }
+
+    @Override
+    public Optional<Product> saveAndGetPrevious(final Product product) {
+        final ProductDocument document = productMapper.domainToDocument(product);
+        final Optional<Product> previous = productRepository.replaceAndGetPrevious(document)
+                .map(productMapper::documentToDomain);
+        productCache.evict(product.id());
+        return previous;
+    }
+
+    @Override
+    public void saveAll(final List<Product> products) {
+        productRepository.upsertAll(products.stream()
+                .map(productMapper::domainToDocument)
+                .toList());
+        productCache.evictAll(products.stream().map(Product::id).toList());
     }
 
     @Override
     public Optional<Product> findById(final Long id) {
-        return productRepository.findById(id)
+        return productRepository.lookupById(id, false)
                 .map(productMapper::documentToDomain);
     }
 
     @Override
     public Optional<Product> findActiveById(final Long id) {
-        return productRepository.findByIdAndActiveTrue(id)
-                .map(productMapper::documentToDomain);
+        return productCache.get(id, key -> productRepository.lookupById(key, true)
+                .map(productMapper::documentToDomain));
     }
 
     @Override
     public PaginatedResult<Product> findActiveProducts(final PaginationQuery paginationQuery,
-            final ProductFilter filter) {
-
-        final Long cursor = parseCursor(paginationQuery.cursor());
-        final int limit = paginationQuery.limit();
-        final String categoryStr = filter.getCategoryForQuery();
-        final String name = filter.getNameForQuery();
-        final Boolean active = filter.active();
-
-        final List<ProductDocument> documents = productRepository.findProductsAfterCursor(
-                cursor, active, categoryStr, name, limit + 1);
-
-        final boolean hasNext = documents.size() > limit;
-        final List<ProductDocument> actualDocuments = hasNext ? documents.subList(0, limit) : documents;
-
-        final List<Product> products = actualDocuments.stream()
-                .map(productMapper::documentToDomain)
-                .toList();
+            final ProductFilter filter, final ProductFields fields) {
 
-        String nextCursor = null;
-        String previousCursor = null;
-        boolean hasPrevious = cursor != null;
+        final ProductSearchCriteria criteria = toSearchCriteria(paginationQuery, filter);
+        final Function<Product, String> cursorOf = ProductPageCursor.formatter(paginationQuery);
 
-        if (!products.isEmpty()) {
-            nextCursor = String.valueOf(products.getLast().id());
+        if (fields.isAll()) {
+            final List<ProductDocument> documents = productRepository.findProductsAfterCursor(criteria);
+            return ProductPageCursor.toPage(documents, productMapper::documentToDomain, cursorOf,
+                    paginationQuery.limit(), criteria.hasCursor());
         }
 
-        if (hasPrevious && !products.isEmpty()) {
-            previousCursor = String.valueOf(products.getFirst().id());
+        // The price is part of the cursor when sorting by it, so it has to be read even if not requested. It is
+        // dropped from the page again once the cursor is built
+        final Set<String> projected = new HashSet<>(fields.names());
+        if (paginationQuery.isSortedByPrice()) {
+            projected.add(PaginationQuery.SORT_BY_PRICE);
         }
-
-        return new PaginatedResult<>(
-                products,
-                nextCursor,
-                previousCursor,
-                hasNext,
-                hasPrevious,
-                products.size(),
-                limit);
+        final List<ProductProjectionDocument> projections = productRepository.findProductsAfterCursor(
+                criteria, projected);
+        return ProductPageCursor.toPage(projections, productMapper::projectionToDomain, cursorOf, fields,
+                paginationQuery.limit(), criteria.hasCursor());
     }
 
-    private Long parseCursor(String cursor) {
-        if (cursor == null || cursor.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            return Long.valueOf(cursor.trim());
-        } catch (NumberFormatException e) {
-            logger.warn("Invalid cursor format: {}", cursor);
-            return null;
-        }
+    private ProductSearchCriteria toSearchCriteria(final PaginationQuery paginationQuery,
+            final ProductFilter filter) {
+
+        final ProductPageCursor.Position cursor = ProductPageCursor.parse(paginationQuery);
+
+        return new ProductSearchCriteria(
+                cursor.id(),
+                cursor.price(),
+                filter.active(),
+                filter.getCategoryForQuery(),
+                filter.getNameForQuery(),
+                filter.minPrice(),
+                filter.maxPrice(),
+                paginationQuery.isSortedByPrice(),
+                paginationQuery.isDescending(),
+                paginationQuery.limit() + 1);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.products.infrastructure.adapter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.products.domain.model.PaginatedResult;
+import com.products.domain.model.PaginationQuery;
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductFields;
+
+/**
+ * Cursor format and page assembly shared by the Mongo and Postgres read adapters, so a cursor returned by one
+ * store continues the same listing on the other. The cursor is the last id, or "price_id" when sorting by
+ * price. Adapters fetch limit + 1 rows; the extra row only tells whether there is a next page. The cursor is read
+ * before the page is reduced to the requested fields, so sorting by price does not add the price to the response.
+ */
+final class ProductPageCursor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductPageCursor.class);
+
+    private static final String PRICE_CURSOR_SEPARATOR = "_";
+
+    record Position(Long id, BigDecimal price) {
+
+        static final Position START = new Position(null, null);
+
+        boolean isPresent() {
+            return id != null;
+        }
+    }
+
+    private ProductPageCursor() {
+    }
+
+    static Position parse(final PaginationQuery paginationQuery) {
+        final String cursor = paginationQuery.cursor();
+        if (cursor == null || cursor.trim().isEmpty()) {
+            return Position.START;
+        }
+        try {
+            if (paginationQuery.isSortedByPrice()) {
+                final int separator = cursor.lastIndexOf(PRICE_CURSOR_SEPARATOR);
+                return new Position(Long.valueOf(cursor.substring(separator + 1).trim()),
+                        new BigDecimal(cursor.substring(0, separator).trim()));
+            }
+            return new Position(Long.valueOf(cursor.trim()), null);
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            logger.warn("Invalid cursor format: {}", cursor);
+            return Position.START;
+        }
+    }
+
+    static Function<Product, String> formatter(final PaginationQuery paginationQuery) {
+        return paginationQuery.isSortedByPrice()
+                ? product -> product.price().toPlainString() + PRICE_CURSOR_SEPARATOR + product.id()
+                : product -> String.valueOf(product.id());
+    }
+
+    static <D> PaginatedResult<Product> toPage(final List<D> rows, final Function<D, Product> toDomain,
+            final Function<Product, String> cursorOf, final int limit, final boolean hasCursor) {
+        return toPage(rows, toDomain, cursorOf, ProductFields.ALL, limit, hasCursor);
+    }
+
+    static <D> PaginatedResult<Product> toPage(final List<D> rows, final Function<D, Product> toDomain,
+            final Function<Product, String> cursorOf, final ProductFields fields, final int limit,
+            final boolean hasCursor) {
+
+        final boolean hasNext = rows.size() > limit;
+        final List<D> actualRows = hasNext ? rows.subList(0, limit) : rows;
+
+        final List<Product> products = actualRows.stream()
+                .map(toDomain)
+                .toList();
+
+        String nextCursor = null;
+        String previousCursor = null;
+
+        if (!products.isEmpty()) {
+            nextCursor = cursorOf.apply(products.getLast());
+        }
+
+        if (hasCursor && !products.isEmpty()) {
+            previousCursor = cursorOf.apply(products.getFirst());
+        }
+
+        final List<Product> content = fields.isAll()
+                ? products
+                : products.stream().map(product -> select(product, fields)).toList();
+
+        return new PaginatedResult<>(
+                content,
+                nextCursor,
+                previousCursor,
+                hasNext,
+                hasCursor,
+                content.size(),
+                limit);
+    }
+
+    // Keeps only the requested fields, like a Mongo projection of them would
+    private static Product select(final Product product, final ProductFields fields) {
+        return new Product(
+                product.id(),
+                fields.includes("name") ? product.name() : null,
+                fields.includes("price") ? product.price() : null,
+                fields.includes("category") ? product.category() : null,
+                fields.includes("active") ? product.active() : null);
+    }
+}
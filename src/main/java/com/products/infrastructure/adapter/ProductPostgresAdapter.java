@@ -7,6 +7,9 @@ import com.products.infrastructure.postgresql.entity.ProductEntity;
 import com.products.infrastructure.postgresql.repository.ProductJpaRepository;
 import com.products.infrastructure.mapper.ProductMapper;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,22 +32,43 @@ public class ProductPostgresAdapter implements ProductPostgresPort {
 
     @Override
     public Product save(final Product product) {
-        final ProductEntity entity = productMapper.domainToEntity(product);
-        final ProductEntity savedEntity = productJpaRepository.save(entity);
+        // Updates are copied onto the stored row rather than merged, so the version is the row's and not the one
+        // the caller read from the projection. Flushing makes the returned product carry the incremented version.
+        final ProductEntity entity = Optional.ofNullable(product.id())
+                .flatMap(productJpaRepository::findById)
+                .map(existing -> productMapper.updateEntity(existing, product))
+                .orElseGet(() -> productMapper.domainToEntity(product));
+        final ProductEntity savedEntity = productJpaRepository.saveAndFlush(entity);
         return productMapper.entityToDomain(savedEntity);
     }
 
     @Override
-    public void deactivateProduct(Long id) {
+    public List<Product> saveAll(final List<Product> products) {
+        final List<ProductEntity> entities = products.stream()
+                .map(productMapper::domainToEntity)
+                .toList();
+        return productJpaRepository.saveAll(entities).stream()
+                .map(productMapper::entityToDomain)
+                .toList();
+    }
+
+    @Override
+    public Product deactivateProduct(Long id) {
         final ProductEntity entity = productJpaRepository.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with id: " + id));
 
         if (!entity.isActive()) {
             logger.info("Product {} is already inactive, returning success", id);
-            return;
+            return productMapper.entityToDomain(entity);
         }
 
         entity.setActive(false);
-        productJpaRepository.save(entity);
+        return productMapper.entityToDomain(productJpaRepository.saveAndFlush(entity));
+    }
+
+    // Runs in this adapter's read-write transaction, so it reads the primary even with replica routing enabled
+    @Override
+    public Optional<Product> findById(final Long id) {
+        return productJpaRepository.findById(id).map(productMapper::entityToDomain);
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.products.infrastructure.adapter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.products.domain.model.PaginatedResult;
+import com.products.domain.model.PaginationQuery;
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductFields;
+import com.products.domain.model.ProductFilter;
+import com.products.infrastructure.mapper.ProductMapper;
+import com.products.infrastructure.postgresql.entity.ProductEntity;
+import com.products.infrastructure.postgresql.repository.ProductJpaRepository;
+
+/**
+ * Serves the product reads from Postgres with the same cursors and page shape as the Mongo projection. Used as
+ * the fallback while Mongo is degraded.
+ */
+@Component
+@Transactional(readOnly = true)
+public class ProductPostgresReadAdapter {
+
+    private final ProductJpaRepository productJpaRepository;
+    private final ProductMapper productMapper;
+
+    public ProductPostgresReadAdapter(final ProductJpaRepository productJpaRepository,
+            final ProductMapper productMapper) {
+        this.productJpaRepository = productJpaRepository;
+        this.productMapper = productMapper;
+    }
+
+    public Optional<Product> findById(final Long id) {
+        return productJpaRepository.findById(id)
+                .map(productMapper::entityToDomain);
+    }
+
+    public Optional<Product> findActiveById(final Long id) {
+        return productJpaRepository.findByIdAndActiveTrue(id)
+                .map(productMapper::entityToDomain);
+    }
+
+    public PaginatedResult<Product> findActiveProducts(final PaginationQuery paginationQuery,
+            final ProductFilter filter, final ProductFields fields) {
+
+        final ProductPageCursor.Position cursor = ProductPageCursor.parse(paginationQuery);
+        final boolean hasCursor = cursor.isPresent() && (!paginationQuery.isSortedByPrice() || cursor.price() != null);
+        final int fetchSize = paginationQuery.limit() + 1;
+
+        final List<ProductEntity> entities;
+        if (!paginationQuery.isSortedByPrice()) {
+            entities = productJpaRepository.findProductsAfterCursor(cursor.id(), filter.active(),
+                    filter.getCategoryForQuery(), filter.getNameForQuery(), filter.minPrice(), filter.maxPrice(),
+                    fetchSize);
+        } else if (paginationQuery.isDescending()) {
+            entities = productJpaRepository.findProductsBeforePriceCursor(cursor.price(), cursor.id(),
+                    filter.active(), filter.getCategoryForQuery(), filter.getNameForQuery(), filter.minPrice(),
+                    filter.maxPrice(), fetchSize);
+        } else {
+            entities = productJpaRepository.findProductsAfterPriceCursor(cursor.price(), cursor.id(),
+                    filter.active(), filter.getCategoryForQuery(), filter.getNameForQuery(), filter.minPrice(),
+                    filter.maxPrice(), fetchSize);
+        }
+
+        // Postgres always returns whole rows; the page keeps the fields a Mongo projection would have read
+        return ProductPageCursor.toPage(entities, productMapper::entityToDomain,
+                ProductPageCursor.formatter(paginationQuery), fields, paginationQuery.limit(), hasCursor);
+    }
+}
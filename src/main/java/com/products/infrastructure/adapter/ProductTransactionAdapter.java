@@ -0,0 +1,46 @@
+package com.products.infrastructure.adapter;
+
+import com.products.domain.exception.InvalidProductWriteException;
+import com.products.domain.port.ProductTransactionPort;
+
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs service work in the database transaction. With Kafka transactions enabled, events sent inside it go
+ * in a Kafka transaction that is committed right after the database commit and aborted on rollback.
+ * Constraint violations surface as {@link InvalidProductWriteException}, without the SQL in the message.
+ */
+@Component
+public class ProductTransactionAdapter implements ProductTransactionPort {
+
+    private static final String CONSTRAINT_VIOLATION_MESSAGE = "Product violates a database constraint";
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductTransactionAdapter(final PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <T> T inTransaction(final Supplier<T> work) {
+        try {
+            return transactionTemplate.execute(status -> work.get());
+        } catch (final DataIntegrityViolationException e) {
+            throw new InvalidProductWriteException(CONSTRAINT_VIOLATION_MESSAGE, e);
+        }
+    }
+
+    @Override
+    public void runInTransaction(final Runnable work) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> work.run());
+        } catch (final DataIntegrityViolationException e) {
+            throw new InvalidProductWriteException(CONSTRAINT_VIOLATION_MESSAGE, e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.products.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.products.infrastructure.mongo.repository.ProductAccessStatsRepository;
+
+/**
+ * Counts product lookups in memory and periodically adds them to hourly buckets shared by every instance, so a
+ * freshly started instance knows which products were read most recently. Counting is suspended while the
+ * instance warms itself up, otherwise its own requests would keep the same products hot forever.
+ */
+@Component
+public class ProductAccessStats implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductAccessStats.class);
+
+    private final ProductAccessStatsRepository accessStatsRepository;
+    private final Duration flushInterval;
+    private final Clock clock;
+
+    private volatile ConcurrentHashMap<Long, LongAdder> hits = new ConcurrentHashMap<>();
+    private volatile boolean recording = true;
+    private ScheduledExecutorService flusher;
+
+    public ProductAccessStats(final ProductAccessStatsRepository accessStatsRepository,
+            @Value("${products.cache.access-stats.flush-interval:60s}") final Duration flushInterval) {
+        this(accessStatsRepository, flushInterval, Clock.systemUTC());
+    }
+
+    ProductAccessStats(final ProductAccessStatsRepository accessStatsRepository, final Duration flushInterval,
+            final Clock clock) {
+        this.accessStatsRepository = accessStatsRepository;
+        this.flushInterval = flushInterval;
+        this.clock = clock;
+    }
+
+    public void record(final Long productId) {
+        if (recording) {
+            hits.computeIfAbsent(productId, id -> new LongAdder()).increment();
+        }
+    }
+
+    public void suspend() {
+        recording = false;
+    }
+
+    public void resume() {
+        recording = true;
+    }
+
+    public List<Long> hottest(final int limit, final Duration window) {
+        return accessStatsRepository.findHottestProductIds(clock.instant().minus(window), limit);
+    }
+
+    // A lookup racing with the swap may go uncounted, which does not matter for a popularity ranking
+    synchronized void flush() {
+        if (hits.isEmpty()) {
+            return;
+        }
+        final Map<Long, LongAdder> flushed = hits;
+        hits = new ConcurrentHashMap<>();
+
+        final Map<Long, Long> counts = new HashMap<>(flushed.size());
+        flushed.forEach((productId, adder) -> counts.put(productId, adder.sum()));
+        try {
+            accessStatsRepository.incrementHits(clock.instant().truncatedTo(ChronoUnit.HOURS), counts);
+        } catch (final RuntimeException e) {
+            logger.warn("Could not store access stats of {} products", counts.size(), e);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "product-access-stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushInterval.toMillis(), flushInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    // Runs before the MongoDB client stops, so the last counts still reach it
+    @Override
+    public synchronized void stop() {
+        flusher.shutdownNow();
+        flusher = null;
+        flush();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return flusher != null;
+    }
+}
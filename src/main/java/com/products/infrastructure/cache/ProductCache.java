@@ -0,0 +1,73 @@
+package com.products.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.products.domain.model.Product;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Active products by id for single product lookups. Writes projected by this instance evict their entry, the
+ * others are only seen once the entry expires, so the TTL bounds how stale a lookup can be. Lookups that must
+ * read their own writes go through the consistency token path, which never uses this cache.
+ */
+@Component
+public class ProductCache {
+
+    static final String CACHE_NAME = "products";
+
+    private final Cache<Long, Product> cache;
+    private final ProductAccessStats accessStats;
+
+    public ProductCache(@Value("${products.cache.ttl:30s}") final Duration ttl,
+            @Value("${products.cache.max-size:10000}") final long maxSize,
+            final ProductAccessStats accessStats, final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.accessStats = accessStats;
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    // Misses are not cached, a product created elsewhere becomes visible as soon as it is projected. The load runs
+    // inside Caffeine's compute for the id, so an eviction by a concurrent projection write waits for it and then
+    // removes what was loaded, instead of being overwritten by it
+    public Optional<Product> get(final Long id, final Function<Long, Optional<Product>> loader) {
+        accessStats.record(id);
+        return Optional.ofNullable(cache.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void putAll(final Collection<Product> products) {
+        products.stream()
+                .filter(product -> Boolean.TRUE.equals(product.active()))
+                .forEach(product -> cache.put(product.id(), product));
+    }
+
+    public void evict(final Long id) {
+        cache.invalidate(id);
+    }
+
+    public void evictAll(final Collection<Long> ids) {
+        cache.invalidateAll(ids);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
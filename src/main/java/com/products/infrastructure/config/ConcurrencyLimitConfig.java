@@ -0,0 +1,114 @@
+package com.products.infrastructure.config;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.concurrency.limits.Limit;
+import com.netflix.concurrency.limits.limit.AIMDLimit;
+import com.netflix.concurrency.limits.limit.Gradient2Limit;
+import com.netflix.concurrency.limits.limiter.SimpleLimiter;
+import com.products.infrastructure.rest.filter.ConcurrencyLimitFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(name = "products.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    static final String GRADIENT = "gradient";
+
+    static final String AIMD = "aimd";
+
+    static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(1);
+
+    @Value("${products.concurrency-limit.retry-after:1s}")
+    private Duration retryAfter;
+
+    @Value("${products.concurrency-limit.reads.algorithm:gradient}")
+    private String readAlgorithm;
+
+    @Value("${products.concurrency-limit.reads.initial-limit:50}")
+    private int readInitialLimit;
+
+    @Value("${products.concurrency-limit.reads.min-limit:10}")
+    private int readMinLimit;
+
+    @Value("${products.concurrency-limit.reads.max-limit:200}")
+    private int readMaxLimit;
+
+    // Only aimd has a timeout, unset means DEFAULT_TIMEOUT
+    @Value("${products.concurrency-limit.reads.timeout:#{null}}")
+    private Duration readTimeout;
+
+    @Value("${products.concurrency-limit.writes.algorithm:aimd}")
+    private String writeAlgorithm;
+
+    @Value("${products.concurrency-limit.writes.initial-limit:10}")
+    private int writeInitialLimit;
+
+    @Value("${products.concurrency-limit.writes.min-limit:2}")
+    private int writeMinLimit;
+
+    @Value("${products.concurrency-limit.writes.max-limit:50}")
+    private int writeMaxLimit;
+
+    @Value("${products.concurrency-limit.writes.timeout:#{null}}")
+    private Duration writeTimeout;
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(final ObjectMapper objectMapper,
+            final MeterRegistry meterRegistry) {
+
+        final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+                SimpleLimiter.newBuilder()
+                        .named("reads")
+                        .limit(limit("reads", readAlgorithm, readInitialLimit, readMinLimit, readMaxLimit, readTimeout))
+                        .build(),
+                SimpleLimiter.newBuilder()
+                        .named("writes")
+                        .limit(limit("writes", writeAlgorithm, writeInitialLimit, writeMinLimit, writeMaxLimit, writeTimeout))
+                        .build(),
+                retryAfter, objectMapper, meterRegistry);
+
+        final FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/v1/*");
+        // Ahead of every other filter, a rejected request should cost as little as possible
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // gradient shrinks when latency rises above its long-term baseline, aimd backs off on timeouts and drops
+    // A timeout set for gradient fails startup rather than being silently ignored
+    static Limit limit(final String name, final String algorithm, final int initialLimit, final int minLimit,
+            final int maxLimit, final Duration timeout) {
+        return switch (algorithm) {
+            case GRADIENT -> {
+                if (timeout != null) {
+                    throw new IllegalArgumentException("products.concurrency-limit." + name
+                            + ".timeout only applies to the " + AIMD + " algorithm, " + name + " use " + GRADIENT);
+                }
+                yield Gradient2Limit.newBuilder()
+                        .initialLimit(initialLimit)
+                        .minLimit(minLimit)
+                        .maxConcurrency(maxLimit)
+                        .build();
+            }
+            case AIMD -> AIMDLimit.newBuilder()
+                    .initialLimit(initialLimit)
+                    .minLimit(minLimit)
+                    .maxLimit(maxLimit)
+                    .timeout((timeout != null ? timeout : DEFAULT_TIMEOUT).toNanos(), TimeUnit.NANOSECONDS)
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown concurrency limit algorithm: " + algorithm
+                    + ", expected " + GRADIENT + " or " + AIMD);
+        };
+    }
+}
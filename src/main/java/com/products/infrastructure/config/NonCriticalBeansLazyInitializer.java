@@ -0,0 +1,61 @@
+package com.products.infrastructure.config;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.Lifecycle;
+
+/**
+ * Marks the beans nothing needs to serve traffic as lazy, so they are created on first use instead of while the
+ * instance starts. A bean is non-critical when its class, or the class of the configuration declaring it, starts
+ * with one of the given prefixes. Lifecycle and post-processing beans are always created eagerly.
+ */
+public class NonCriticalBeansLazyInitializer implements BeanFactoryPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(NonCriticalBeansLazyInitializer.class);
+
+    private final List<String> classPrefixes;
+
+    public NonCriticalBeansLazyInitializer(final List<String> classPrefixes) {
+        this.classPrefixes = List.copyOf(classPrefixes);
+    }
+
+    @Override
+    public void postProcessBeanFactory(final ConfigurableListableBeanFactory beanFactory) {
+        int deferred = 0;
+        for (final String beanName : beanFactory.getBeanDefinitionNames()) {
+            final BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition.isLazyInit() || definition.isAbstract() || !definition.isSingleton()) {
+                continue;
+            }
+            final Class<?> beanType = beanFactory.getType(beanName, false);
+            if (beanType == null || mustStartEagerly(beanType)) {
+                continue;
+            }
+            final String factoryBeanName = definition.getFactoryBeanName();
+            final Class<?> declaringType = factoryBeanName == null ? null : beanFactory.getType(factoryBeanName, false);
+            if (isNonCritical(beanType) || (declaringType != null && isNonCritical(declaringType))) {
+                definition.setLazyInit(true);
+                deferred++;
+            }
+        }
+        logger.info("Deferred {} non-critical beans until first use", deferred);
+    }
+
+    private boolean isNonCritical(final Class<?> type) {
+        return classPrefixes.stream().anyMatch(type.getName()::startsWith);
+    }
+
+    private static boolean mustStartEagerly(final Class<?> type) {
+        return Lifecycle.class.isAssignableFrom(type)
+                || SmartInitializingSingleton.class.isAssignableFrom(type)
+                || BeanPostProcessor.class.isAssignableFrom(type)
+                || BeanFactoryPostProcessor.class.isAssignableFrom(type);
+    }
+}
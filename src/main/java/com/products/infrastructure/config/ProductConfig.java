@@ -1,23 +1,39 @@
 package com.products.infrastructure.config;
 
 import com.products.application.ProductUseCase;
+import com.products.domain.port.ProductFacetPort;
 import com.products.domain.port.ProductPostgresPort;
 import com.products.domain.port.ProductKafkaPort;
 import com.products.domain.port.ProductMongoPort;
+import com.products.domain.port.ProductTransactionPort;
+import com.products.domain.port.ProductWriteQueuePort;
 import com.products.domain.service.ProductService;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @Configuration
+@ImportRuntimeHints(ProductRuntimeHints.class)
 public class ProductConfig {
 
     @Bean
     public ProductService productService(
             final ProductPostgresPort productPersistencePostgresPort,
             final ProductMongoPort productPersistenceMongoPort,
-            final ProductKafkaPort productEventPort) {
+            final ProductKafkaPort productEventPort,
+            final ProductFacetPort productFacetPort,
+            final ProductTransactionPort productTransactionPort,
+            final ProductWriteQueuePort productWriteQueuePort,
+            @Value("${products.events.mode:app}") final String eventsMode,
+            @Value("${products.consistency.projection-wait:300ms}") final Duration projectionWait) {
+        // In cdc mode the change stream publishes from the WAL, so writes must not publish themselves
+        final ProductKafkaPort servicePort = "cdc".equals(eventsMode) ? product -> { } : productEventPort;
         return new ProductService(
-                productPersistencePostgresPort, productPersistenceMongoPort, productEventPort);
+                productPersistencePostgresPort, productPersistenceMongoPort, servicePort, productFacetPort,
+                productTransactionPort, productWriteQueuePort, projectionWait);
     }
 
     @Bean
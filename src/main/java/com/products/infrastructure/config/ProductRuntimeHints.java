@@ -0,0 +1,67 @@
+package com.products.infrastructure.config;
+
+import java.util.List;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import com.mongodb.client.MongoClient;
+import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import com.products.infrastructure.mongo.document.ProductAccessStatsDocument;
+import com.products.infrastructure.mongo.document.ProductCounterDocument;
+import com.products.infrastructure.mongo.document.ProductDocument;
+import com.products.infrastructure.mongo.document.ProductProjectionDocument;
+import com.products.infrastructure.postgresql.entity.ProductEntity;
+
+/**
+ * Reflection hints for the native image that Spring's AOT processing cannot infer from the bean definitions:
+ * persisted types mapped reflectively, the Avro record, the Kafka classes instantiated from configuration and the
+ * MongoClient proxy.
+ */
+public class ProductRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final MemberCategory[] MAPPED_TYPE = {
+        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+        MemberCategory.INVOKE_DECLARED_METHODS,
+        MemberCategory.DECLARED_FIELDS,
+        MemberCategory.PUBLIC_FIELDS
+    };
+
+    // Instantiated by name from the key/value (de)serializer and subject strategy properties
+    static final List<String> KAFKA_CLIENT_CLASSES = List.of(
+            "org.apache.kafka.common.serialization.StringSerializer",
+            "org.apache.kafka.common.serialization.StringDeserializer",
+            "io.confluent.kafka.serializers.KafkaAvroSerializer",
+            "io.confluent.kafka.serializers.KafkaAvroDeserializer",
+            "io.confluent.kafka.serializers.subject.TopicNameStrategy");
+
+    // Bodies of the schema registry REST calls, bound by the client's own Jackson mapper
+    static final List<String> SCHEMA_REGISTRY_ENTITIES = List.of(
+            "io.confluent.kafka.schemaregistry.client.rest.entities.Schema",
+            "io.confluent.kafka.schemaregistry.client.rest.entities.SchemaString",
+            "io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference",
+            "io.confluent.kafka.schemaregistry.client.rest.entities.ErrorMessage",
+            "io.confluent.kafka.schemaregistry.client.rest.entities.Config",
+            "io.confluent.kafka.schemaregistry.client.rest.entities.requests.RegisterSchemaRequest",
+            "io.confluent.kafka.schemaregistry.client.rest.entities.requests.RegisterSchemaResponse");
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        List.of(ProductEntity.class, ProductDocument.class, ProductProjectionDocument.class,
+                ProductCounterDocument.class, ProductAccessStatsDocument.class)
+                .forEach(type -> hints.reflection().registerType(type, MAPPED_TYPE));
+
+        // SpecificData loads the record class by its schema name and reads its static SCHEMA$ and MODEL$ fields
+        hints.reflection().registerType(ProductEvent.class, MAPPED_TYPE);
+        hints.reflection().registerType(ProductEvent.Builder.class, MAPPED_TYPE);
+
+        // The MongoClient bean is a JDK proxy to the current client of RestartableMongoClient
+        hints.proxies().registerJdkProxy(MongoClient.class);
+
+        KAFKA_CLIENT_CLASSES.forEach(type -> hints.reflection()
+                .registerTypeIfPresent(classLoader, type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+        SCHEMA_REGISTRY_ENTITIES.forEach(type -> hints.reflection()
+                .registerTypeIfPresent(classLoader, type, MAPPED_TYPE));
+    }
+}
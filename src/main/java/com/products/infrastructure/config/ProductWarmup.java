@@ -0,0 +1,149 @@
+package com.products.infrastructure.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import com.products.domain.model.Product;
+import com.products.infrastructure.cache.ProductAccessStats;
+import com.products.infrastructure.cache.ProductCache;
+import com.products.infrastructure.dto.ProductPageResponseDTO;
+import com.products.infrastructure.dto.ProductResponseDTO;
+import com.products.infrastructure.mapper.ProductMapper;
+import com.products.infrastructure.mongo.repository.ProductRepository;
+import com.products.infrastructure.rest.openapi.ProductApi;
+
+/**
+ * Preloads the most read products into the product cache, then sends requests through the instance's own API
+ * so the controllers, the mapper and the serializers are compiled before real traffic arrives. Application
+ * runners complete before the readiness state turns to ACCEPTING_TRAFFIC, so the readiness probe reports the
+ * instance as out of service until the warm-up is over. Failures are logged and never prevent the start.
+ */
+@Component
+@ConditionalOnProperty(name = "products.warmup.enabled", havingValue = "true")
+public class ProductWarmup implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductWarmup.class);
+
+    static final List<String> LIST_QUERIES = List.of(
+            "/api/v1/products?limit=20",
+            "/api/v1/products?limit=50&sortBy=price&sortDir=desc",
+            "/api/v1/products?category=ELECTRONICS&minPrice=10&maxPrice=500",
+            "/api/v1/products?name=a&view=lean",
+            "/api/v1/products?fields=id,name,price");
+
+    // Every n-th lookup asks for a version the projection cannot have yet, which warms the Postgres fallback read
+    private static final int POSTGRES_READ_INTERVAL = 100;
+
+    private final ProductAccessStats accessStats;
+    private final ProductCache productCache;
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final Environment environment;
+
+    @Value("${products.warmup.preload-count:1000}")
+    private int preloadCount;
+
+    @Value("${products.warmup.access-window:24h}")
+    private Duration accessWindow;
+
+    @Value("${products.warmup.requests:2000}")
+    private int requests;
+
+    @Value("${products.warmup.timeout:60s}")
+    private Duration timeout;
+
+    public ProductWarmup(final ProductAccessStats accessStats, final ProductCache productCache,
+            final ProductRepository productRepository, final ProductMapper productMapper,
+            final Environment environment) {
+        this.accessStats = accessStats;
+        this.productCache = productCache;
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.environment = environment;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        accessStats.suspend();
+        try {
+            final List<Long> hottest = preloadCache();
+            final String port = environment.getProperty("local.server.port");
+            if (port != null) {
+                warmUp("http://localhost:" + port, hottest);
+            }
+        } catch (final RuntimeException e) {
+            logger.warn("Warm-up failed, starting with whatever was warmed up", e);
+        } finally {
+            accessStats.resume();
+        }
+    }
+
+    public List<Long> preloadCache() {
+        final long start = System.nanoTime();
+        final List<Long> hottest = accessStats.hottest(preloadCount, accessWindow);
+        final List<Product> products = new ArrayList<>(hottest.size());
+        productRepository.findAllById(hottest).forEach(document ->
+                products.add(productMapper.documentToDomain(document)));
+        productCache.putAll(products);
+        logger.info("Preloaded {} of the {} most read products in {} ms", productCache.size(), hottest.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return hottest;
+    }
+
+    void warmUp(final String baseUrl, final List<Long> hottest) {
+        final long start = System.nanoTime();
+        final long deadline = start + timeout.toNanos();
+        final List<Long> ids = new ArrayList<>(hottest);
+        int sent = 0;
+        int failed = 0;
+
+        // Closed when done, open connections would also make a CRaC checkpoint fail
+        try (HttpClient httpClient = HttpClient.newHttpClient()) {
+            final RestClient restClient = RestClient.builder()
+                    .baseUrl(baseUrl)
+                    .requestFactory(new JdkClientHttpRequestFactory(httpClient))
+                    .build();
+            for (int i = 0; i < requests && System.nanoTime() < deadline; i++, sent++) {
+                try {
+                    if (i % 4 == 0) {
+                        final ProductPageResponseDTO page = restClient.get()
+                                .uri(LIST_QUERIES.get(i / 4 % LIST_QUERIES.size()))
+                                .retrieve()
+                                .body(ProductPageResponseDTO.class);
+                        if (ids.isEmpty() && page != null && page.content() != null) {
+                            page.content().stream().map(ProductResponseDTO::id).forEach(ids::add);
+                        }
+                    } else if (i % 4 == 1 || ids.isEmpty()) {
+                        restClient.get().uri("/api/v1/products/facets").retrieve().toBodilessEntity();
+                    } else {
+                        final RestClient.RequestHeadersSpec<?> lookup = restClient.get()
+                                .uri("/api/v1/products/{id}", ids.get(i % ids.size()));
+                        if (i % POSTGRES_READ_INTERVAL == 2) {
+                            lookup.header(ProductApi.CONSISTENCY_TOKEN_HEADER, String.valueOf(Long.MAX_VALUE));
+                        }
+                        lookup.retrieve().toBodilessEntity();
+                    }
+                } catch (final RestClientException e) {
+                    failed++;
+                }
+            }
+        }
+        logger.info("Warm-up sent {} requests ({} failed) in {} ms", sent, failed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,78 @@
+package com.products.infrastructure.config;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.products.infrastructure.deadline.RequestDeadlineExceededException;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(name = "products.read-failover.enabled", havingValue = "true", matchIfMissing = true)
+public class ReadFailoverConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadFailoverConfig.class);
+
+    static final String MONGO_READS = "mongoReads";
+
+    @Value("${products.read-failover.slow-call-threshold:250ms}")
+    private Duration slowCallThreshold;
+
+    @Value("${products.read-failover.slow-call-rate-threshold:50}")
+    private float slowCallRateThreshold;
+
+    @Value("${products.read-failover.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${products.read-failover.sliding-window-size:50}")
+    private int slidingWindowSize;
+
+    @Value("${products.read-failover.minimum-number-of-calls:20}")
+    private int minimumNumberOfCalls;
+
+    @Value("${products.read-failover.wait-in-open-state:10s}")
+    private Duration waitInOpenState;
+
+    @Value("${products.read-failover.half-open-calls:5}")
+    private int halfOpenCalls;
+
+    @Bean
+    public CircuitBreaker mongoReadCircuitBreaker(final ObjectProvider<MeterRegistry> meterRegistry) {
+        final CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(circuitBreakerConfig());
+        // circuitbreaker.state, .calls and .slow.calls meters tagged name=mongoReads
+        meterRegistry.ifAvailable(meters -> TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry)
+                .bindTo(meters));
+
+        final CircuitBreaker circuitBreaker = registry.circuitBreaker(MONGO_READS);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                logger.warn("Mongo read circuit breaker {}", event.getStateTransition()));
+        return circuitBreaker;
+    }
+
+    CircuitBreakerConfig circuitBreakerConfig() {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(waitInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // A short client deadline says nothing about Mongo's health
+                .ignoreExceptions(RequestDeadlineExceededException.class)
+                .build();
+    }
+}
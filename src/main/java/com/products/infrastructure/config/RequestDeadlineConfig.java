@@ -0,0 +1,46 @@
+package com.products.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.products.infrastructure.postgresql.config.DeadlineJpaTransactionManager;
+import com.products.infrastructure.rest.filter.RequestDeadlineFilter;
+
+@Configuration
+@ConditionalOnProperty(name = "products.deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestDeadlineConfig {
+
+    @Value("${products.deadline.default-timeout:10s}")
+    private Duration defaultTimeout;
+
+    @Value("${products.deadline.max-timeout:30s}")
+    private Duration maxTimeout;
+
+    @Bean
+    public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter() {
+        final FilterRegistrationBean<RequestDeadlineFilter> registration = new FilterRegistrationBean<>(
+                new RequestDeadlineFilter(defaultTimeout, maxTimeout));
+        registration.addUrlPatterns("/api/v1/*");
+        // Right after the concurrency limit, rejected requests need no deadline
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    // Replaces the auto-configured JpaTransactionManager, which finds the EntityManagerFactory the same way
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            final ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        final DeadlineJpaTransactionManager transactionManager = new DeadlineJpaTransactionManager();
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,25 @@
+package com.products.infrastructure.config;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@ConditionalOnProperty(name = "products.startup.lazy.enabled", havingValue = "true")
+public class StartupConfig {
+
+    static final List<String> DEFAULT_LAZY_CLASS_PREFIXES = List.of("org.springdoc.");
+
+    // Static, bean factory post-processors are instantiated before regular beans and their configuration classes
+    @Bean
+    public static NonCriticalBeansLazyInitializer nonCriticalBeansLazyInitializer(final Environment environment) {
+        return new NonCriticalBeansLazyInitializer(Binder.get(environment)
+                .bind("products.startup.lazy.class-prefixes", Bindable.listOf(String.class))
+                .orElse(DEFAULT_LAZY_CLASS_PREFIXES));
+    }
+}
@@ -0,0 +1,59 @@
+package com.products.infrastructure.config;
+
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.products.infrastructure.cache.ProductCache;
+
+/**
+ * Takes a CRaC checkpoint once the instance is ready, after {@link ProductWarmup} has warmed it up. This runs
+ * before the instance reports itself ready, so no traffic is routed to it meanwhile. Spring stops every lifecycle
+ * bean before the checkpoint (web server, Kafka listeners and producers, Hikari pools, the MongoDB client) and
+ * starts them again on restore, so a restored instance serves with a warm JIT right away. The cached products are
+ * as old as the image, so they are replaced with the currently most read ones after a restore. Without a CRaC JVM
+ * it just keeps running.
+ */
+@Component
+@ConditionalOnProperty(name = "products.crac.checkpoint-after-warmup.enabled", havingValue = "true")
+public class WarmupCheckpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupCheckpoint.class);
+
+    private final ProductCache productCache;
+    private final ObjectProvider<ProductWarmup> productWarmup;
+
+    public WarmupCheckpoint(final ProductCache productCache, final ObjectProvider<ProductWarmup> productWarmup) {
+        this.productCache = productCache;
+        this.productWarmup = productWarmup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkpoint() {
+        logger.info("Taking a CRaC checkpoint");
+        try {
+            Core.checkpointRestore();
+            logger.info("Restored from the CRaC checkpoint");
+        } catch (final CheckpointException | RestoreException | UnsupportedOperationException e) {
+            logger.warn("CRaC checkpoint failed, continuing without one", e);
+            return;
+        }
+        reloadCache();
+    }
+
+    private void reloadCache() {
+        productCache.clear();
+        try {
+            productWarmup.ifAvailable(ProductWarmup::preloadCache);
+        } catch (final RuntimeException e) {
+            logger.warn("Could not preload the product cache after the restore", e);
+        }
+    }
+}
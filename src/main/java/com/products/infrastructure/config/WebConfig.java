@@ -1,6 +1,8 @@
 package com.products.infrastructure.config;
 
+import com.products.infrastructure.rest.openapi.ProductApi;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -13,6 +15,7 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(ProductApi.CONSISTENCY_TOKEN_HEADER, HttpHeaders.LOCATION)
                 .maxAge(3600); // 1 hour cache to response pre-flight
     }
 }
\ No newline at end of file
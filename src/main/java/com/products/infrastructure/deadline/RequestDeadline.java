@@ -0,0 +1,44 @@
+package com.products.infrastructure.deadline;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Deadline of the request served by the current thread. Data access reads it to bound database work, so queries
+ * stop once the client has given up instead of holding a pooled connection for nothing.
+ */
+public final class RequestDeadline {
+
+    // Mongo treats maxTimeMS=0 as no limit, so less than a millisecond left counts as expired
+    private static final long MIN_REMAINING_NANOS = Duration.ofMillis(1).toNanos();
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void start(final Duration timeout) {
+        DEADLINE_NANOS.set(System.nanoTime() + timeout.toNanos());
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /**
+     * Time left until the deadline, empty when the thread does not serve a request with one.
+     *
+     * @throws RequestDeadlineExceededException if the deadline has passed
+     */
+    public static Optional<Duration> remaining() {
+        final Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Optional.empty();
+        }
+        final long remaining = deadline - System.nanoTime();
+        if (remaining < MIN_REMAINING_NANOS) {
+            throw new RequestDeadlineExceededException("Request deadline exceeded");
+        }
+        return Optional.of(Duration.ofNanos(remaining));
+    }
+}
@@ -0,0 +1,12 @@
+package com.products.infrastructure.deadline;
+
+public class RequestDeadlineExceededException extends RuntimeException {
+
+    public RequestDeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public RequestDeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.products.infrastructure.dto;
+
+import com.products.domain.model.ProductCategory;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Product counts for a single category")
+public record CategoryFacetDTO(
+        @Schema(description = "Product category") ProductCategory category,
+
+        @Schema(description = "Number of active products") long activeCount,
+
+        @Schema(description = "Number of inactive products") long inactiveCount,
+
+        @Schema(description = "Number of products in the category") long totalCount) {
+}
@@ -0,0 +1,14 @@
+package com.products.infrastructure.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Product counts per category and active flag")
+public record ProductFacetsResponseDTO(
+        @Schema(description = "Counts per category") List<CategoryFacetDTO> categories,
+
+        @Schema(description = "Number of active products") long activeCount,
+
+        @Schema(description = "Number of inactive products") long inactiveCount) {
+}
@@ -1,9 +1,12 @@
 package com.products.infrastructure.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.products.domain.model.ProductCategory;
 
 import java.math.BigDecimal;
 
+// Fields left out of a sparse fieldset are null and are not serialized
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ProductResponseDTO(
         Long id,
         String name,
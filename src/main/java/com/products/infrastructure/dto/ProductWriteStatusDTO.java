@@ -0,0 +1,19 @@
+package com.products.infrastructure.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.products.domain.model.ProductWriteStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Progress of an asynchronous create or update")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProductWriteStatusDTO(
+        @Schema(description = "Write ID") UUID id,
+
+        @Schema(description = "PENDING, COMPLETED or FAILED") ProductWriteStatus.State status,
+
+        @Schema(description = "The written product, once completed") ProductResponseDTO product,
+
+        @Schema(description = "Why the write failed") String error) {
+}
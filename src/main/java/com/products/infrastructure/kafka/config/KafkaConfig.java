@@ -1,36 +1,115 @@
 package com.products.infrastructure.kafka.config;
 
+import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import com.products.infrastructure.kafka.serialization.PinnedAvroDeserializer;
+import com.products.infrastructure.kafka.serialization.PinnedAvroSchema;
+import com.products.infrastructure.kafka.serialization.PinnedAvroSerializer;
+import com.products.infrastructure.kafka.serialization.ProductEventCodec;
+import io.confluent.kafka.schemaregistry.avro.AvroSchemaProvider;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClientFactory;
 import io.confluent.kafka.serializers.KafkaAvroSerializer;
 import io.confluent.kafka.serializers.KafkaAvroDeserializer;
 import io.confluent.kafka.serializers.KafkaAvroSerializerConfig;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
 public class KafkaConfig {
 
+    private static final int SCHEMA_CACHE_CAPACITY = 100;
+
+    private static final String SPECIFIC_AVRO_READER = "specific.avro.reader";
+
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
     @Value("${spring.kafka.consumer.group-id:products-consumer-group}")
     private String groupId;
 
-    @Value("${spring.kafka.schema-registry-url:http://localhost:8085}")
+    @Value("${spring.kafka.schema-registry.url:http://localhost:8085}")
     private String schemaRegistryUrl;
 
+    @Value("${spring.kafka.schema-registry.auto-register:true}")
+    private boolean autoRegisterSchema;
+
+    @Value("${spring.kafka.schema-registry.subject:products_changes-value}")
+    private String schemaSubject;
+
+    @Value("${spring.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${spring.kafka.producer.properties.linger.ms:5}")
+    private int lingerMs;
+
+    @Value("${spring.kafka.producer.batch-size:32768}")
+    private int batchSize;
+
+    @Value("${spring.kafka.producer.properties.max.in.flight.requests.per.connection:5}")
+    private int maxInFlightRequests;
+
+    @Value("${products.kafka.transactions.enabled:false}")
+    private boolean transactionsEnabled;
+
+    @Value("${products.kafka.transactions.id-prefix:products-tx-}")
+    private String transactionIdPrefix;
+
+    @Value("${products.kafka.snapshot-topic.partitions:3}")
+    private int snapshotPartitions;
+
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
+    public SchemaRegistryClient schemaRegistryClient() {
+        // mock://<scope> gives an in-memory registry shared by every client of the same scope
+        return SchemaRegistryClientFactory.newClient(List.of(schemaRegistryUrl), SCHEMA_CACHE_CAPACITY,
+                List.of(new AvroSchemaProvider()), Map.of(), Map.of());
+    }
+
+    // Resolved once at startup, so a slow or unavailable registry fails the boot instead of stalling sends
+    @Bean
+    @ConditionalOnProperty(name = "spring.kafka.schema-registry.pinned", havingValue = "true", matchIfMissing = true)
+    public PinnedAvroSchema productEventSchema(final SchemaRegistryClient schemaRegistryClient) {
+        return PinnedAvroSchema.resolve(schemaRegistryClient, schemaSubject, ProductEvent.getClassSchema(),
+                autoRegisterSchema);
+    }
+
+    @Bean
+    public ProducerFactory<String, Object> producerFactory(final ObjectProvider<PinnedAvroSchema> productEventSchema) {
+        final PinnedAvroSchema pinnedSchema = productEventSchema.getIfAvailable();
+        final DefaultKafkaProducerFactory<String, Object> producerFactory = pinnedSchema == null
+                ? new DefaultKafkaProducerFactory<>(producerConfigs())
+                : new DefaultKafkaProducerFactory<>(producerConfigs(), new StringSerializer(),
+                        new PinnedAvroSerializer(pinnedSchema, new ProductEventCodec()));
+        if (transactionsEnabled) {
+            // Sends made inside the JPA transaction join a Kafka transaction committed after the database commit.
+            // The prefix must be unique per instance so a restarted instance fences its own zombie producers
+            producerFactory.setTransactionIdPrefix(transactionIdPrefix);
+        }
+        return producerFactory;
+    }
+
+    Map<String, Object> producerConfigs() {
+        // Idempotence only keeps ordering with up to 5 in-flight requests per connection
+        if (maxInFlightRequests < 1 || maxInFlightRequests > 5) {
+            throw new IllegalStateException(
+                    "max.in.flight.requests.per.connection must be between 1 and 5 with idempotence enabled, got "
+                            + maxInFlightRequests);
+        }
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
@@ -39,34 +118,60 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-        return new DefaultKafkaProducerFactory<>(configProps);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlightRequests);
+        return configProps;
     }
 
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public NewTopic productsSnapshotTopic() {
+        return TopicBuilder.name(KafkaTopics.PRODUCTS_SNAPSHOT)
+                .partitions(snapshotPartitions)
+                .compact()
+                .build();
     }
 
     @Bean
-    public ConsumerFactory<String, Object> consumerFactory() {
+    public KafkaTemplate<String, Object> kafkaTemplate(final ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    @Bean
+    public ConsumerFactory<String, Object> consumerFactory(final SchemaRegistryClient schemaRegistryClient,
+            final ObjectProvider<PinnedAvroSchema> productEventSchema) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, KafkaAvroDeserializer.class);
         configProps.put(KafkaAvroSerializerConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl);
-        configProps.put("specific.avro.reader", "true");
+        configProps.put(SPECIFIC_AVRO_READER, "true");
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        // Skip events from aborted producer transactions
+        configProps.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+
+        final PinnedAvroSchema pinnedSchema = productEventSchema.getIfAvailable();
+        if (pinnedSchema == null) {
+            return new DefaultKafkaConsumerFactory<>(configProps);
+        }
+        // Records written with another schema id still resolve through the (caching) registry client
+        final KafkaAvroDeserializer fallback = new KafkaAvroDeserializer(schemaRegistryClient, Map.of(
+                KafkaAvroSerializerConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl,
+                SPECIFIC_AVRO_READER, true));
+        return new DefaultKafkaConsumerFactory<>(configProps, new StringDeserializer(),
+                new PinnedAvroDeserializer(pinnedSchema, new ProductEventCodec(), fallback));
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            final ConsumerFactory<String, Object> consumerFactory) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
+        factory.setConsumerFactory(consumerFactory);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         return factory;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.products.infrastructure.kafka.config;
+
+public final class KafkaTopics {
+
+    public static final String PRODUCTS_CHANGES = "products_changes";
+
+    // Log-compacted: keeps the latest event per product id, so it holds the current catalog
+    public static final String PRODUCTS_SNAPSHOT = "products_snapshot";
+
+    private KafkaTopics() {
+    }
+}
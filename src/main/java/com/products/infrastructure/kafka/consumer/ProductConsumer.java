@@ -1,5 +1,7 @@
 package com.products.infrastructure.kafka.consumer;
 
+import java.util.Optional;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -10,8 +12,10 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import com.products.domain.model.Product;
+import com.products.domain.port.ProductFacetPort;
 import com.products.domain.port.ProductMongoPort;
 import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import com.products.infrastructure.kafka.config.KafkaTopics;
 import com.products.infrastructure.mapper.ProductMapper;
 
 @Component
@@ -19,16 +23,26 @@ public class ProductConsumer {
 
     private static final Logger log = LoggerFactory.getLogger(ProductConsumer.class);
 
+    public static final String LISTENER_ID = "productConsumer";
+
+    public static final String GROUP_ID = "product-group";
+
     private final ProductMongoPort productPersistenceMongoPort;
 
+    private final ProductFacetPort productFacetPort;
+
     private final ProductMapper productMapper;
 
-    public ProductConsumer(ProductMongoPort productPersistenceMongoPort, ProductMapper productMapper) {
+    public ProductConsumer(ProductMongoPort productPersistenceMongoPort, ProductFacetPort productFacetPort,
+            ProductMapper productMapper) {
         this.productPersistenceMongoPort = productPersistenceMongoPort;
+        this.productFacetPort = productFacetPort;
         this.productMapper = productMapper;
     }
 
-    @KafkaListener(topics = "products_changes", groupId = "product-group")
+    // When bootstrapping from the snapshot topic the listener is started by ProductSnapshotBootstrap
+    @KafkaListener(id = LISTENER_ID, idIsGroup = false, topics = KafkaTopics.PRODUCTS_CHANGES, groupId = GROUP_ID,
+            autoStartup = "#{!${products.kafka.snapshot-bootstrap.enabled:false}}")
     public void consume(
             @Payload ProductEvent avroMessage,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
@@ -43,7 +57,11 @@ public class ProductConsumer {
 
             final Product product = productMapper.avroToDomain(avroMessage);
 
-            productPersistenceMongoPort.save(product);
+            // Two writes: if the counters are not updated after the save, a redelivery finds the product already
+            // saved and counts nothing. Counters that drifted this way are repaired by rebuilding them, see
+            // products.facets.rebuild-on-startup
+            final Optional<Product> previous = productPersistenceMongoPort.saveAndGetPrevious(product);
+            productFacetPort.recordChange(previous.orElse(null), product);
 
             log.info("Successfully processed and saved product with ID: {}", product);
 
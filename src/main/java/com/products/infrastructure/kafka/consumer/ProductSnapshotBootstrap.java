@@ -0,0 +1,166 @@
+package com.products.infrastructure.kafka.consumer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import com.products.domain.model.Product;
+import com.products.domain.port.ProductFacetPort;
+import com.products.domain.port.ProductMongoPort;
+import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import com.products.infrastructure.kafka.config.KafkaTopics;
+import com.products.infrastructure.mapper.ProductMapper;
+
+/**
+ * Loads the Mongo projection of a new instance from the compacted products_snapshot topic instead of
+ * replaying the whole products_changes history, then starts the live listener.
+ *
+ * The end offsets of products_changes are taken before the snapshot is read and committed for the listener's
+ * group afterwards, so every change made while bootstrapping is replayed on top of the snapshot. Upserts are
+ * idempotent, so replaying a change already in the snapshot is harmless. A group that already has committed
+ * offsets is not bootstrapped again.
+ */
+@Component
+@ConditionalOnProperty(name = "products.kafka.snapshot-bootstrap.enabled", havingValue = "true")
+public class ProductSnapshotBootstrap {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSnapshotBootstrap.class);
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final ProductMongoPort productMongoPort;
+    private final ProductFacetPort productFacetPort;
+    private final ProductMapper productMapper;
+    private final int readers;
+    private final int batchSize;
+
+    public ProductSnapshotBootstrap(final ConsumerFactory<String, Object> consumerFactory,
+            final KafkaListenerEndpointRegistry listenerRegistry, final ProductMongoPort productMongoPort,
+            final ProductFacetPort productFacetPort, final ProductMapper productMapper,
+            @Value("${products.kafka.snapshot-bootstrap.readers:4}") final int readers,
+            @Value("${products.kafka.snapshot-bootstrap.batch-size:1000}") final int batchSize) {
+        this.consumerFactory = consumerFactory;
+        this.listenerRegistry = listenerRegistry;
+        this.productMongoPort = productMongoPort;
+        this.productFacetPort = productFacetPort;
+        this.productMapper = productMapper;
+        this.readers = readers;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() throws InterruptedException, ExecutionException {
+        try (Consumer<String, Object> changes = consumerFactory.createConsumer(ProductConsumer.GROUP_ID,
+                "snapshot-bootstrap", null)) {
+
+            final List<TopicPartition> changePartitions = partitionsOf(changes, KafkaTopics.PRODUCTS_CHANGES);
+            final boolean hasCommittedOffsets = changes.committed(Set.copyOf(changePartitions)).values().stream()
+                    .anyMatch(Objects::nonNull);
+
+            if (hasCommittedOffsets) {
+                log.info("Consumer group {} already has committed offsets, skipping snapshot bootstrap",
+                        ProductConsumer.GROUP_ID);
+            } else {
+                final Map<TopicPartition, Long> changesEnd = changes.endOffsets(changePartitions);
+                final long started = System.nanoTime();
+
+                final long loaded = loadSnapshot(partitionsOf(changes, KafkaTopics.PRODUCTS_SNAPSHOT));
+                productFacetPort.rebuild();
+
+                changes.commitSync(changesEnd.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, end -> new OffsetAndMetadata(end.getValue()))));
+                log.info("Bootstrapped {} products from {} in {} ms", loaded, KafkaTopics.PRODUCTS_SNAPSHOT,
+                        Duration.ofNanos(System.nanoTime() - started).toMillis());
+            }
+        }
+
+        listenerRegistry.getListenerContainer(ProductConsumer.LISTENER_ID).start();
+    }
+
+    private long loadSnapshot(final List<TopicPartition> partitions)
+            throws InterruptedException, ExecutionException {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(readers, partitions.size())));
+        try {
+            final List<Future<Long>> loads = new ArrayList<>();
+            partitions.forEach(partition -> loads.add(executor.submit(() -> loadPartition(partition))));
+
+            long loaded = 0;
+            for (final Future<Long> load : loads) {
+                loaded += load.get();
+            }
+            return loaded;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long loadPartition(final TopicPartition partition) {
+        try (Consumer<String, Object> consumer = consumerFactory.createConsumer(null, "snapshot-reader",
+                "-" + partition.partition())) {
+
+            consumer.assign(List.of(partition));
+            consumer.seekToBeginning(List.of(partition));
+            final long end = consumer.endOffsets(List.of(partition)).get(partition);
+
+            // Keyed by id so a product repeated in a not yet compacted segment is written once per batch
+            final Map<Long, Product> batch = new LinkedHashMap<>();
+            long loaded = 0;
+            while (consumer.position(partition) < end) {
+                for (final ConsumerRecord<String, Object> record : consumer.poll(POLL_TIMEOUT)) {
+                    if (record.value() instanceof ProductEvent event) {
+                        final Product product = productMapper.avroToDomain(event);
+                        batch.put(product.id(), product);
+                    }
+                    if (batch.size() >= batchSize) {
+                        loaded += flush(batch);
+                    }
+                }
+            }
+            loaded += flush(batch);
+
+            log.debug("Loaded {} products from {}", loaded, partition);
+            return loaded;
+        }
+    }
+
+    private int flush(final Map<Long, Product> batch) {
+        final int size = batch.size();
+        if (size > 0) {
+            productMongoPort.saveAll(List.copyOf(batch.values()));
+            batch.clear();
+        }
+        return size;
+    }
+
+    private static List<TopicPartition> partitionsOf(final Consumer<String, Object> consumer, final String topic) {
+        return consumer.partitionsFor(topic).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+    }
+}
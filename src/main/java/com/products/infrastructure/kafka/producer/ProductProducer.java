@@ -1,20 +1,30 @@
 package com.products.infrastructure.kafka.producer;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 import com.products.domain.model.Product;
 import com.products.domain.port.ProductKafkaPort;
 import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import com.products.infrastructure.kafka.config.KafkaTopics;
 import com.products.infrastructure.mapper.ProductMapper;
 
 @Component
 public class ProductProducer implements ProductKafkaPort {
 
     private static final Logger log = LoggerFactory.getLogger(ProductProducer.class);
-    private static final String TOPIC_NAME = "products_changes";
+
+    private static final long ACK_TIMEOUT_SECONDS = 30;
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final ProductMapper productMapper;
@@ -29,20 +39,61 @@ public class ProductProducer implements ProductKafkaPort {
         final ProductEvent avroMessage = productMapper.domainToAvro(product);
         final String productId = product.id().toString();
         try {
-            kafkaTemplate.send(TOPIC_NAME, productId, avroMessage)
-                    .whenComplete((result, ex) -> {
-                        if (ex == null) {
-                            log.info("Successfully published avro product with ID: {} to topic: {}",
-                                    productId, TOPIC_NAME);
-                        } else {
-                            log.error("Failed to publish avro product with ID: {} to topic: {}",
-                                    productId, TOPIC_NAME, ex);
-                        }
-                    });
+            send(KafkaTopics.PRODUCTS_CHANGES, productId, avroMessage);
+            send(KafkaTopics.PRODUCTS_SNAPSHOT, productId, avroMessage);
 
         } catch (final Exception e) {
             log.error("Failed to create avro product with ID: {}", productId, e);
             throw new RuntimeException("Failed to create avro product", e);
         }
     }
+
+    /**
+     * Publishes the products and waits until the broker has acknowledged every event, in one Kafka transaction
+     * when the producer is transactional. Used by the change stream, which only acknowledges the WAL position
+     * afterwards.
+     */
+    public void publishEventsAndWait(final List<Product> products) {
+        if (kafkaTemplate.isTransactional() && !kafkaTemplate.inTransaction()) {
+            kafkaTemplate.executeInTransaction(template -> {
+                sendAndWait(products);
+                return null;
+            });
+        } else {
+            sendAndWait(products);
+        }
+    }
+
+    private void sendAndWait(final List<Product> products) {
+        final List<CompletableFuture<SendResult<String, Object>>> results = new ArrayList<>(products.size() * 2);
+        for (final Product product : products) {
+            final ProductEvent avroMessage = productMapper.domainToAvro(product);
+            final String productId = product.id().toString();
+            results.add(send(KafkaTopics.PRODUCTS_CHANGES, productId, avroMessage));
+            results.add(send(KafkaTopics.PRODUCTS_SNAPSHOT, productId, avroMessage));
+        }
+        try {
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                    .get(ACK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while publishing avro products", e);
+        } catch (final ExecutionException | TimeoutException e) {
+            throw new RuntimeException("Failed to publish " + products.size() + " avro products", e);
+        }
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(final String topic, final String productId,
+            final ProductEvent avroMessage) {
+        return kafkaTemplate.send(topic, productId, avroMessage)
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        log.info("Successfully published avro product with ID: {} to topic: {}",
+                                productId, topic);
+                    } else {
+                        log.error("Failed to publish avro product with ID: {} to topic: {}",
+                                productId, topic, ex);
+                    }
+                });
+    }
 }
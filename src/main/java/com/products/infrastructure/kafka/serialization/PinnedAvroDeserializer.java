@@ -0,0 +1,67 @@
+package com.products.infrastructure.kafka.serialization;
+
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static com.products.infrastructure.kafka.serialization.PinnedAvroSerializer.HEADER_SIZE;
+import static com.products.infrastructure.kafka.serialization.PinnedAvroSerializer.MAGIC_BYTE;
+
+/**
+ * Reads records written with the pinned schema id with a cached reader. Records written with any other
+ * schema, e.g. by an older producer, go to the registry-backed fallback deserializer.
+ */
+public class PinnedAvroDeserializer implements Deserializer<Object> {
+
+    private final int schemaId;
+    private final DatumReader<Object> reader;
+    private final Deserializer<Object> fallback;
+
+    private final ThreadLocal<BinaryDecoder> decoders = new ThreadLocal<>();
+
+    public PinnedAvroDeserializer(final PinnedAvroSchema schema, final Deserializer<Object> fallback) {
+        this(schema, new SpecificDatumReader<>(schema.schema()), fallback);
+    }
+
+    public PinnedAvroDeserializer(final PinnedAvroSchema schema, final DatumReader<Object> reader,
+            final Deserializer<Object> fallback) {
+        this.schemaId = schema.id();
+        this.reader = reader;
+        this.fallback = fallback;
+        reader.setSchema(schema.schema());
+    }
+
+    @Override
+    public Object deserialize(final String topic, final byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data.length < HEADER_SIZE || buffer.get() != MAGIC_BYTE) {
+            throw new SerializationException("Unknown magic byte on Avro message from topic " + topic);
+        }
+        if (buffer.getInt() != schemaId) {
+            return fallback.deserialize(topic, data);
+        }
+        try {
+            final BinaryDecoder decoder = DecoderFactory.get()
+                    .binaryDecoder(data, HEADER_SIZE, data.length - HEADER_SIZE, decoders.get());
+            decoders.set(decoder);
+            return reader.read(null, decoder);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error deserializing Avro message with schema id " + schemaId, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        decoders.remove();
+        fallback.close();
+    }
+}
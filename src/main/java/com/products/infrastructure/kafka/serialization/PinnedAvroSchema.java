@@ -0,0 +1,26 @@
+package com.products.infrastructure.kafka.serialization;
+
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
+import org.apache.avro.Schema;
+
+import java.io.IOException;
+
+/**
+ * Writer schema whose registry id has been resolved once, so serializing with it never calls the registry.
+ */
+public record PinnedAvroSchema(Schema schema, int id) {
+
+    public static PinnedAvroSchema resolve(final SchemaRegistryClient client, final String subject,
+            final Schema schema, final boolean autoRegister) {
+        final AvroSchema avroSchema = new AvroSchema(schema);
+        try {
+            // register is idempotent: it returns the existing id when the schema is already in the subject
+            final int id = autoRegister ? client.register(subject, avroSchema) : client.getId(subject, avroSchema);
+            return new PinnedAvroSchema(schema, id);
+        } catch (IOException | RestClientException e) {
+            throw new IllegalStateException("Could not resolve schema id for subject " + subject, e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.products.infrastructure.kafka.serialization;
+
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Writes the Confluent wire format (magic byte, schema id, Avro binary) with a pinned schema and a cached
+ * writer, so consumers using KafkaAvroDeserializer read the records as usual.
+ */
+public class PinnedAvroSerializer implements Serializer<Object> {
+
+    static final byte MAGIC_BYTE = 0x0;
+
+    static final int HEADER_SIZE = 1 + Integer.BYTES;
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final int schemaId;
+    private final DatumWriter<Object> writer;
+
+    // send() serializes on the calling thread, so the buffer and encoder are reused per thread
+    private final ThreadLocal<ByteArrayOutputStream> buffers =
+            ThreadLocal.withInitial(() -> new ByteArrayOutputStream(INITIAL_BUFFER_SIZE));
+    private final ThreadLocal<BinaryEncoder> encoders = new ThreadLocal<>();
+
+    public PinnedAvroSerializer(final PinnedAvroSchema schema) {
+        this(schema, new SpecificDatumWriter<>(schema.schema()));
+    }
+
+    public PinnedAvroSerializer(final PinnedAvroSchema schema, final DatumWriter<Object> writer) {
+        this.schemaId = schema.id();
+        this.writer = writer;
+        writer.setSchema(schema.schema());
+    }
+
+    @Override
+    public byte[] serialize(final String topic, final Object data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            final ByteArrayOutputStream out = buffers.get();
+            out.reset();
+            out.write(MAGIC_BYTE);
+            out.write(schemaId >>> 24);
+            out.write(schemaId >>> 16);
+            out.write(schemaId >>> 8);
+            out.write(schemaId);
+            final BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, encoders.get());
+            encoders.set(encoder);
+            writer.write(data, encoder);
+            encoder.flush();
+            return out.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error serializing Avro message with schema id " + schemaId, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        buffers.remove();
+        encoders.remove();
+    }
+}
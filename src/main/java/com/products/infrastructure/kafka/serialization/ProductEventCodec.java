@@ -0,0 +1,65 @@
+package com.products.infrastructure.kafka.serialization;
+
+import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.Decoder;
+import org.apache.avro.io.Encoder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+
+/**
+ * Hand-written Avro binary codec for ProductEvent. The generated class has no custom coders because of the
+ * decimal price, so SpecificDatumWriter/Reader walk the schema and convert the decimal through a generic
+ * conversion on every event; this writes and reads the fields directly in schema order.
+ */
+public class ProductEventCodec implements DatumWriter<Object>, DatumReader<Object> {
+
+    private static final Schema SCHEMA = ProductEvent.getClassSchema();
+
+    private static final int PRICE_SCALE =
+            ((LogicalTypes.Decimal) SCHEMA.getField("price").schema().getLogicalType()).getScale();
+
+    @Override
+    public void setSchema(final Schema schema) {
+        if (!SCHEMA.equals(schema)) {
+            throw new AvroTypeException("ProductEventCodec only supports the ProductEvent schema");
+        }
+    }
+
+    @Override
+    public void write(final Object datum, final Encoder out) throws IOException {
+        final ProductEvent event = (ProductEvent) datum;
+        out.writeLong(event.getId());
+        out.writeString(event.getName());
+        out.writeBytes(event.getPrice().setScale(PRICE_SCALE, RoundingMode.UNNECESSARY).unscaledValue().toByteArray());
+        out.writeString(event.getCategory());
+        out.writeBoolean(event.getActive());
+        out.writeLong(event.getVersion());
+    }
+
+    /**
+     * Always returns a new record: the consumer deserializes a whole poll before handing records to the
+     * listener, so reusing one instance would make every record of the batch alias the last one.
+     */
+    @Override
+    public Object read(final Object reuse, final Decoder in) throws IOException {
+        final long id = in.readLong();
+        final String name = in.readString();
+        final ByteBuffer unscaled = in.readBytes(null);
+        final byte[] bytes = new byte[unscaled.remaining()];
+        unscaled.get(bytes);
+        final String category = in.readString();
+        final boolean active = in.readBoolean();
+        final long version = in.readLong();
+        return new ProductEvent(id, name, new BigDecimal(new BigInteger(bytes), PRICE_SCALE), category, active,
+                version);
+    }
+}
@@ -4,12 +4,18 @@ import com.products.domain.model.PaginatedResult;
 import com.products.domain.model.PaginationQuery;
 import com.products.domain.model.Product;
 import com.products.domain.model.ProductCategory;
+import com.products.domain.model.ProductFacets;
+import com.products.domain.model.ProductWriteStatus;
+import com.products.infrastructure.dto.CategoryFacetDTO;
 import com.products.infrastructure.dto.PageInfo;
+import com.products.infrastructure.dto.ProductFacetsResponseDTO;
 import com.products.infrastructure.dto.ProductPageResponseDTO;
 import com.products.infrastructure.dto.ProductRequestDTO;
 import com.products.infrastructure.dto.ProductResponseDTO;
+import com.products.infrastructure.dto.ProductWriteStatusDTO;
 import com.products.infrastructure.kafka.avro.generated.ProductEvent;
 import com.products.infrastructure.mongo.document.ProductDocument;
+import com.products.infrastructure.mongo.document.ProductProjectionDocument;
 import com.products.infrastructure.postgresql.entity.ProductEntity;
 import org.springframework.stereotype.Component;
 
@@ -18,6 +24,10 @@ import java.util.List;
 @Component
 public class ProductMapper {
 
+        public static final String FULL_VIEW = "full";
+
+        public static final String LEAN_VIEW = "lean";
+
         public ProductResponseDTO domainToResponseDTO(final Product product) {
                 return new ProductResponseDTO(
                                 product.id(),
@@ -34,6 +44,15 @@ public class ProductMapper {
                                 product.category(),
                                 product.active());
                 entity.setId(product.id());
+                entity.setVersion(product.version());
+                return entity;
+        }
+
+        public ProductEntity updateEntity(final ProductEntity entity, final Product product) {
+                entity.setName(product.name());
+                entity.setPrice(product.price());
+                entity.setCategory(product.category());
+                entity.setActive(product.active() != null ? product.active() : true);
                 return entity;
         }
 
@@ -43,7 +62,8 @@ public class ProductMapper {
                         productEntity.getName(),
                         productEntity.getPrice(),
                         productEntity.getCategory(),
-                        productEntity.isActive());
+                        productEntity.isActive(),
+                        productEntity.getVersion());
         }
 
         public Product requestDtoToDomain(final ProductRequestDTO requestDTO) {
@@ -56,12 +76,18 @@ public class ProductMapper {
         }
 
         public ProductPageResponseDTO toPageResponseDTO(final PaginatedResult<Product> paginatedResult) {
+                return toPageResponseDTO(paginatedResult, FULL_VIEW);
+        }
+
+        public ProductPageResponseDTO toPageResponseDTO(final PaginatedResult<Product> paginatedResult,
+                        final String view) {
                 final List<ProductResponseDTO> dtoList = paginatedResult.content()
                                 .stream()
                                 .map(this::domainToResponseDTO)
                                 .toList();
 
-                final PageInfo pageInfo = new PageInfo(
+                // The lean view drops the nested PageInfo, which only repeats the top-level fields
+                final PageInfo pageInfo = LEAN_VIEW.equalsIgnoreCase(view) ? null : new PageInfo(
                                 paginatedResult.size(),
                                 paginatedResult.limit(),
                                 paginatedResult.hasNext(),
@@ -80,6 +106,27 @@ public class ProductMapper {
                                 pageInfo);
         }
 
+        public ProductFacetsResponseDTO toFacetsResponseDTO(final ProductFacets facets) {
+                final List<CategoryFacetDTO> categories = facets.categories()
+                                .stream()
+                                .map(facet -> new CategoryFacetDTO(
+                                                facet.category(),
+                                                facet.activeCount(),
+                                                facet.inactiveCount(),
+                                                facet.totalCount()))
+                                .toList();
+
+                return new ProductFacetsResponseDTO(categories, facets.activeCount(), facets.inactiveCount());
+        }
+
+        public ProductWriteStatusDTO toWriteStatusDTO(final ProductWriteStatus status) {
+                return new ProductWriteStatusDTO(
+                                status.id(),
+                                status.state(),
+                                status.product() == null ? null : domainToResponseDTO(status.product()),
+                                status.error());
+        }
+
         public PaginationQuery toPaginationQuery(
                         final String cursor, final Integer limit, final String sortBy, final String sortDir) {
 
@@ -91,13 +138,14 @@ public class ProductMapper {
         }
 
         public ProductEvent domainToAvro(final Product product) {
-                return ProductEvent.newBuilder()
-                                .setId(product.id())
-                                .setName(product.name())
-                                .setPrice(product.price())
-                                .setActive(product.active())
-                                .setCategory(product.category().name())
-                                .build();
+                // All-args constructor: the builder validates and deep-copies every field on each event
+                return new ProductEvent(
+                                product.id(),
+                                product.name(),
+                                product.price(),
+                                product.category().name(),
+                                product.active(),
+                                product.version() != null ? product.version() : 0L);
         }
 
         public Product avroToDomain(final ProductEvent productEvent) {
@@ -106,7 +154,8 @@ public class ProductMapper {
                                 productEvent.getName(),
                                 productEvent.getPrice(),
                                 ProductCategory.valueOf(productEvent.getCategory()),
-                                productEvent.getActive());
+                                productEvent.getActive(),
+                                productEvent.getVersion());
         }
 
         public ProductDocument domainToDocument(final Product product) {
@@ -115,7 +164,8 @@ public class ProductMapper {
                                 product.name(),
                                 product.price(),
                                 product.category().name(),
-                                product.active());
+                                product.active(),
+                                product.version());
         }
 
         public Product documentToDomain(final ProductDocument document) {
@@ -124,6 +174,16 @@ public class ProductMapper {
                         document.getName(),
                         document.getPrice(),
                         ProductCategory.valueOf(document.getCategory()),
-                        document.getActive());
+                        document.getActive(),
+                        document.getVersion());
+        }
+
+        public Product projectionToDomain(final ProductProjectionDocument projection) {
+                return new Product(
+                        projection.getId(),
+                        projection.getName(),
+                        projection.getPrice(),
+                        projection.getCategory() != null ? ProductCategory.valueOf(projection.getCategory()) : null,
+                        projection.getActive());
         }
 }
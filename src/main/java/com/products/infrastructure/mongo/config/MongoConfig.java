@@ -0,0 +1,77 @@
+package com.products.infrastructure.mongo.config;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import org.bson.types.Decimal128;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientFactory;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+
+@Configuration
+public class MongoConfig {
+
+    // Built like Boot's MongoClient bean, but can be closed for a CRaC checkpoint and reopened on restore
+    @Bean
+    public RestartableMongoClient restartableMongoClient(final MongoClientSettings settings,
+            final ObjectProvider<MongoClientSettingsBuilderCustomizer> builderCustomizers) {
+        final MongoClientFactory clientFactory = new MongoClientFactory(builderCustomizers.orderedStream().toList());
+        return new RestartableMongoClient(() -> clientFactory.createMongoClient(settings));
+    }
+
+    // Closed by the lifecycle of restartableMongoClient
+    @Bean(destroyMethod = "")
+    public MongoClient mongoClient(final RestartableMongoClient restartableMongoClient) {
+        return restartableMongoClient.client();
+    }
+
+    // Spring Data writes BigDecimal as a string by default, which sorts and compares lexicographically
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(List.of(
+                BigDecimalToDecimal128Converter.INSTANCE,
+                Decimal128ToBigDecimalConverter.INSTANCE));
+    }
+
+    @Bean
+    public MongoOperationSettings mongoOperationSettings(
+            @Value("${products.mongo.listing.read-preference:secondaryPreferred}") final String listingReadPreference,
+            @Value("${products.mongo.listing.max-staleness:90s}") final Duration listingMaxStaleness,
+            @Value("${products.mongo.lookup.read-preference:primary}") final String lookupReadPreference,
+            @Value("${products.mongo.projection.write-concern:w1}") final String projectionWriteConcern,
+            @Value("${products.mongo.projection.journal:false}") final boolean projectionJournal) {
+        return MongoOperationSettings.of(listingReadPreference, listingMaxStaleness, lookupReadPreference,
+                projectionWriteConcern, projectionJournal);
+    }
+
+    @WritingConverter
+    enum BigDecimalToDecimal128Converter implements Converter<BigDecimal, Decimal128> {
+        INSTANCE;
+
+        @Override
+        public Decimal128 convert(final BigDecimal source) {
+            return new Decimal128(source);
+        }
+    }
+
+    @ReadingConverter
+    enum Decimal128ToBigDecimalConverter implements Converter<Decimal128, BigDecimal> {
+        INSTANCE;
+
+        @Override
+        public BigDecimal convert(final Decimal128 source) {
+            return source.bigDecimalValue();
+        }
+    }
+}
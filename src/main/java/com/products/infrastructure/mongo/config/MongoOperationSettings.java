@@ -0,0 +1,43 @@
+package com.products.infrastructure.mongo.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+
+/**
+ * Read preference and write concern per kind of Mongo operation, instead of the single setting of the
+ * connection string.
+ *
+ * @param listingReadPreference  listing pages, which tolerate a slightly stale secondary
+ * @param lookupReadPreference   single product lookups, read right after a write by the update path
+ * @param projectionWriteConcern projection upserts; Postgres is the source of truth and Kafka replays lost writes
+ */
+public record MongoOperationSettings(
+        ReadPreference listingReadPreference,
+        ReadPreference lookupReadPreference,
+        WriteConcern projectionWriteConcern) {
+
+    public static MongoOperationSettings of(final String listingReadPreference, final Duration listingMaxStaleness,
+            final String lookupReadPreference, final String projectionWriteConcern, final boolean projectionJournal) {
+        final WriteConcern writeConcern = WriteConcern.valueOf(projectionWriteConcern);
+        if (writeConcern == null) {
+            throw new IllegalArgumentException("Unknown write concern '" + projectionWriteConcern + "'");
+        }
+        return new MongoOperationSettings(
+                readPreference(listingReadPreference, listingMaxStaleness),
+                readPreference(lookupReadPreference, null),
+                writeConcern.withJournal(projectionJournal));
+    }
+
+    // maxStaleness is not allowed with primary, and the server requires at least 90 seconds
+    static ReadPreference readPreference(final String name, final Duration maxStaleness) {
+        final ReadPreference readPreference = ReadPreference.valueOf(name);
+        if (readPreference.equals(ReadPreference.primary()) || maxStaleness == null || maxStaleness.isZero()) {
+            return readPreference;
+        }
+        return ReadPreference.valueOf(name, List.of(), maxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,91 @@
+package com.products.infrastructure.mongo.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import com.mongodb.client.MongoClient;
+
+/**
+ * Owns the client behind the {@code MongoClient} bean. The client is closed when the context stops, e.g. before a
+ * CRaC checkpoint, which cannot include open sockets, and a new one is opened when the context starts again. Beans
+ * get {@link #client()}, a proxy to the current client, so the database factory and templates survive a restore.
+ */
+public class RestartableMongoClient implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestartableMongoClient.class);
+
+    // Below the web server and the Kafka listener containers: stopped after them and started before them
+    static final int PHASE = 0;
+
+    private final Supplier<MongoClient> clientFactory;
+    private final MongoClient proxy;
+    private volatile MongoClient current;
+
+    public RestartableMongoClient(final Supplier<MongoClient> clientFactory) {
+        this.clientFactory = clientFactory;
+        // Opened right away, index creation needs the client while the context is still being refreshed
+        this.current = clientFactory.get();
+        this.proxy = (MongoClient) Proxy.newProxyInstance(MongoClient.class.getClassLoader(),
+                new Class<?>[] {MongoClient.class}, this::invoke);
+    }
+
+    public MongoClient client() {
+        return proxy;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (current == null) {
+            current = clientFactory.get();
+            logger.info("Reopened the MongoDB client");
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (current != null) {
+            current.close();
+            current = null;
+            logger.info("Closed the MongoDB client");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return current != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "RestartableMongoClient[" + current + "]";
+            };
+        }
+        if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+            stop();
+            return null;
+        }
+        final MongoClient client = current;
+        if (client == null) {
+            throw new IllegalStateException("The MongoDB client is closed while the application is stopped");
+        }
+        try {
+            return method.invoke(client, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.products.infrastructure.mongo.document;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Lookups of one product within one hour. Buckets expire a day after their hour, which bounds the collection to
+ * the products read recently.
+ */
+@Document(collection = "product_access_stats")
+public class ProductAccessStatsDocument {
+
+    @Id
+    private final String id;
+    private final Long productId;
+    @Indexed(expireAfter = "25h")
+    private final Instant hour;
+    private final long hits;
+
+    public ProductAccessStatsDocument(String id, Long productId, Instant hour, long hits) {
+        this.id = Objects.requireNonNull(id, "access stats ID cannot be null");
+        this.productId = Objects.requireNonNull(productId, "product ID cannot be null");
+        this.hour = Objects.requireNonNull(hour, "hour cannot be null");
+        this.hits = hits;
+    }
+
+    public static String keyOf(Long productId, Instant hour) {
+        return productId + ":" + hour.getEpochSecond();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Instant getHour() {
+        return hour;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ProductAccessStatsDocument that = (ProductAccessStatsDocument) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("ProductAccessStatsDocument{")
+                .append("id='").append(id).append('\'')
+                .append(", hits=").append(hits)
+                .append('}')
+                .toString();
+    }
+
+}
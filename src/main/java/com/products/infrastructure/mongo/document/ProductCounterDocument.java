@@ -0,0 +1,70 @@
+package com.products.infrastructure.mongo.document;
+
+import java.util.Objects;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document(collection = "product_counters")
+public class ProductCounterDocument {
+
+    @Id
+    private final String id;
+    private final String category;
+    private final Boolean active;
+    private final long count;
+
+    public ProductCounterDocument(String id, String category, Boolean active, long count) {
+        this.id = Objects.requireNonNull(id, "counter ID cannot be null");
+        this.category = Objects.requireNonNull(category, "category cannot be null");
+        this.active = Objects.requireNonNull(active, "active cannot be null");
+        this.count = count;
+    }
+
+    public static String keyOf(String category, boolean active) {
+        return category + ":" + active;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ProductCounterDocument that = (ProductCounterDocument) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("ProductCounterDocument{")
+                .append("id='").append(id).append('\'')
+                .append(", count=").append(count)
+                .append('}')
+                .toString();
+    }
+
+}
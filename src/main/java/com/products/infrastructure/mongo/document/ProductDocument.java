@@ -4,24 +4,39 @@ import java.math.BigDecimal;
 import java.util.Objects;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.PersistenceCreator;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
 
 @Document(collection = "products")
+@CompoundIndex(name = "active_category_price_id", def = "{'active': 1, 'category': 1, 'price': 1, '_id': 1}")
 public class ProductDocument {
 
     @Id
     private final Long id;
     private final String name;
+    // Stored as Decimal128 (not the default string) so price ranges compare numerically
+    @Field(targetType = FieldType.DECIMAL128)
     private final BigDecimal price;
     private final String category;
     private final Boolean active;
+    // Postgres version of the row this document was projected from; null for documents written before versions
+    private final Long version;
 
     public ProductDocument(Long id, String name, BigDecimal price, String category, boolean active) {
+        this(id, name, price, category, active, null);
+    }
+
+    @PersistenceCreator
+    public ProductDocument(Long id, String name, BigDecimal price, String category, boolean active, Long version) {
         this.id = Objects.requireNonNull(id, "product ID cannot be null");
         this.name = Objects.requireNonNull(name, "name cannot be null");
         this.price = Objects.requireNonNull(price, "price cannot be null");
         this.category = Objects.requireNonNull(category, "category cannot be null");
         this.active = active;
+        this.version = version;
     }
 
     public Long getId() {
@@ -44,6 +59,10 @@ public class ProductDocument {
         return active;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -69,6 +88,7 @@ public class ProductDocument {
                 .append(", price=").append(price)
                 .append(", category=").append(category)
                 .append(", active=").append(active)
+                .append(", version=").append(version)
                 .append('}')
                 .toString();
     }
@@ -0,0 +1,63 @@
+package com.products.infrastructure.mongo.document;
+
+import java.math.BigDecimal;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+/**
+ * Read-only view of a {@link ProductDocument} used by projected queries. Fields that were not selected
+ * are left null, which ProductDocument does not allow.
+ */
+public class ProductProjectionDocument {
+
+    @Id
+    private final Long id;
+    private final String name;
+    @Field(targetType = FieldType.DECIMAL128)
+    private final BigDecimal price;
+    private final String category;
+    private final Boolean active;
+
+    public ProductProjectionDocument(Long id, String name, BigDecimal price, String category, Boolean active) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.category = category;
+        this.active = active;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("ProductProjectionDocument{")
+                .append("id='").append(id).append('\'')
+                .append(", name='").append(name).append('\'')
+                .append(", price=").append(price)
+                .append(", category=").append(category)
+                .append(", active=").append(active)
+                .append('}')
+                .toString();
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.products.infrastructure.mongo.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ConvertOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.result.UpdateResult;
+
+/**
+ * One-time rewrite of product prices stored as strings into Decimal128. Only string prices match, so running
+ * it again is a no-op.
+ */
+@Component
+@ConditionalOnProperty(name = "products.mongo.price-migration.enabled", havingValue = "true")
+public class ProductPriceMigration implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProductPriceMigration.class);
+
+    static final String COLLECTION = "products";
+
+    private static final String PRICE = "price";
+
+    private final MongoTemplate mongoTemplate;
+
+    public ProductPriceMigration(final MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        migrate();
+    }
+
+    public long migrate() {
+        final Query stringPrices = Query.query(Criteria.where(PRICE).type(JsonSchemaObject.Type.STRING));
+        // Pipeline update so the conversion happens server side, without reading the documents back
+        final AggregationUpdate toDecimal = AggregationUpdate.update()
+                .set(PRICE).toValue(ConvertOperators.valueOf(PRICE).convertToDecimal());
+
+        final UpdateResult result = mongoTemplate.updateMulti(stringPrices, toDecimal, COLLECTION);
+        logger.info("Migrated {} product prices from string to Decimal128", result.getModifiedCount());
+        return result.getModifiedCount();
+    }
+}
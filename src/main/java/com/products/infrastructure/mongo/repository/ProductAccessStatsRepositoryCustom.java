@@ -0,0 +1,12 @@
+package com.products.infrastructure.mongo.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductAccessStatsRepositoryCustom {
+
+    void incrementHits(Instant hour, Map<Long, Long> hitsByProductId);
+
+    List<Long> findHottestProductIds(Instant since, int limit);
+}
@@ -0,0 +1,68 @@
+package com.products.infrastructure.mongo.repository;
+
+import com.products.infrastructure.mongo.document.ProductAccessStatsDocument;
+import jakarta.validation.constraints.NotNull;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class ProductAccessStatsRepositoryCustomImpl implements ProductAccessStatsRepositoryCustom {
+
+    private static final String ID = "id";
+
+    private static final String PRODUCT_ID = "productId";
+
+    private static final String HOUR = "hour";
+
+    private static final String HITS = "hits";
+
+    @NotNull
+    private final MongoTemplate mongoTemplate;
+
+    public ProductAccessStatsRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void incrementHits(final Instant hour, final Map<Long, Long> hitsByProductId) {
+        if (hitsByProductId.isEmpty()) {
+            return;
+        }
+        final BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED,
+                ProductAccessStatsDocument.class);
+        hitsByProductId.forEach((productId, hits) -> bulkOperations.upsert(
+                Query.query(Criteria.where(ID).is(ProductAccessStatsDocument.keyOf(productId, hour))),
+                new Update()
+                        .setOnInsert(PRODUCT_ID, productId)
+                        .setOnInsert(HOUR, hour)
+                        .inc(HITS, hits)));
+        bulkOperations.execute();
+    }
+
+    @Override
+    public List<Long> findHottestProductIds(final Instant since, final int limit) {
+        final Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where(HOUR).gte(since)),
+                Aggregation.group(PRODUCT_ID).sum(HITS).as(HITS),
+                Aggregation.sort(Sort.Direction.DESC, HITS),
+                Aggregation.limit(limit));
+
+        return mongoTemplate
+                .aggregate(aggregation, ProductAccessStatsDocument.class, Document.class)
+                .getMappedResults()
+                .stream()
+                .map(result -> result.get("_id", Number.class).longValue())
+                .toList();
+    }
+}
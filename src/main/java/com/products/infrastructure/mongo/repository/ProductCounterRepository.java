@@ -0,0 +1,12 @@
+package com.products.infrastructure.mongo.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.products.infrastructure.mongo.document.ProductCounterDocument;
+
+@Repository
+public interface ProductCounterRepository
+        extends MongoRepository<ProductCounterDocument, String>, ProductCounterRepositoryCustom {
+
+}
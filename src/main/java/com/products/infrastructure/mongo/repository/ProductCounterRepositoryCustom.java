@@ -0,0 +1,8 @@
+package com.products.infrastructure.mongo.repository;
+
+public interface ProductCounterRepositoryCustom {
+
+    void increment(String category, boolean active, long delta);
+
+    void rebuildFromProducts();
+}
@@ -0,0 +1,69 @@
+package com.products.infrastructure.mongo.repository;
+
+import com.products.infrastructure.mongo.document.ProductCounterDocument;
+import com.products.infrastructure.mongo.document.ProductDocument;
+import jakarta.validation.constraints.NotNull;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class ProductCounterRepositoryCustomImpl implements ProductCounterRepositoryCustom {
+
+    private static final String ID = "id";
+
+    private static final String CATEGORY = "category";
+
+    private static final String ACTIVE = "active";
+
+    private static final String COUNT = "count";
+
+    @NotNull
+    private final MongoTemplate mongoTemplate;
+
+    public ProductCounterRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void increment(final String category, final boolean active, final long delta) {
+        final Query query = Query.query(Criteria.where(ID).is(ProductCounterDocument.keyOf(category, active)));
+        final Update update = new Update()
+                .setOnInsert(CATEGORY, category)
+                .setOnInsert(ACTIVE, active)
+                .inc(COUNT, delta);
+
+        mongoTemplate.upsert(query, update, ProductCounterDocument.class);
+    }
+
+    /**
+     * Recounts the products collection into a new counters collection that {@code $out} swaps in atomically, so
+     * readers never see missing counters and concurrent {@code $inc} upserts cannot collide with the rebuild.
+     * Changes consumed while the aggregation runs may still be counted against the replaced collection and lost;
+     * run it again once the consumer is idle if the counts must be exact.
+     */
+    @Override
+    public void rebuildFromProducts() {
+        // Keys are built as in ProductCounterDocument.keyOf, and a missing active flag counts as inactive
+        final AggregationOperation group = context -> new Document("$group", new Document("_id",
+                new Document(CATEGORY, "$" + CATEGORY).append(ACTIVE, new Document("$eq", List.of("$" + ACTIVE, true))))
+                .append(COUNT, new Document("$sum", 1L)));
+        final AggregationOperation project = context -> new Document("$project", new Document("_id",
+                new Document("$concat", List.of("$_id." + CATEGORY, ":", new Document("$toString", "$_id." + ACTIVE))))
+                .append(CATEGORY, "$_id." + CATEGORY)
+                .append(ACTIVE, "$_id." + ACTIVE)
+                .append(COUNT, 1));
+
+        final Aggregation aggregation = Aggregation.newAggregation(group, project,
+                Aggregation.out(mongoTemplate.getCollectionName(ProductCounterDocument.class)));
+
+        mongoTemplate.aggregate(aggregation, ProductDocument.class, Document.class);
+    }
+}
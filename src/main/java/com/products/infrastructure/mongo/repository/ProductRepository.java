@@ -5,11 +5,7 @@ import org.springframework.stereotype.Repository;
 
 import com.products.infrastructure.mongo.document.ProductDocument;
 
-import java.util.Optional;
-
 @Repository
 public interface ProductRepository extends MongoRepository<ProductDocument, Long>, ProductRepositoryCustom {
 
-    Optional<ProductDocument> findByIdAndActiveTrue(Long id);
-
 }
@@ -1,10 +1,23 @@
 package com.products.infrastructure.mongo.repository;
 
 import com.products.infrastructure.mongo.document.ProductDocument;
+import com.products.infrastructure.mongo.document.ProductProjectionDocument;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface ProductRepositoryCustom {
 
-    List<ProductDocument> findProductsAfterCursor(Long cursor, Boolean active, String category, String name, int limit);
+    List<ProductDocument> findProductsAfterCursor(ProductSearchCriteria criteria);
+
+    List<ProductProjectionDocument> findProductsAfterCursor(ProductSearchCriteria criteria, Set<String> fields);
+
+    Optional<ProductDocument> lookupById(Long id, boolean activeOnly);
+
+    void upsert(ProductDocument document);
+
+    Optional<ProductDocument> replaceAndGetPrevious(ProductDocument document);
+
+    void upsertAll(List<ProductDocument> documents);
 }
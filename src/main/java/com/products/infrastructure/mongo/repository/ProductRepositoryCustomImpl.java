@@ -1,9 +1,24 @@
 package com.products.infrastructure.mongo.repository;
 
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndReplaceOptions;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.products.infrastructure.deadline.RequestDeadline;
+import com.products.infrastructure.deadline.RequestDeadlineExceededException;
+import com.products.infrastructure.mongo.config.MongoOperationSettings;
 import com.products.infrastructure.mongo.document.ProductDocument;
+import com.products.infrastructure.mongo.document.ProductProjectionDocument;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.constraints.NotNull;
 import org.apache.commons.lang3.StringUtils;
+import org.bson.Document;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Repository;
@@ -11,6 +26,9 @@ import org.springframework.stereotype.Repository;
 import org.springframework.data.mongodb.core.query.Query;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @Repository
 public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
@@ -21,41 +39,192 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
 
     private static final String NAME = "name";
 
+    private static final String PRICE = "price";
+
     private static final String ID = "id";
 
+    private static final String MONGO_ID = "_id";
+
+    static final String OPERATION_TIMER = "products.mongo.operations";
+
     @NotNull
     private final MongoTemplate mongoTemplate;
 
-    public ProductRepositoryCustomImpl(MongoTemplate mongoTemplate){
+    private final MongoOperationSettings settings;
+
+    private final Timer listingTimer;
+
+    private final Timer lookupTimer;
+
+    private final Timer projectionWriteTimer;
+
+    public ProductRepositoryCustomImpl(MongoTemplate mongoTemplate, MongoOperationSettings settings,
+            MeterRegistry meterRegistry) {
         this.mongoTemplate = mongoTemplate;
+        this.settings = settings;
+        // Tagged with the mode so dashboards can compare latencies across read preferences and write concerns
+        this.listingTimer = timer(meterRegistry, "listing", settings.listingReadPreference().toString());
+        this.lookupTimer = timer(meterRegistry, "lookup", settings.lookupReadPreference().toString());
+        this.projectionWriteTimer = timer(meterRegistry, "projection-write",
+                describe(settings.projectionWriteConcern()));
+    }
+
+    @Override
+    public List<ProductDocument> findProductsAfterCursor(final ProductSearchCriteria criteria) {
+
+        final Query query = buildCursorQuery(criteria);
+        return read(listingTimer, query, () -> mongoTemplate.find(query, ProductDocument.class));
+    }
+
+    @Override
+    public List<ProductProjectionDocument> findProductsAfterCursor(final ProductSearchCriteria criteria,
+            final Set<String> fields) {
+
+        final Query query = buildCursorQuery(criteria);
+        fields.forEach(field -> query.fields().include(field));
+
+        return read(listingTimer, query, () -> mongoTemplate.query(ProductDocument.class)
+                .as(ProductProjectionDocument.class)
+                .matching(query)
+                .all());
+    }
+
+    @Override
+    public Optional<ProductDocument> lookupById(final Long id, final boolean activeOnly) {
+        final Query query = Query.query(Criteria.where(ID).is(id));
+        if (activeOnly) {
+            query.addCriteria(Criteria.where(ACTIVE).is(true));
+        }
+        query.withReadPreference(settings.lookupReadPreference());
+        return Optional.ofNullable(read(lookupTimer, query, () -> mongoTemplate.findOne(query,
+                ProductDocument.class)));
+    }
+
+    // The server aborts the query with maxTimeMS once the request deadline passes
+    private static <T> T read(final Timer timer, final Query query, final Supplier<T> read) {
+        RequestDeadline.remaining().ifPresent(query::maxTime);
+        try {
+            return timer.record(read);
+        } catch (final UncategorizedMongoDbException e) {
+            if (e.getCause() instanceof MongoExecutionTimeoutException) {
+                throw new RequestDeadlineExceededException("Request deadline exceeded while reading MongoDB", e);
+            }
+            throw e;
+        }
+    }
+
+    // The projection writes go through the driver collection: MongoTemplate applies no write concern to
+    // findAndReplace and only its global one to bulk writes
+
+    @Override
+    public void upsert(final ProductDocument document) {
+        final Document replacement = toBson(document);
+        projectionWrite(() -> mongoTemplate.execute(ProductDocument.class, collection -> collection
+                .withWriteConcern(settings.projectionWriteConcern())
+                .replaceOne(Filters.eq(MONGO_ID, document.getId()), replacement, new ReplaceOptions().upsert(true))));
+    }
+
+    @Override
+    public Optional<ProductDocument> replaceAndGetPrevious(final ProductDocument document) {
+        final Document replacement = toBson(document);
+        final Document previous = projectionWrite(() -> mongoTemplate.execute(ProductDocument.class,
+                collection -> collection
+                        .withWriteConcern(settings.projectionWriteConcern())
+                        .findOneAndReplace(Filters.eq(MONGO_ID, document.getId()), replacement,
+                                new FindOneAndReplaceOptions().upsert(true))));
+        return Optional.ofNullable(previous)
+                .map(bson -> mongoTemplate.getConverter().read(ProductDocument.class, bson));
     }
 
     @Override
-    public List<ProductDocument> findProductsAfterCursor(
-            final Long cursor, final Boolean active, final String category, final String name, final int limit) {
+    public void upsertAll(final List<ProductDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        final List<ReplaceOneModel<Document>> replacements = documents.stream()
+                .map(document -> new ReplaceOneModel<>(Filters.eq(MONGO_ID, document.getId()), toBson(document),
+                        new ReplaceOptions().upsert(true)))
+                .toList();
+        projectionWrite(() -> mongoTemplate.execute(ProductDocument.class, collection -> collection
+                .withWriteConcern(settings.projectionWriteConcern())
+                .bulkWrite(replacements, new BulkWriteOptions().ordered(false))));
+    }
+
+    private <T> T projectionWrite(final Supplier<T> write) {
+        return projectionWriteTimer.record(write);
+    }
+
+    private Document toBson(final ProductDocument document) {
+        final Document bson = new Document();
+        mongoTemplate.getConverter().write(document, bson);
+        return bson;
+    }
+
+    private static Timer timer(final MeterRegistry meterRegistry, final String operation, final String mode) {
+        return Timer.builder(OPERATION_TIMER)
+                .tag("operation", operation)
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String describe(final WriteConcern writeConcern) {
+        return "w=" + (writeConcern.getWObject() == null ? "default" : writeConcern.getWObject())
+                + ",j=" + writeConcern.getJournal();
+    }
+
+    private Query buildCursorQuery(final ProductSearchCriteria search) {
+
+        final Sort.Direction direction = search.descending() ? Sort.Direction.DESC : Sort.Direction.ASC;
 
         Query query = new Query();
-        query.with(Sort.by(Sort.Direction.ASC, ID));
+        // Equality on active/category, then sort on price and _id: matches the
+        // {active, category, price, _id} index so the range and the keyset are resolved in the index
+        query.with(search.sortByPrice()
+                ? Sort.by(direction, PRICE).and(Sort.by(direction, ID))
+                : Sort.by(Sort.Direction.ASC, ID));
 
         Criteria criteria = new Criteria();
-        if (cursor != null) {
-            criteria.and(ID).gt(cursor);
+        if (search.hasCursor()) {
+            if (search.sortByPrice()) {
+                criteria.orOperator(
+                        after(Criteria.where(PRICE), search.cursorPrice(), search.descending()),
+                        after(Criteria.where(PRICE).is(search.cursorPrice()).and(ID), search.cursorId(),
+                                search.descending()));
+            } else {
+                criteria.and(ID).gt(search.cursorId());
+            }
         }
 
-        if (active != null) {
-            criteria.and(ACTIVE).is(active);
+        if (search.active() != null) {
+            criteria.and(ACTIVE).is(search.active());
         }
 
-        if (StringUtils.isNotBlank(category)) {
-            criteria.and(CATEGORY).is(category);
+        if (StringUtils.isNotBlank(search.category())) {
+            criteria.and(CATEGORY).is(search.category());
+        }
+        if (StringUtils.isNotBlank(search.name())) {
+            criteria.and(NAME).is(search.name());
         }
-        if (StringUtils.isNotBlank(name)) {
-            criteria.and(NAME).is(name);
+
+        if (search.minPrice() != null || search.maxPrice() != null) {
+            final Criteria price = criteria.and(PRICE);
+            if (search.minPrice() != null) {
+                price.gte(search.minPrice());
+            }
+            if (search.maxPrice() != null) {
+                price.lte(search.maxPrice());
+            }
         }
 
         query.addCriteria(criteria)
-                .limit(limit);
+                .limit(search.limit());
+        query.withReadPreference(settings.listingReadPreference());
+
+        return query;
+    }
 
-        return mongoTemplate.find(query, ProductDocument.class);
+    private static Criteria after(final Criteria criteria, final Object value, final boolean descending) {
+        return descending ? criteria.lt(value) : criteria.gt(value);
     }
 }
@@ -0,0 +1,24 @@
+package com.products.infrastructure.mongo.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Keyset query over the products collection. When sorting by price the cursor is the (price, id) pair of
+ * the last product returned, otherwise only the id is used.
+ */
+public record ProductSearchCriteria(
+        Long cursorId,
+        BigDecimal cursorPrice,
+        Boolean active,
+        String category,
+        String name,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        boolean sortByPrice,
+        boolean descending,
+        int limit) {
+
+    public boolean hasCursor() {
+        return cursorId != null && (!sortByPrice || cursorPrice != null);
+    }
+}
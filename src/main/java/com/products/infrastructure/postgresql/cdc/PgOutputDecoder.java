@@ -0,0 +1,132 @@
+package com.products.infrastructure.postgresql.cdc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.products.infrastructure.postgresql.cdc.PgOutputMessage.Operation;
+
+/**
+ * Decodes protocol version 1 of the pgoutput logical decoding plugin. Relation messages are remembered so the
+ * columns of later row messages can be named. One decoder per replication stream, not thread safe.
+ *
+ * @see <a href="https://www.postgresql.org/docs/16/protocol-logicalrep-message-formats.html">Logical Replication
+ *      Message Formats</a>
+ */
+public class PgOutputDecoder {
+
+    private final Map<Integer, Relation> relations = new HashMap<>();
+
+    public PgOutputMessage decode(final ByteBuffer buffer) {
+        final char type = (char) buffer.get();
+        return switch (type) {
+            case 'B' -> new PgOutputMessage.Begin(buffer.getLong(), skipTimestampThenXid(buffer));
+            case 'C' -> decodeCommit(buffer);
+            case 'R' -> decodeRelation(buffer);
+            case 'I' -> decodeInsert(buffer);
+            case 'U' -> decodeUpdate(buffer);
+            case 'D' -> decodeDelete(buffer);
+            default -> new PgOutputMessage.Ignored(type);
+        };
+    }
+
+    private static int skipTimestampThenXid(final ByteBuffer buffer) {
+        buffer.getLong();
+        return buffer.getInt();
+    }
+
+    private static PgOutputMessage decodeCommit(final ByteBuffer buffer) {
+        buffer.get();
+        final long commitLsn = buffer.getLong();
+        final long endLsn = buffer.getLong();
+        return new PgOutputMessage.Commit(commitLsn, endLsn);
+    }
+
+    private PgOutputMessage decodeRelation(final ByteBuffer buffer) {
+        final int relationId = buffer.getInt();
+        final String schema = readString(buffer);
+        final String table = readString(buffer);
+        buffer.get();
+        final int columnCount = buffer.getShort();
+        final String[] columns = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            buffer.get();
+            columns[i] = readString(buffer);
+            buffer.getInt();
+            buffer.getInt();
+        }
+        relations.put(relationId, new Relation(schema, table, List.of(columns)));
+        return new PgOutputMessage.Ignored('R');
+    }
+
+    private PgOutputMessage decodeInsert(final ByteBuffer buffer) {
+        final Relation relation = relation(buffer.getInt());
+        buffer.get();
+        return new PgOutputMessage.RowChange(Operation.INSERT, relation.schema(), relation.table(),
+                readTuple(buffer, relation));
+    }
+
+    private PgOutputMessage decodeUpdate(final ByteBuffer buffer) {
+        final Relation relation = relation(buffer.getInt());
+        final byte marker = buffer.get();
+        if (marker == 'K' || marker == 'O') {
+            // Old key or old row, only sent when the replica identity changed or is FULL
+            readTuple(buffer, relation);
+            buffer.get();
+        }
+        return new PgOutputMessage.RowChange(Operation.UPDATE, relation.schema(), relation.table(),
+                readTuple(buffer, relation));
+    }
+
+    private PgOutputMessage decodeDelete(final ByteBuffer buffer) {
+        final Relation relation = relation(buffer.getInt());
+        buffer.get();
+        return new PgOutputMessage.RowChange(Operation.DELETE, relation.schema(), relation.table(),
+                readTuple(buffer, relation));
+    }
+
+    private Relation relation(final int relationId) {
+        final Relation relation = relations.get(relationId);
+        if (relation == null) {
+            throw new IllegalStateException("Row message for unknown relation " + relationId);
+        }
+        return relation;
+    }
+
+    private static Map<String, String> readTuple(final ByteBuffer buffer, final Relation relation) {
+        final int columnCount = buffer.getShort();
+        final Map<String, String> values = new LinkedHashMap<>(columnCount * 2);
+        for (int i = 0; i < columnCount; i++) {
+            final char kind = (char) buffer.get();
+            switch (kind) {
+                case 'n' -> values.put(relation.columns().get(i), null);
+                // Unchanged TOASTed value: not sent, so the column is left out
+                case 'u' -> {
+                }
+                case 't', 'b' -> {
+                    final byte[] value = new byte[buffer.getInt()];
+                    buffer.get(value);
+                    values.put(relation.columns().get(i), new String(value, StandardCharsets.UTF_8));
+                }
+                default -> throw new IllegalStateException("Unknown tuple column kind '" + kind + "'");
+            }
+        }
+        return values;
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int start = buffer.position();
+        while (buffer.get() != 0) {
+            // scan to the terminating zero
+        }
+        final byte[] value = new byte[buffer.position() - start - 1];
+        buffer.get(start, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private record Relation(String schema, String table, List<String> columns) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.products.infrastructure.postgresql.cdc;
+
+import java.util.Map;
+
+/**
+ * The pgoutput messages the change stream acts on. Row values are in the text format Postgres sends them in.
+ */
+public sealed interface PgOutputMessage {
+
+    record Begin(long finalLsn, int xid) implements PgOutputMessage {
+    }
+
+    record Commit(long commitLsn, long endLsn) implements PgOutputMessage {
+    }
+
+    record RowChange(Operation operation, String schema, String table, Map<String, String> values)
+            implements PgOutputMessage {
+    }
+
+    /** Relation, type, origin and truncate messages, which carry no row to publish. */
+    record Ignored(char type) implements PgOutputMessage {
+    }
+
+    enum Operation {
+        INSERT, UPDATE, DELETE
+    }
+}
@@ -0,0 +1,225 @@
+package com.products.infrastructure.postgresql.cdc;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.infrastructure.kafka.producer.ProductProducer;
+import com.products.infrastructure.postgresql.cdc.PgOutputMessage.Operation;
+
+/**
+ * Publishes product events from the Postgres logical replication stream instead of the request path.
+ *
+ * The products table is read through a pgoutput slot. The rows changed by a transaction are buffered until its
+ * commit message, published, and only then is the commit LSN acknowledged, so a crash replays the transaction
+ * rather than losing it (at-least-once, consumers upsert by id). Deletes are not published: products are only
+ * ever deactivated.
+ */
+@Component
+@ConditionalOnProperty(name = "products.events.mode", havingValue = "cdc")
+public class ProductChangeStream implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductChangeStream.class);
+
+    static final String TABLE = "products";
+
+    private static final long IDLE_WAIT_MILLIS = 10;
+    private static final long RECONNECT_WAIT_MILLIS = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductProducer productProducer;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String slotName;
+    private final String publicationName;
+
+    private final Map<Long, Product> pending = new LinkedHashMap<>();
+    private volatile boolean running;
+    private Thread worker;
+
+    public ProductChangeStream(final JdbcTemplate jdbcTemplate, final ProductProducer productProducer,
+            @Value("${spring.datasource.url}") final String url,
+            @Value("${spring.datasource.username}") final String username,
+            @Value("${spring.datasource.password}") final String password,
+            @Value("${products.events.cdc.slot-name:products_cdc}") final String slotName,
+            @Value("${products.events.cdc.publication:products_publication}") final String publicationName) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productProducer = productProducer;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.slotName = slotName;
+        this.publicationName = publicationName;
+    }
+
+    @Override
+    public void start() {
+        ensurePublicationAndSlot();
+        running = true;
+        worker = Thread.ofPlatform().name("products-cdc").daemon().start(this::streamUntilStopped);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    void ensurePublicationAndSlot() {
+        final boolean publicationExists = exists("SELECT count(*) FROM pg_publication WHERE pubname = ?",
+                publicationName);
+        if (!publicationExists) {
+            jdbcTemplate.execute("CREATE PUBLICATION " + publicationName + " FOR TABLE " + TABLE);
+        } else if (!exists("SELECT count(*) FROM pg_publication_tables WHERE pubname = ? AND tablename = ?",
+                publicationName, TABLE)) {
+            // Dropping the table (ddl-auto create-drop) removes it from the publication
+            jdbcTemplate.execute("ALTER PUBLICATION " + publicationName + " ADD TABLE " + TABLE);
+        }
+
+        if (!exists("SELECT count(*) FROM pg_replication_slots WHERE slot_name = ?", slotName)) {
+            jdbcTemplate.queryForList("SELECT pg_create_logical_replication_slot(?, 'pgoutput')", slotName);
+            log.info("Created logical replication slot {}", slotName);
+        }
+    }
+
+    private boolean exists(final String sql, final Object... args) {
+        final Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count != null && count > 0;
+    }
+
+    private void streamUntilStopped() {
+        while (running) {
+            try (Connection connection = openReplicationConnection()) {
+                stream(connection.unwrap(PGConnection.class));
+            } catch (final SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.error("Product change stream failed, reconnecting in {} ms", RECONNECT_WAIT_MILLIS, e);
+                sleep(RECONNECT_WAIT_MILLIS);
+            }
+        }
+    }
+
+    private Connection openReplicationConnection() throws SQLException {
+        final Properties properties = new Properties();
+        PGProperty.USER.set(properties, username);
+        PGProperty.PASSWORD.set(properties, password);
+        PGProperty.REPLICATION.set(properties, "database");
+        PGProperty.ASSUME_MIN_SERVER_VERSION.set(properties, "10");
+        PGProperty.PREFER_QUERY_MODE.set(properties, "simple");
+        return DriverManager.getConnection(url, properties);
+    }
+
+    private void stream(final PGConnection connection) throws SQLException {
+        // Unacknowledged transactions are sent again on reconnect, so start from a clean buffer
+        final PgOutputDecoder decoder = new PgOutputDecoder();
+        pending.clear();
+
+        try (PGReplicationStream stream = connection.getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", 1)
+                .withSlotOption("publication_names", publicationName)
+                .withStatusInterval(10, TimeUnit.SECONDS)
+                .start()) {
+
+            log.info("Streaming product changes from slot {}", slotName);
+            while (running) {
+                final ByteBuffer message = stream.readPending();
+                if (message == null) {
+                    sleep(IDLE_WAIT_MILLIS);
+                    continue;
+                }
+                final LogSequenceNumber committed = apply(decoder.decode(message));
+                if (committed != null) {
+                    stream.setAppliedLSN(committed);
+                    stream.setFlushedLSN(committed);
+                }
+            }
+        }
+    }
+
+    /**
+     * Buffers row changes and publishes them on commit. Returns the LSN to acknowledge once a transaction has
+     * been published, otherwise null.
+     */
+    LogSequenceNumber apply(final PgOutputMessage message) {
+        switch (message) {
+            case PgOutputMessage.Begin begin -> pending.clear();
+            case PgOutputMessage.RowChange change when isProductUpsert(change) -> {
+                final Product product = toProduct(change.values());
+                // Only the last state of a product changed several times in one transaction is published
+                pending.remove(product.id());
+                pending.put(product.id(), product);
+            }
+            case PgOutputMessage.Commit commit -> {
+                if (!pending.isEmpty()) {
+                    productProducer.publishEventsAndWait(new ArrayList<>(pending.values()));
+                    pending.clear();
+                }
+                return LogSequenceNumber.valueOf(commit.endLsn());
+            }
+            default -> {
+            }
+        }
+        return null;
+    }
+
+    private static boolean isProductUpsert(final PgOutputMessage.RowChange change) {
+        return TABLE.equals(change.table()) && change.operation() != Operation.DELETE;
+    }
+
+    static Product toProduct(final Map<String, String> values) {
+        return new Product(
+                Long.valueOf(values.get("id")),
+                values.get("name"),
+                new BigDecimal(values.get("price")),
+                ProductCategory.valueOf(values.get("category")),
+                "t".equals(values.get("active")),
+                values.get("version") != null ? Long.valueOf(values.get("version")) : null);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
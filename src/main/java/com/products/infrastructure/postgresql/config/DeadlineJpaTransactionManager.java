@@ -0,0 +1,38 @@
+package com.products.infrastructure.postgresql.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import com.products.infrastructure.deadline.RequestDeadline;
+import com.products.infrastructure.deadline.RequestDeadlineExceededException;
+
+/**
+ * Bounds JPA transactions by the {@link RequestDeadline}. Hibernate applies the time left in the transaction as
+ * the JDBC query timeout of every statement, so the driver cancels queries that outlive the request. JDBC
+ * timeouts are whole seconds, so the remaining time is rounded up.
+ */
+public class DeadlineJpaTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected int determineTimeout(final TransactionDefinition definition) {
+        final int timeout = super.determineTimeout(definition);
+        final Optional<Duration> remaining;
+        try {
+            remaining = RequestDeadline.remaining();
+        } catch (final RequestDeadlineExceededException e) {
+            // A TransactionException reaches the caller as is, anything else is wrapped by doBegin
+            throw new TransactionTimedOutException("Request deadline exceeded before the transaction began");
+        }
+        return remaining
+                .map(left -> {
+                    final int seconds = (int) Math.min(Integer.MAX_VALUE, left.plusSeconds(1).minusNanos(1)
+                            .toSeconds());
+                    return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? seconds : Math.min(timeout, seconds);
+                })
+                .orElse(timeout);
+    }
+}
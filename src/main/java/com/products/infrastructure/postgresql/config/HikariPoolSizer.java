@@ -0,0 +1,71 @@
+package com.products.infrastructure.postgresql.config;
+
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Sizes the Hikari pool from the machine and the expected load instead of a fixed number.
+ *
+ * The base size is the usual (cores * 2) + effective spindles. When a target throughput is configured the pool
+ * is raised to the connections that load keeps busy by Little's law (requests/s * seconds per query), so peak
+ * traffic does not queue on the pool. The pool is fixed size (minimum idle = maximum).
+ *
+ * Only the primary pool is sized: Boot's single {@code dataSource}, or {@code primaryDataSource} when the read
+ * replica is enabled. The replica pool keeps the size configured under products.datasource.replica.
+ */
+@Component
+@ConditionalOnProperty(name = "products.datasource.pool.auto-size", havingValue = "true")
+public class HikariPoolSizer implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(HikariPoolSizer.class);
+
+    static final Set<String> PRIMARY_POOLS = Set.of("dataSource", "primaryDataSource");
+
+    private final int cores;
+    private final int effectiveSpindleCount;
+    private final double targetThroughput;
+    private final double queryTimeMillis;
+
+    public HikariPoolSizer(
+            @Value("${products.datasource.pool.effective-spindle-count:1}") final int effectiveSpindleCount,
+            @Value("${products.datasource.pool.target-throughput:0}") final double targetThroughput,
+            @Value("${products.datasource.pool.query-time-ms:5}") final double queryTimeMillis) {
+        this(Runtime.getRuntime().availableProcessors(), effectiveSpindleCount, targetThroughput, queryTimeMillis);
+    }
+
+    HikariPoolSizer(final int cores, final int effectiveSpindleCount, final double targetThroughput,
+            final double queryTimeMillis) {
+        this.cores = cores;
+        this.effectiveSpindleCount = effectiveSpindleCount;
+        this.targetThroughput = targetThroughput;
+        this.queryTimeMillis = queryTimeMillis;
+    }
+
+    // After initialization so the spring.datasource.hikari properties are already bound; the pool itself
+    // only starts on the first connection
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof HikariDataSource dataSource && PRIMARY_POOLS.contains(beanName)) {
+            final int poolSize = poolSize();
+            dataSource.setMaximumPoolSize(poolSize);
+            dataSource.setMinimumIdle(poolSize);
+            logger.info("Sized Hikari pool {} to {} connections ({} cores, target {} req/s at {} ms)",
+                    dataSource.getPoolName(), poolSize, cores, targetThroughput, queryTimeMillis);
+        }
+        return bean;
+    }
+
+    int poolSize() {
+        final int cpuBound = cores * 2 + effectiveSpindleCount;
+        final int loadBound = (int) Math.ceil(targetThroughput * queryTimeMillis / 1000);
+        return Math.max(cpuBound, loadBound);
+    }
+}
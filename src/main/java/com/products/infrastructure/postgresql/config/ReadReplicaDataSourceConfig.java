@@ -0,0 +1,69 @@
+package com.products.infrastructure.postgresql.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.HikariCheckpointRestoreLifecycle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Replaces the single Boot datasource with a primary and a replica pool behind a read/write router. Work in
+ * {@code @Transactional(readOnly = true)} goes to the replica, so the primary only serves writes and the reads
+ * that belong to them. Replica reads can lag the primary by the replication delay.
+ */
+@Configuration
+@ConditionalOnProperty(name = "products.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        final HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("products-primary");
+        return dataSource;
+    }
+
+    // Binds jdbc-url, username, password and any other Hikari setting under products.datasource.replica
+    @Bean
+    @ConfigurationProperties("products.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        final HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("products-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") final DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") final DataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+
+    // Boot's own lifecycle only sees the router, so both pools are suspended and drained for a CRaC checkpoint here
+    @Bean
+    public HikariCheckpointRestoreLifecycle primaryCheckpointRestoreLifecycle(
+            @Qualifier("primaryDataSource") final DataSource primaryDataSource,
+            final ConfigurableApplicationContext context) {
+        return new HikariCheckpointRestoreLifecycle(primaryDataSource, context);
+    }
+
+    @Bean
+    public HikariCheckpointRestoreLifecycle replicaCheckpointRestoreLifecycle(
+            @Qualifier("replicaDataSource") final DataSource replicaDataSource,
+            final ConfigurableApplicationContext context) {
+        return new HikariCheckpointRestoreLifecycle(replicaDataSource, context);
+    }
+}
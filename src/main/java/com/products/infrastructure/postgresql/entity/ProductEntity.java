@@ -27,6 +27,11 @@ public class ProductEntity {
     @Column(name = "active", nullable = false)
     private Boolean active;
 
+    // Also the consistency token returned to clients, see ProductController
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     public ProductEntity() {
         this.active = true;
     }
@@ -78,6 +83,14 @@ public class ProductEntity {
         this.active = active;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -89,12 +102,13 @@ public class ProductEntity {
                 Objects.equals(id, that.id) &&
                 Objects.equals(name, that.name) &&
                 Objects.equals(price, that.price) &&
-                category == that.category;
+                category == that.category &&
+                Objects.equals(version, that.version);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, price, category, active);
+        return Objects.hash(id, name, price, category, active, version);
     }
 
     @Override
@@ -106,6 +120,7 @@ public class ProductEntity {
         sb.append(", price=").append(price);
         sb.append(", category=").append(category);
         sb.append(", active=").append(active);
+        sb.append(", version=").append(version);
         sb.append('}');
         return sb.toString();
     }
@@ -5,25 +5,67 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProductJpaRepository extends JpaRepository<ProductEntity, Long> {
 
+        // Same semantics as the Mongo listing query, so results do not change when reads fail over: exact name
+        String FILTERS = "(:active IS NULL OR active = :active) AND " +
+                        "(:category IS NULL OR category = CAST(:category AS varchar)) AND " +
+                        "(:name IS NULL OR name = CAST(:name AS varchar)) AND " +
+                        "(CAST(:minPrice AS numeric) IS NULL OR price >= CAST(:minPrice AS numeric)) AND " +
+                        "(CAST(:maxPrice AS numeric) IS NULL OR price <= CAST(:maxPrice AS numeric)) ";
+
+        // Read-only queries run on the replica when read replica routing is enabled
+        @Transactional(readOnly = true)
         Optional<ProductEntity> findByIdAndActiveTrue(Long id);
 
+        @Transactional(readOnly = true)
         @Query(value = "SELECT * FROM products WHERE " +
-                        "(:cursor IS NULL OR id > :cursor) AND " +
-                        "(:active IS NULL OR active = :active) AND " +
-                        "(:category IS NULL OR category = CAST(:category AS varchar)) AND " +
-                        "(:name IS NULL OR LOWER(name) LIKE LOWER(CONCAT('%', :name, '%'))) " +
+                        "(:cursor IS NULL OR id > :cursor) AND " + FILTERS +
                         "ORDER BY id ASC LIMIT :limit", nativeQuery = true)
         List<ProductEntity> findProductsAfterCursor(
                         @Param("cursor") Long cursor,
                         @Param("active") Boolean active,
                         @Param("category") String category,
                         @Param("name") String name,
+                        @Param("minPrice") BigDecimal minPrice,
+                        @Param("maxPrice") BigDecimal maxPrice,
+                        @Param("limit") int limit);
+
+        // Row value comparison on (price, id) so the idx_products_active_category_price_id index drives the keyset
+        @Transactional(readOnly = true)
+        @Query(value = "SELECT * FROM products WHERE " +
+                        "(CAST(:cursorPrice AS numeric) IS NULL OR (price, id) > (CAST(:cursorPrice AS numeric), :cursorId)) AND "
+                        + FILTERS +
+                        "ORDER BY price ASC, id ASC LIMIT :limit", nativeQuery = true)
+        List<ProductEntity> findProductsAfterPriceCursor(
+                        @Param("cursorPrice") BigDecimal cursorPrice,
+                        @Param("cursorId") Long cursorId,
+                        @Param("active") Boolean active,
+                        @Param("category") String category,
+                        @Param("name") String name,
+                        @Param("minPrice") BigDecimal minPrice,
+                        @Param("maxPrice") BigDecimal maxPrice,
+                        @Param("limit") int limit);
+
+        @Transactional(readOnly = true)
+        @Query(value = "SELECT * FROM products WHERE " +
+                        "(CAST(:cursorPrice AS numeric) IS NULL OR (price, id) < (CAST(:cursorPrice AS numeric), :cursorId)) AND "
+                        + FILTERS +
+                        "ORDER BY price DESC, id DESC LIMIT :limit", nativeQuery = true)
+        List<ProductEntity> findProductsBeforePriceCursor(
+                        @Param("cursorPrice") BigDecimal cursorPrice,
+                        @Param("cursorId") Long cursorId,
+                        @Param("active") Boolean active,
+                        @Param("category") String category,
+                        @Param("name") String name,
+                        @Param("minPrice") BigDecimal minPrice,
+                        @Param("maxPrice") BigDecimal maxPrice,
                         @Param("limit") int limit);
-}
\ No newline at end of file
+}
@@ -2,15 +2,24 @@ package com.products.infrastructure.rest.controller;
 
 import com.products.application.ProductUseCase;
 import com.products.domain.model.Product;
+import com.products.domain.model.ProductFacets;
+import com.products.domain.model.ProductFields;
 import com.products.domain.model.ProductFilter;
+import com.products.domain.model.ProductWriteStatus;
 import com.products.domain.model.PaginatedResult;
 import com.products.domain.model.PaginationQuery;
+import com.products.infrastructure.dto.ProductFacetsResponseDTO;
 import com.products.infrastructure.dto.ProductPageResponseDTO;
 import com.products.infrastructure.dto.ProductRequestDTO;
 import com.products.infrastructure.dto.ProductResponseDTO;
+import com.products.infrastructure.dto.ProductWriteStatusDTO;
 import com.products.infrastructure.mapper.ProductMapper;
 import com.products.infrastructure.rest.openapi.ProductApi;
 
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.UUID;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -37,26 +46,55 @@ public class ProductController implements ProductApi {
         final Product createdProduct = productUseCase.createProduct(productRequest);
         final ProductResponseDTO response = productMapper.domainToResponseDTO(createdProduct);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(CONSISTENCY_TOKEN_HEADER, String.valueOf(createdProduct.version()))
+                .body(response);
+    }
+
+    @Override
+    public ResponseEntity<ProductWriteStatusDTO> createProductAsync(final ProductRequestDTO productRequestDTO) {
+        final Product productRequest = productMapper.requestDtoToDomain(productRequestDTO);
+        return accepted(productUseCase.submitCreate(productRequest));
+    }
+
+    @Override
+    public ResponseEntity<ProductWriteStatusDTO> getWriteStatus(final UUID writeId) {
+        final ProductWriteStatus status = productUseCase.getWriteStatus(writeId);
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (status.state() == ProductWriteStatus.State.COMPLETED) {
+            response.header(CONSISTENCY_TOKEN_HEADER, String.valueOf(status.product().version()));
+        }
+        return response.body(productMapper.toWriteStatusDTO(status));
     }
 
     @Override
     public ResponseEntity<ProductPageResponseDTO> getAllActiveProducts(
             final String cursor, final Integer limit, final String sortBy, final String sortDir,
-            final String category, final String name, final Boolean active) {
+            final String category, final String name, final Boolean active, final BigDecimal minPrice,
+            final BigDecimal maxPrice, final String view, final String fields) {
 
         final PaginationQuery paginationQuery = productMapper.toPaginationQuery(cursor, limit, sortBy, sortDir);
-        final ProductFilter filter = new ProductFilter(category, name, active);
+        final ProductFilter filter = new ProductFilter(category, name, active, minPrice, maxPrice);
+        final ProductFields productFields = ProductFields.of(fields);
 
-        final PaginatedResult<Product> productResult = productUseCase.getAllActiveProducts(paginationQuery, filter);
-        final ProductPageResponseDTO response = productMapper.toPageResponseDTO(productResult);
+        final PaginatedResult<Product> productResult = productUseCase.getAllActiveProducts(
+                paginationQuery, filter, productFields);
+        final ProductPageResponseDTO response = productMapper.toPageResponseDTO(productResult, view);
 
         return ResponseEntity.ok(response);
     }
 
     @Override
-    public ResponseEntity<ProductResponseDTO> getProductById(final Long id) {
-        final Product product = productUseCase.getActiveProductById(id);
+    public ResponseEntity<ProductFacetsResponseDTO> getProductFacets() {
+        final ProductFacets facets = productUseCase.getFacets();
+        return ResponseEntity.ok(productMapper.toFacetsResponseDTO(facets));
+    }
+
+    @Override
+    public ResponseEntity<ProductResponseDTO> getProductById(final Long id, final Long consistencyToken) {
+        final Product product = consistencyToken != null
+                ? productUseCase.getActiveProductById(id, consistencyToken)
+                : productUseCase.getActiveProductById(id);
         final ProductResponseDTO response = productMapper.domainToResponseDTO(product);
 
         return ResponseEntity.ok(response);
@@ -69,7 +107,16 @@ public class ProductController implements ProductApi {
         final Product updatedProduct = productUseCase.updateProduct(id, productRequest);
         final ProductResponseDTO response = productMapper.domainToResponseDTO(updatedProduct);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .header(CONSISTENCY_TOKEN_HEADER, String.valueOf(updatedProduct.version()))
+                .body(response);
+    }
+
+    @Override
+    public ResponseEntity<ProductWriteStatusDTO> updateProductAsync(
+            final Long id, final ProductRequestDTO productRequestDTO) {
+        final Product productRequest = productMapper.requestDtoToDomain(productRequestDTO);
+        return accepted(productUseCase.submitUpdate(id, productRequest));
     }
 
     @Override
@@ -79,4 +126,9 @@ public class ProductController implements ProductApi {
         return ResponseEntity.noContent().build();
     }
 
-}
\ No newline at end of file
+    private ResponseEntity<ProductWriteStatusDTO> accepted(final ProductWriteStatus status) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/products/writes/" + status.id()))
+                .body(productMapper.toWriteStatusDTO(status));
+    }
+}
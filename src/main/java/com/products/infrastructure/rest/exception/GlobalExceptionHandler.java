@@ -1,13 +1,20 @@
 package com.products.infrastructure.rest.exception;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.products.domain.exception.InvalidProductWriteException;
 import com.products.domain.exception.ProductNotFoundException;
+import com.products.domain.exception.ProductWriteNotFoundException;
+import com.products.domain.exception.ProductWriteQueueFullException;
+import com.products.infrastructure.deadline.RequestDeadlineExceededException;
 import com.products.infrastructure.rest.exception.dto.ErrorResponse;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -30,6 +37,31 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(InvalidProductWriteException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidProductWriteException(InvalidProductWriteException ex) {
+        Map<String, List<String>> errors = Map.of("product", List.of(ex.getMessage()));
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST.value(), errors);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(ProductWriteNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleProductWriteNotFoundException(ProductWriteNotFoundException ex) {
+        Map<String, List<String>> errors = Map.of("write", List.of(ex.getMessage()));
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND.value(), errors);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    // The asynchronous write queue is full, the client should retry shortly or fall back to a synchronous write
+    @ExceptionHandler(ProductWriteQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleProductWriteQueueFullException(ProductWriteQueueFullException ex) {
+        Map<String, List<String>> errors = Map.of("write", List.of(ex.getMessage()));
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value(),
+                errors);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
 
@@ -116,6 +148,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(errorResponse);
     }
 
+    // The request deadline passed: Mongo aborted with maxTimeMS, the JDBC driver cancelled the statement or the
+    // transaction had no time left
+    @ExceptionHandler({RequestDeadlineExceededException.class, QueryTimeoutException.class,
+            TransactionTimedOutException.class})
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(Exception ex) {
+        Map<String, List<String>> errors = Map.of("general", List.of("Request deadline exceeded"));
+        ErrorResponse errorResponse = new ErrorResponse("The request did not complete within its deadline",
+                HttpStatus.GATEWAY_TIMEOUT.value(), errors);
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(errorResponse);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         Map<String, List<String>> errors = Map.of("general", 
@@ -0,0 +1,121 @@
+package com.products.infrastructure.rest.filter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.concurrency.limits.Limiter;
+import com.netflix.concurrency.limits.limiter.AbstractLimiter;
+import com.products.infrastructure.rest.exception.dto.ErrorResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sheds load before it queues on the Hikari pool or MongoDB. Reads and writes each have an adaptive limit of
+ * requests in flight. A request over its limit is answered right away with 503 and Retry-After, without reaching
+ * the controller. Completed requests feed their latency back into the limit, and 500, 503 and 504 responses count
+ * as drops, which make the limit back off.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String READS = "reads";
+
+    static final String WRITES = "writes";
+
+    private final Budget reads;
+    private final Budget writes;
+    private final String retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(final AbstractLimiter<Void> readLimiter, final AbstractLimiter<Void> writeLimiter,
+            final Duration retryAfter, final ObjectMapper objectMapper, final MeterRegistry meterRegistry) {
+        this.reads = new Budget(READS, readLimiter, meterRegistry);
+        this.writes = new Budget(WRITES, writeLimiter, meterRegistry);
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+
+        final Budget budget = isRead(request) ? reads : writes;
+        final Optional<Limiter.Listener> listener = budget.limiter().acquire(null);
+        if (listener.isEmpty()) {
+            budget.rejected().increment();
+            reject(response, budget);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } catch (final IOException | ServletException | RuntimeException e) {
+            listener.get().onIgnore();
+            throw e;
+        }
+        if (isOverloaded(response.getStatus())) {
+            listener.get().onDropped();
+        } else {
+            listener.get().onSuccess();
+        }
+    }
+
+    private void reject(final HttpServletResponse response, final Budget budget) throws IOException {
+        final ErrorResponse errorResponse = new ErrorResponse("Too many concurrent requests, retry later",
+                HttpStatus.SERVICE_UNAVAILABLE.value(), Map.of("general",
+                        List.of("Limit of " + budget.limiter().getLimit() + " concurrent " + budget.name()
+                                + " reached")));
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static boolean isRead(final HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private static boolean isOverloaded(final int status) {
+        return status == HttpStatus.INTERNAL_SERVER_ERROR.value()
+                || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+    private record Budget(String name, AbstractLimiter<Void> limiter, Counter rejected) {
+
+        Budget(final String name, final AbstractLimiter<Void> limiter, final MeterRegistry meterRegistry) {
+            this(name, limiter, Counter.builder("products.concurrency.rejected")
+                    .description("Requests rejected with 503 because their budget was exhausted")
+                    .tag("budget", name)
+                    .register(meterRegistry));
+            Gauge.builder("products.concurrency.limit", limiter, AbstractLimiter::getLimit)
+                    .description("Current adaptive limit of requests in flight")
+                    .tag("budget", name)
+                    .register(meterRegistry);
+            Gauge.builder("products.concurrency.inflight", limiter, AbstractLimiter::getInflight)
+                    .description("Requests in flight")
+                    .tag("budget", name)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.products.infrastructure.rest.filter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.products.infrastructure.deadline.RequestDeadline;
+import com.products.infrastructure.rest.openapi.ProductApi;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Starts the {@link RequestDeadline} of each API request. Clients state how long they will wait in
+ * {@value ProductApi#REQUEST_TIMEOUT_HEADER}, in milliseconds, capped by the configured maximum. Requests
+ * without a valid header get the default timeout.
+ */
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    public RequestDeadlineFilter(final Duration defaultTimeout, final Duration maxTimeout) {
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+
+        RequestDeadline.start(timeoutOf(request.getHeader(ProductApi.REQUEST_TIMEOUT_HEADER)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    Duration timeoutOf(final String header) {
+        if (header == null) {
+            return defaultTimeout;
+        }
+        try {
+            final long millis = Long.parseLong(header.trim());
+            if (millis <= 0) {
+                return defaultTimeout;
+            }
+            final Duration requested = Duration.ofMillis(millis);
+            return requested.compareTo(maxTimeout) > 0 ? maxTimeout : requested;
+        } catch (final NumberFormatException e) {
+            return defaultTimeout;
+        }
+    }
+}
@@ -9,13 +9,23 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.products.infrastructure.dto.ProductFacetsResponseDTO;
 import com.products.infrastructure.dto.ProductPageResponseDTO;
 import com.products.infrastructure.dto.ProductRequestDTO;
 import com.products.infrastructure.dto.ProductResponseDTO;
+import com.products.infrastructure.dto.ProductWriteStatusDTO;
 
 @Tag(name = "Products", description = "Product management API")
 public interface ProductApi {
 
+        String CONSISTENCY_TOKEN_HEADER = "X-Consistency-Token";
+
+        // How long the client waits for the response, in milliseconds. Database work stops once it has passed
+        String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
         @PostMapping("/products")
         @Operation(summary = "Create a new product", description = "Creates a new product with the provided information")
         @ApiResponses(value = {
@@ -26,6 +36,28 @@ public interface ProductApi {
         ResponseEntity<ProductResponseDTO> createProduct(
                         @Valid @RequestBody ProductRequestDTO request);
 
+        @PostMapping("/products/async")
+        @Operation(summary = "Create a new product asynchronously", description = "Queues the product for a batched write and returns a write status resource in the Location header")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "202", description = "Write accepted"),
+                        @ApiResponse(responseCode = "400", description = "Invalid input data"),
+                        @ApiResponse(responseCode = "503", description = "Write queue is full"),
+                        @ApiResponse(responseCode = "500", description = "Internal server error")
+        })
+        ResponseEntity<ProductWriteStatusDTO> createProductAsync(
+                        @Valid @RequestBody ProductRequestDTO request);
+
+        @GetMapping("/products/writes/{writeId}")
+        @Operation(summary = "Get write status", description = "Retrieves the status of an asynchronous write. "
+                        + "Once completed, the X-Consistency-Token header can be passed to a read")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Write status found"),
+                        @ApiResponse(responseCode = "404", description = "Write not found or expired"),
+                        @ApiResponse(responseCode = "500", description = "Internal server error")
+        })
+        ResponseEntity<ProductWriteStatusDTO> getWriteStatus(
+                        @Parameter(description = "Write ID") @PathVariable UUID writeId);
+
         @GetMapping("/products")
         @Operation(summary = "Get all active products", description = "Retrieves all active products with cursor-based pagination for better performance and consistency")
         @ApiResponses(value = {
@@ -40,7 +72,7 @@ public interface ProductApi {
 
                         @Parameter(description = "Number of items per page (1-100, default: 20)") @RequestParam(value = "limit", required = false, defaultValue = "20") Integer limit,
 
-                        @Parameter(description = "Sort field (default: id)") @RequestParam(value = "sortBy", required = false, defaultValue = "id") String sortBy,
+                        @Parameter(description = "Sort field: id or price (default: id)") @RequestParam(value = "sortBy", required = false, defaultValue = "id") String sortBy,
 
                         @Parameter(description = "Sort direction: asc or desc (default: asc)") @RequestParam(value = "sortDir", required = false, defaultValue = "asc") String sortDir,
 
@@ -48,17 +80,36 @@ public interface ProductApi {
 
                         @Parameter(description = "Filter by name (optional)") @RequestParam(value = "name", required = false) String name,
 
-                        @Parameter(description = "Filter by active status (optional, defaults to true)") @RequestParam(value = "active", required = false) Boolean active);
+                        @Parameter(description = "Filter by active status (optional, defaults to true)") @RequestParam(value = "active", required = false) Boolean active,
+
+                        @Parameter(description = "Minimum price, inclusive (optional)") @RequestParam(value = "minPrice", required = false) BigDecimal minPrice,
+
+                        @Parameter(description = "Maximum price, inclusive (optional)") @RequestParam(value = "maxPrice", required = false) BigDecimal maxPrice,
+
+                        @Parameter(description = "Response view: full or lean (lean omits the nested pageInfo, default: full)") @RequestParam(value = "view", required = false, defaultValue = "full") String view,
+
+                        @Parameter(description = "Comma-separated product fields to return, e.g. id,name,price (optional, default: all fields)") @RequestParam(value = "fields", required = false) String fields);
+
+        @GetMapping("/products/facets")
+        @Operation(summary = "Get product counts", description = "Retrieves product counts per category and active flag, maintained incrementally from product events")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Counts retrieved successfully"),
+                        @ApiResponse(responseCode = "500", description = "Internal server error")
+        })
+        ResponseEntity<ProductFacetsResponseDTO> getProductFacets();
 
         @GetMapping("/products/{id}")
-        @Operation(summary = "Get product by ID", description = "Retrieves an active product by its ID")
+        @Operation(summary = "Get product by ID", description = "Retrieves an active product by its ID. "
+                        + "Pass the X-Consistency-Token returned by a create or update to read at least that write")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Product found"),
                         @ApiResponse(responseCode = "404", description = "Product not found"),
                         @ApiResponse(responseCode = "500", description = "Internal server error")
         })
         ResponseEntity<ProductResponseDTO> getProductById(
-                        @Parameter(description = "Product ID") @PathVariable Long id);
+                        @Parameter(description = "Product ID") @PathVariable Long id,
+
+                        @Parameter(description = "Consistency token returned by a create or update (optional)") @RequestHeader(value = CONSISTENCY_TOKEN_HEADER, required = false) Long consistencyToken);
 
         @PutMapping("/products/{id}")
         @Operation(summary = "Update product", description = "Updates an existing product with the provided information")
@@ -72,6 +123,18 @@ public interface ProductApi {
                         @Parameter(description = "Product ID") @PathVariable Long id,
                         @Valid @RequestBody ProductRequestDTO request);
 
+        @PutMapping("/products/{id}/async")
+        @Operation(summary = "Update product asynchronously", description = "Queues the update for a batched write and returns a write status resource in the Location header")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "202", description = "Write accepted"),
+                        @ApiResponse(responseCode = "400", description = "Invalid input data"),
+                        @ApiResponse(responseCode = "503", description = "Write queue is full"),
+                        @ApiResponse(responseCode = "500", description = "Internal server error")
+        })
+        ResponseEntity<ProductWriteStatusDTO> updateProductAsync(
+                        @Parameter(description = "Product ID") @PathVariable Long id,
+                        @Valid @RequestBody ProductRequestDTO request);
+
         @DeleteMapping("/products/{id}")
         @Operation(summary = "Deactivate product", description = "Deactivates a product (soft delete)")
         @ApiResponses(value = {
@@ -0,0 +1,82 @@
+package com.products.infrastructure.seed;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+
+/**
+ * Deterministic stream of realistic products: the same seed always yields the same sequence. Categories are
+ * skewed like a general store catalog, names combine a brand, an item and a variant, and prices are
+ * log-uniform within the category's range so cheap items are more common than expensive ones.
+ */
+class CatalogGenerator {
+
+    private record CategoryProfile(ProductCategory category, int weight, String[] brands, String[] items,
+            String[] variants, double minPrice, double maxPrice) {
+    }
+
+    private static final CategoryProfile[] PROFILES = {
+        new CategoryProfile(ProductCategory.ELECTRONICS, 45,
+                new String[] {"Voltix", "Nordlight", "Kestrel", "Zenith", "Acorn", "Lumen", "Orbit", "Quanta"},
+                new String[] {"Laptop", "Headphones", "Monitor", "Keyboard", "Mouse", "Smartphone", "Tablet",
+                    "Speaker", "Webcam", "Router", "Smartwatch", "Charger"},
+                new String[] {"Pro", "Max", "Mini", "Air", "Ultra", "Lite", "S", "X", "Plus", "Go"},
+                9.99, 2999.99),
+        new CategoryProfile(ProductCategory.CLOTHING, 35,
+                new String[] {"Fjordline", "Urbanist", "Trailhead", "Maison Vert", "Northpeak", "Coastal"},
+                new String[] {"Jacket", "T-Shirt", "Jeans", "Sneakers", "Hoodie", "Dress", "Scarf", "Boots",
+                    "Running Shoes", "Sweater"},
+                new String[] {"Classic", "Slim Fit", "Waterproof", "Organic Cotton", "Merino", "Relaxed",
+                    "Lightweight", "Insulated"},
+                4.99, 399.99),
+        new CategoryProfile(ProductCategory.BOOKS, 20,
+                new String[] {"Java", "Kubernetes", "Gardening", "World History", "Cooking", "Statistics",
+                    "Philosophy", "Design", "Photography", "Databases"},
+                new String[] {"Handbook", "Primer", "Cookbook", "Guide", "Essentials", "in Practice",
+                    "for Beginners", "Deep Dive"},
+                new String[] {"1st Edition", "2nd Edition", "3rd Edition", "Paperback", "Hardcover",
+                    "Illustrated"},
+                4.99, 119.99)
+    };
+
+    private static final int TOTAL_WEIGHT = 100;
+
+    // Share of generated products that are active, the rest are soft deleted
+    private static final int ACTIVE_PERCENT = 95;
+
+    private final SplittableRandom random;
+
+    CatalogGenerator(final long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    Product next(final long id) {
+        final CategoryProfile profile = pickProfile(random.nextInt(TOTAL_WEIGHT));
+        final String name = profile.brands()[random.nextInt(profile.brands().length)] + " "
+                + profile.items()[random.nextInt(profile.items().length)] + " "
+                + profile.variants()[random.nextInt(profile.variants().length)] + " "
+                + (100 + random.nextInt(900));
+        return new Product(id, name, price(profile), profile.category(), random.nextInt(100) < ACTIVE_PERCENT, 0L);
+    }
+
+    private static CategoryProfile pickProfile(final int pick) {
+        int cumulative = 0;
+        for (final CategoryProfile profile : PROFILES) {
+            cumulative += profile.weight();
+            if (pick < cumulative) {
+                return profile;
+            }
+        }
+        return PROFILES[PROFILES.length - 1];
+    }
+
+    // Whole amounts ending in .99, like most shelf prices
+    private BigDecimal price(final CategoryProfile profile) {
+        final double logMin = Math.log(profile.minPrice());
+        final double logMax = Math.log(profile.maxPrice());
+        final double value = Math.exp(logMin + random.nextDouble() * (logMax - logMin));
+        return BigDecimal.valueOf(Math.max(0, (long) Math.floor(value)) * 100 + 99, 2);
+    }
+}
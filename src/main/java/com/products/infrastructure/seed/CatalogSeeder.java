@@ -0,0 +1,184 @@
+package com.products.infrastructure.seed;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.products.domain.model.Product;
+import com.products.domain.port.ProductFacetPort;
+import com.products.infrastructure.mapper.ProductMapper;
+import com.products.infrastructure.mongo.document.ProductDocument;
+
+/**
+ * Streams a synthetic catalog into Postgres with one COPY per batch and into the Mongo projection with unordered
+ * bulk inserts, bypassing the API and Kafka. Ids continue after the highest existing one, so the same seed gives
+ * the same products on an empty catalog. A batch is inserted into Mongo only once its COPY has committed, while
+ * Postgres receives the next batch, so a failed run never leaves projection documents without rows.
+ */
+@Component
+@ConditionalOnProperty(name = "products.seed.enabled", havingValue = "true")
+public class CatalogSeeder implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSeeder.class);
+
+    static final String COPY_SQL =
+            "COPY products (id, name, price, category, active, version) FROM STDIN WITH (FORMAT csv)";
+
+    static final String NEXT_ID_SQL = "SELECT COALESCE(MAX(id), 0) + 1 FROM products";
+
+    // COPY with explicit ids does not advance the identity sequence, later inserts would collide without this
+    static final String RESET_SEQUENCE_SQL =
+            "SELECT setval(pg_get_serial_sequence('products', 'id'), (SELECT MAX(id) FROM products))";
+
+    private static final int PROGRESS_INTERVAL = 100;
+
+    private final DataSource dataSource;
+    private final MongoTemplate mongoTemplate;
+    private final ProductMapper productMapper;
+    private final ProductFacetPort productFacetPort;
+
+    @Value("${products.seed.count:1000000}")
+    private long count;
+
+    @Value("${products.seed.seed:42}")
+    private long seed;
+
+    @Value("${products.seed.batch-size:10000}")
+    private int batchSize;
+
+    @Value("${products.seed.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    public CatalogSeeder(final DataSource dataSource, final MongoTemplate mongoTemplate,
+            final ProductMapper productMapper, final ProductFacetPort productFacetPort) {
+        this.dataSource = dataSource;
+        this.mongoTemplate = mongoTemplate;
+        this.productMapper = productMapper;
+        this.productFacetPort = productFacetPort;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) throws SQLException {
+        seed(count, seed, batchSize);
+    }
+
+    // Read by ProductApplication, which closes the context once the runners are done
+    public boolean exitWhenDone() {
+        return exitWhenDone;
+    }
+
+    public long seed(final long count, final long seed, final int batchSize) throws SQLException {
+        final long start = System.nanoTime();
+        final CatalogGenerator generator = new CatalogGenerator(seed);
+
+        try (Connection connection = dataSource.getConnection();
+                ExecutorService mongoWriter = Executors.newSingleThreadExecutor()) {
+            final long firstId = nextId(connection);
+            logger.info("Seeding {} products from id {} with seed {}", count, firstId, seed);
+
+            // Each COPY commits on its own, before its batch is handed to Mongo
+            connection.setAutoCommit(true);
+            final CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            CompletableFuture<Void> previousBatch = CompletableFuture.completedFuture(null);
+            final StringBuilder rows = new StringBuilder(batchSize * 64);
+            List<Product> batch = new ArrayList<>(batchSize);
+            long batches = 0;
+
+            for (long i = 0; i < count; i++) {
+                final Product product = generator.next(firstId + i);
+                batch.add(product);
+                appendCsvRow(rows, product);
+
+                if (batch.size() == batchSize || i == count - 1) {
+                    copy(copyManager, rows);
+                    resetSequence(connection);
+                    rows.setLength(0);
+
+                    previousBatch.join();
+                    final List<Product> mongoBatch = batch;
+                    previousBatch = CompletableFuture.runAsync(() -> insertIntoMongo(mongoBatch), mongoWriter);
+                    batch = new ArrayList<>(batchSize);
+
+                    if (++batches % PROGRESS_INTERVAL == 0) {
+                        logger.info("Seeded {} of {} products", i + 1, count);
+                    }
+                }
+            }
+            previousBatch.join();
+        }
+
+        productFacetPort.rebuild();
+        logger.info("Seeded {} products in {} s", count, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+        return count;
+    }
+
+    private static void copy(final CopyManager copyManager, final StringBuilder rows) throws SQLException {
+        final byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+        final CopyIn copyIn = copyManager.copyIn(COPY_SQL);
+        try {
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    // Kept after every batch, so the rows committed by a failed run do not break later inserts either
+    private static void resetSequence(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(RESET_SEQUENCE_SQL);
+        }
+    }
+
+    private void insertIntoMongo(final List<Product> products) {
+        final List<ProductDocument> documents = products.stream()
+                .map(productMapper::domainToDocument)
+                .toList();
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.class)
+                .insert(documents)
+                .execute();
+    }
+
+    private static long nextId(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(NEXT_ID_SQL)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    static void appendCsvRow(final StringBuilder rows, final Product product) {
+        rows.append(product.id()).append(',')
+                .append('"').append(product.name().replace("\"", "\"\"")).append('"').append(',')
+                .append(product.price().toPlainString()).append(',')
+                .append(product.category().name()).append(',')
+                .append(Boolean.TRUE.equals(product.active()) ? 't' : 'f').append(',')
+                .append(product.version())
+                .append('\n');
+    }
+}
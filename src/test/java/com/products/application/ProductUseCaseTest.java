@@ -4,6 +4,7 @@ import com.products.domain.model.PaginatedResult;
 import com.products.domain.model.PaginationQuery;
 import com.products.domain.model.Product;
 import com.products.domain.model.ProductCategory;
+import com.products.domain.model.ProductFields;
 import com.products.domain.model.ProductFilter;
 import com.products.domain.service.ProductService;
 
@@ -73,17 +74,17 @@ class ProductUseCaseTest {
         PaginatedResult<Product> expectedResult = new PaginatedResult<>(
                 products, "2", null, false, false, 2, 10);
 
-        when(productService.getAllActiveProducts(paginationQuery, filter))
+        when(productService.getAllActiveProducts(paginationQuery, filter, ProductFields.ALL))
                 .thenReturn(expectedResult);
 
-        PaginatedResult<Product> result = productUseCase.getAllActiveProducts(paginationQuery, filter);
+        PaginatedResult<Product> result = productUseCase.getAllActiveProducts(paginationQuery, filter, ProductFields.ALL);
 
         assertThat(result.content()).hasSize(2);
         assertThat(result.size()).isEqualTo(2);
         assertThat(result.limit()).isEqualTo(10);
         assertThat(result.hasNext()).isFalse();
         assertThat(result.hasPrevious()).isFalse();
-        verify(productService).getAllActiveProducts(paginationQuery, filter);
+        verify(productService).getAllActiveProducts(paginationQuery, filter, ProductFields.ALL);
     }
 
     @Test
@@ -95,16 +96,16 @@ class ProductUseCaseTest {
         PaginatedResult<Product> expectedResult = new PaginatedResult<>(
                 Collections.emptyList(), null, null, false, false, 0, 10);
 
-        when(productService.getAllActiveProducts(paginationQuery, filter))
+        when(productService.getAllActiveProducts(paginationQuery, filter, ProductFields.ALL))
                 .thenReturn(expectedResult);
 
-        PaginatedResult<Product> result = productUseCase.getAllActiveProducts(paginationQuery, filter);
+        PaginatedResult<Product> result = productUseCase.getAllActiveProducts(paginationQuery, filter, ProductFields.ALL);
 
         assertThat(result.content()).isEmpty();
         assertThat(result.size()).isEqualTo(0);
         assertThat(result.hasNext()).isFalse();
         assertThat(result.hasPrevious()).isFalse();
-        verify(productService).getAllActiveProducts(paginationQuery, filter);
+        verify(productService).getAllActiveProducts(paginationQuery, filter, ProductFields.ALL);
     }
 
     @Test
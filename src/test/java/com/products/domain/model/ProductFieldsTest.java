@@ -0,0 +1,37 @@
+package com.products.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductFieldsTest {
+
+    @Test
+    void of_ShouldReturnAllFields_WhenFieldsAreMissing() {
+        assertThat(ProductFields.of(null)).isEqualTo(ProductFields.ALL);
+        assertThat(ProductFields.of("  ")).isEqualTo(ProductFields.ALL);
+        assertThat(ProductFields.ALL.isAll()).isTrue();
+    }
+
+    @Test
+    void of_ShouldAlwaysIncludeId() {
+        ProductFields fields = ProductFields.of("name, price");
+
+        assertThat(fields.isAll()).isFalse();
+        assertThat(fields.names()).containsExactlyInAnyOrder("id", "name", "price");
+        assertThat(fields.includes("category")).isFalse();
+    }
+
+    @Test
+    void of_ShouldReturnAllFields_WhenEveryFieldIsSelected() {
+        assertThat(ProductFields.of("name,price,category,active").isAll()).isTrue();
+    }
+
+    @Test
+    void of_ShouldRejectUnknownFields() {
+        assertThatThrownBy(() -> ProductFields.of("name,description"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("description");
+    }
+}
@@ -0,0 +1,42 @@
+package com.products.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductFilterTest {
+
+    @Test
+    void constructor_ShouldDefaultToActiveWithoutPriceRange() {
+        ProductFilter filter = new ProductFilter(null, null, null);
+
+        assertThat(filter.active()).isTrue();
+        assertThat(filter.minPrice()).isNull();
+        assertThat(filter.maxPrice()).isNull();
+    }
+
+    @Test
+    void constructor_ShouldAcceptSinglePriceRange() {
+        ProductFilter filter = new ProductFilter(null, null, true, BigDecimal.TEN, BigDecimal.TEN);
+
+        assertThat(filter.minPrice()).isEqualByComparingTo("10");
+        assertThat(filter.maxPrice()).isEqualByComparingTo("10");
+    }
+
+    @Test
+    void constructor_ShouldRejectInvertedPriceRange() {
+        assertThatThrownBy(() -> new ProductFilter(null, null, true, BigDecimal.valueOf(200), BigDecimal.TEN))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("minPrice cannot be greater than maxPrice.");
+    }
+
+    @Test
+    void constructor_ShouldRejectNegativeMinPrice() {
+        assertThatThrownBy(() -> new ProductFilter(null, null, true, BigDecimal.valueOf(-1), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("minPrice cannot be negative.");
+    }
+}
@@ -1,14 +1,25 @@
 package com.products.domain.service;
 
+import com.products.domain.exception.InvalidProductWriteException;
 import com.products.domain.exception.ProductNotFoundException;
+import com.products.domain.exception.ProductWriteNotFoundException;
+import com.products.domain.exception.ProductWriteQueueFullException;
 import com.products.domain.model.PaginatedResult;
 import com.products.domain.model.PaginationQuery;
 import com.products.domain.model.Product;
+import com.products.domain.model.CategoryFacet;
 import com.products.domain.model.ProductCategory;
+import com.products.domain.model.ProductFacets;
+import com.products.domain.model.ProductFields;
 import com.products.domain.model.ProductFilter;
+import com.products.domain.model.ProductWrite;
+import com.products.domain.model.ProductWriteStatus;
+import com.products.domain.port.ProductFacetPort;
 import com.products.domain.port.ProductMongoPort;
 import com.products.domain.port.ProductPostgresPort;
 import com.products.domain.port.ProductKafkaPort;
+import com.products.domain.port.ProductTransactionPort;
+import com.products.domain.port.ProductWriteQueuePort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,13 +28,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.Arrays;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +59,15 @@ class ProductServiceTest {
         @Mock
         private ProductKafkaPort productKafkaPort;
 
+        @Mock
+        private ProductFacetPort productFacetPort;
+
+        @Mock
+        private ProductTransactionPort productTransactionPort;
+
+        @Mock
+        private ProductWriteQueuePort productWriteQueuePort;
+
         @InjectMocks
         private ProductService productService;
 
@@ -47,6 +75,13 @@ class ProductServiceTest {
 
         @BeforeEach
         void setUp() {
+                lenient().when(productTransactionPort.inTransaction(any()))
+                                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+                lenient().doAnswer(invocation -> {
+                        invocation.<Runnable>getArgument(0).run();
+                        return null;
+                }).when(productTransactionPort).runInTransaction(any());
+
                 sampleProduct = new Product(
                                 1L,
                                 "Test Product",
@@ -69,6 +104,138 @@ class ProductServiceTest {
                 assertThat(result).isEqualTo(sampleProduct);
                 verify(productPostgresPort).save(productToSave);
                 verify(productKafkaPort).publishEvent(sampleProduct);
+                verify(productTransactionPort).inTransaction(any());
+        }
+
+        @Test
+        void createProducts_ShouldSaveBatchAndPublishEachProduct_InOneTransaction() {
+                List<Product> productsToSave = List.of(
+                                new Product("First", BigDecimal.valueOf(10.00), ProductCategory.BOOKS),
+                                new Product("Second", BigDecimal.valueOf(20.00), ProductCategory.BOOKS));
+                List<Product> savedProducts = List.of(
+                                new Product(1L, "First", BigDecimal.valueOf(10.00), ProductCategory.BOOKS, true),
+                                new Product(2L, "Second", BigDecimal.valueOf(20.00), ProductCategory.BOOKS, true));
+
+                when(productPostgresPort.saveAll(productsToSave)).thenReturn(savedProducts);
+
+                List<Product> result = productService.createProducts(productsToSave);
+
+                assertThat(result).isEqualTo(savedProducts);
+                verify(productTransactionPort).inTransaction(any());
+                verify(productKafkaPort).publishEvent(savedProducts.get(0));
+                verify(productKafkaPort).publishEvent(savedProducts.get(1));
+        }
+
+        @Test
+        void submitCreate_ShouldQueueWriteAndReturnPendingStatus() {
+                Product productToSave = new Product("New Product", BigDecimal.valueOf(49.99), ProductCategory.BOOKS);
+                when(productWriteQueuePort.offer(any())).thenReturn(true);
+
+                ProductWriteStatus status = productService.submitCreate(productToSave);
+
+                assertThat(status.state()).isEqualTo(ProductWriteStatus.State.PENDING);
+                verify(productWriteQueuePort).offer(new ProductWrite(status.id(), ProductWrite.Type.CREATE,
+                                productToSave));
+                verify(productPostgresPort, never()).save(any());
+        }
+
+        @Test
+        void submitUpdate_ShouldThrowQueueFull_WhenQueueRejectsWrite() {
+                when(productWriteQueuePort.offer(any())).thenReturn(false);
+
+                assertThatThrownBy(() -> productService.submitUpdate(1L, sampleProduct))
+                                .isInstanceOf(ProductWriteQueueFullException.class);
+        }
+
+        @Test
+        void getWriteStatus_ShouldThrowNotFound_WhenStatusIsUnknown() {
+                UUID writeId = UUID.randomUUID();
+                when(productWriteQueuePort.findStatus(writeId)).thenReturn(Optional.empty());
+
+                assertThatThrownBy(() -> productService.getWriteStatus(writeId))
+                                .isInstanceOf(ProductWriteNotFoundException.class);
+        }
+
+        @Test
+        void applyWrites_ShouldCommitCreatesAndUpdatesInOneTransaction() {
+                Product newProduct = new Product("First", BigDecimal.valueOf(10.00), ProductCategory.BOOKS);
+                Product createdProduct = new Product(2L, "First", BigDecimal.valueOf(10.00), ProductCategory.BOOKS, true);
+                ProductWrite create = ProductWrite.create(newProduct);
+                ProductWrite update = ProductWrite.update(1L, sampleProduct);
+                when(productPostgresPort.saveAll(List.of(newProduct))).thenReturn(List.of(createdProduct));
+                when(productPostgresPort.findById(1L)).thenReturn(Optional.of(sampleProduct));
+                when(productPostgresPort.save(update.product())).thenReturn(sampleProduct);
+
+                List<ProductWriteStatus> statuses = productService.applyWrites(List.of(update, create));
+
+                assertThat(statuses).containsExactly(
+                                ProductWriteStatus.completed(update.id(), sampleProduct),
+                                ProductWriteStatus.completed(create.id(), createdProduct));
+                verify(productTransactionPort).inTransaction(any());
+                verify(productKafkaPort).publishEvent(sampleProduct);
+                verify(productKafkaPort).publishEvent(createdProduct);
+        }
+
+        @Test
+        void applyWrites_ShouldFailOnlyTheBadWrite_WhenBatchTransactionFails() {
+                Product newProduct = new Product("First", BigDecimal.valueOf(10.00), ProductCategory.BOOKS);
+                Product createdProduct = new Product(2L, "First", BigDecimal.valueOf(10.00), ProductCategory.BOOKS, true);
+                ProductWrite create = ProductWrite.create(newProduct);
+                ProductWrite update = ProductWrite.update(99L, sampleProduct);
+                when(productPostgresPort.saveAll(List.of(newProduct))).thenReturn(List.of(createdProduct));
+                when(productPostgresPort.findById(99L)).thenReturn(Optional.empty());
+
+                List<ProductWriteStatus> statuses = productService.applyWrites(List.of(create, update));
+
+                assertThat(statuses).extracting(ProductWriteStatus::state)
+                                .containsExactly(ProductWriteStatus.State.COMPLETED, ProductWriteStatus.State.FAILED);
+                assertThat(statuses.get(1).error()).contains("99");
+                verify(productTransactionPort, times(3)).inTransaction(any());
+                verify(productKafkaPort).publishEvent(createdProduct);
+        }
+
+        @Test
+        void applyWrites_ShouldThrowWithoutRetryingEachWrite_WhenDatabaseIsUnavailable() {
+                ProductWrite first = ProductWrite.create(sampleProduct);
+                ProductWrite second = ProductWrite.create(sampleProduct);
+                when(productPostgresPort.saveAll(any())).thenThrow(new IllegalStateException("connection refused"));
+
+                assertThatThrownBy(() -> productService.applyWrites(List.of(first, second)))
+                                .isInstanceOf(IllegalStateException.class);
+
+                verify(productTransactionPort).inTransaction(any());
+        }
+
+        @Test
+        void applyWrites_ShouldFailRemainingWritesWithGenericError_WhenOutageHitsWhileRetryingEachWrite() {
+                ProductWrite rejected = ProductWrite.update(99L, sampleProduct);
+                ProductWrite create = ProductWrite.create(sampleProduct);
+                ProductWrite update = ProductWrite.update(1L, sampleProduct);
+                when(productPostgresPort.findById(99L)).thenReturn(Optional.empty());
+                when(productPostgresPort.saveAll(any()))
+                                .thenReturn(List.of(sampleProduct))
+                                .thenThrow(new IllegalStateException("SQL [insert into products ...]"));
+
+                List<ProductWriteStatus> statuses = productService.applyWrites(List.of(rejected, create, update));
+
+                assertThat(statuses).containsExactly(
+                                ProductWriteStatus.failed(rejected.id(), "Product not found with id: 99"),
+                                ProductWriteStatus.failed(create.id()),
+                                ProductWriteStatus.failed(update.id()));
+                verify(productPostgresPort, never()).findById(1L);
+                verify(productKafkaPort, never()).publishEvent(any());
+        }
+
+        @Test
+        void applyWrites_ShouldKeepConstraintViolationMessage_WhenSingleWriteIsRejected() {
+                ProductWrite create = ProductWrite.create(sampleProduct);
+                when(productPostgresPort.saveAll(any())).thenThrow(
+                                new InvalidProductWriteException("Product violates a database constraint", null));
+
+                List<ProductWriteStatus> statuses = productService.applyWrites(List.of(create));
+
+                assertThat(statuses).containsExactly(
+                                ProductWriteStatus.failed(create.id(), "Product violates a database constraint"));
         }
 
         @Test
@@ -84,15 +251,15 @@ class ProductServiceTest {
                 PaginatedResult<Product> expectedResult = new PaginatedResult<>(
                                 products, "2", null, false, false, 2, 10);
 
-                when(productMongoPort.findActiveProducts(paginationQuery, filter))
+                when(productMongoPort.findActiveProducts(paginationQuery, filter, ProductFields.ALL))
                                 .thenReturn(expectedResult);
 
-                PaginatedResult<Product> result = productService.getAllActiveProducts(paginationQuery, filter);
+                PaginatedResult<Product> result = productService.getAllActiveProducts(paginationQuery, filter, ProductFields.ALL);
 
                 assertThat(result.content()).hasSize(2);
                 assertThat(result.size()).isEqualTo(2);
                 assertThat(result.limit()).isEqualTo(10);
-                verify(productMongoPort).findActiveProducts(paginationQuery, filter);
+                verify(productMongoPort).findActiveProducts(paginationQuery, filter, ProductFields.ALL);
         }
 
         @Test
@@ -104,14 +271,14 @@ class ProductServiceTest {
                 PaginatedResult<Product> expectedResult = new PaginatedResult<>(
                                 Collections.emptyList(), null, null, false, false, 0, 10);
 
-                when(productMongoPort.findActiveProducts(paginationQuery, filter))
+                when(productMongoPort.findActiveProducts(paginationQuery, filter, ProductFields.ALL))
                                 .thenReturn(expectedResult);
 
-                PaginatedResult<Product> result = productService.getAllActiveProducts(paginationQuery, filter);
+                PaginatedResult<Product> result = productService.getAllActiveProducts(paginationQuery, filter, ProductFields.ALL);
 
                 assertThat(result.content()).isEmpty();
                 assertThat(result.size()).isEqualTo(0);
-                verify(productMongoPort).findActiveProducts(paginationQuery, filter);
+                verify(productMongoPort).findActiveProducts(paginationQuery, filter, ProductFields.ALL);
         }
 
         @Test
@@ -137,6 +304,47 @@ class ProductServiceTest {
                 verify(productMongoPort).findActiveById(productId);
         }
 
+        @Test
+        void getActiveProductById_ShouldWaitForProjection_WhenConsistencyTokenIsAhead() {
+                ProductService waitingService = serviceWithProjectionWait(Duration.ofSeconds(5));
+                Product stale = withVersion(sampleProduct, 1L);
+                Product current = withVersion(sampleProduct, 2L);
+                when(productMongoPort.findById(1L))
+                                .thenReturn(Optional.of(stale))
+                                .thenReturn(Optional.of(stale))
+                                .thenReturn(Optional.of(current));
+
+                Product result = waitingService.getActiveProductById(1L, 2L);
+
+                assertThat(result).isEqualTo(current);
+                verify(productMongoPort, times(3)).findById(1L);
+                verify(productPostgresPort, never()).findById(1L);
+        }
+
+        @Test
+        void getActiveProductById_ShouldReadPostgres_WhenProjectionDoesNotCatchUp() {
+                ProductService waitingService = serviceWithProjectionWait(Duration.ofMillis(20));
+                Product current = withVersion(sampleProduct, 2L);
+                when(productMongoPort.findById(1L)).thenReturn(Optional.of(withVersion(sampleProduct, 1L)));
+                when(productPostgresPort.findById(1L)).thenReturn(Optional.of(current));
+
+                Product result = waitingService.getActiveProductById(1L, 2L);
+
+                assertThat(result).isEqualTo(current);
+        }
+
+        @Test
+        void getActiveProductById_ShouldThrowException_WhenProductWasDeactivatedAtTokenVersion() {
+                ProductService waitingService = serviceWithProjectionWait(Duration.ZERO);
+                Product deactivated = new Product(1L, "Test Product", BigDecimal.valueOf(99.99),
+                                ProductCategory.ELECTRONICS, false, 3L);
+                when(productMongoPort.findById(1L)).thenReturn(Optional.of(deactivated));
+
+                assertThatThrownBy(() -> waitingService.getActiveProductById(1L, 3L))
+                                .isInstanceOf(ProductNotFoundException.class)
+                                .hasMessage("Active product not found with id: 1");
+        }
+
         @Test
         void updateProduct_ShouldReturnUpdatedProduct_WhenProductExists() {
                 Long productId = 1L;
@@ -188,7 +396,7 @@ class ProductServiceTest {
         }
 
         @Test
-        void deactivateProduct_ShouldCallRepository_WhenValidId() {
+        void deactivateProduct_ShouldPublishDeactivatedProduct_WhenValidId() {
                 Long productId = 1L;
                 Product existingProduct = new Product(
                                 productId,
@@ -196,10 +404,42 @@ class ProductServiceTest {
                                 BigDecimal.valueOf(50.00),
                                 ProductCategory.ELECTRONICS,
                                 true);
+                Product deactivatedProduct = new Product(
+                                productId,
+                                "Existing Product",
+                                BigDecimal.valueOf(50.00),
+                                ProductCategory.ELECTRONICS,
+                                false);
+                when(productPostgresPort.deactivateProduct(productId)).thenReturn(deactivatedProduct);
 
                 productService.deactivateProduct(existingProduct);
 
                 verify(productPostgresPort).deactivateProduct(productId);
-                verify(productKafkaPort).publishEvent(existingProduct);
+                verify(productKafkaPort).publishEvent(deactivatedProduct);
+                verify(productTransactionPort).runInTransaction(any());
+        }
+
+        @Test
+        void getFacets_ShouldReturnCountsFromFacetPort() {
+                ProductFacets facets = new ProductFacets(List.of(
+                                new CategoryFacet(ProductCategory.ELECTRONICS, 3, 1),
+                                new CategoryFacet(ProductCategory.BOOKS, 2, 0)));
+                when(productFacetPort.getFacets()).thenReturn(facets);
+
+                ProductFacets result = productService.getFacets();
+
+                assertThat(result).isEqualTo(facets);
+                assertThat(result.activeCount()).isEqualTo(5);
+                assertThat(result.inactiveCount()).isEqualTo(1);
+        }
+
+        private ProductService serviceWithProjectionWait(final Duration projectionWait) {
+                return new ProductService(productPostgresPort, productMongoPort, productKafkaPort, productFacetPort,
+                                productTransactionPort, productWriteQueuePort, projectionWait);
+        }
+
+        private static Product withVersion(final Product product, final long version) {
+                return new Product(product.id(), product.name(), product.price(), product.category(),
+                                product.active(), version);
         }
-}
\ No newline at end of file
+}
@@ -0,0 +1,144 @@
+package com.products.infrastructure.adapter;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.domain.model.ProductWrite;
+import com.products.domain.model.ProductWriteStatus;
+import com.products.domain.service.ProductService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingProductWriteQueueTest {
+
+    @Mock
+    private ObjectProvider<ProductService> productServiceProvider;
+
+    @Mock
+    private ProductService productService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BatchingProductWriteQueue queue;
+
+    private final Product product = new Product("Laptop", new BigDecimal("999.00"), ProductCategory.ELECTRONICS);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new BatchingProductWriteQueue(productServiceProvider, 3, 2, Duration.ZERO, Duration.ofMinutes(1),
+                Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @Test
+    void offer_ShouldStorePendingStatus_WhenQueued() {
+        ProductWrite write = ProductWrite.create(product);
+
+        assertThat(queue.offer(write)).isTrue();
+
+        assertThat(queue.findStatus(write.id())).contains(ProductWriteStatus.pending(write.id()));
+        assertThat(meterRegistry.get("products.async-writes.queued").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void offer_ShouldRejectWithoutStatus_WhenQueueIsFull() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(queue.offer(ProductWrite.create(product))).isTrue();
+        }
+        ProductWrite rejected = ProductWrite.create(product);
+
+        assertThat(queue.offer(rejected)).isFalse();
+
+        assertThat(queue.findStatus(rejected.id())).isEmpty();
+        assertThat(meterRegistry.get("products.async-writes.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void drainOnce_ShouldApplyWritesInBatchesAndStoreTheirStatuses() throws InterruptedException {
+        ProductWrite first = ProductWrite.create(product);
+        ProductWrite second = ProductWrite.create(product);
+        ProductWrite third = ProductWrite.create(product);
+        List.of(first, second, third).forEach(queue::offer);
+        ProductWriteStatus firstStatus = ProductWriteStatus.completed(first.id(), product);
+        ProductWriteStatus secondStatus = ProductWriteStatus.failed(second.id(), "boom");
+        ProductWriteStatus thirdStatus = ProductWriteStatus.completed(third.id(), product);
+        when(productServiceProvider.getObject()).thenReturn(productService);
+        when(productService.applyWrites(List.of(first, second))).thenReturn(List.of(firstStatus, secondStatus));
+        when(productService.applyWrites(List.of(third))).thenReturn(List.of(thirdStatus));
+
+        assertThat(queue.drainOnce(Duration.ZERO)).isEqualTo(2);
+        assertThat(queue.drainOnce(Duration.ZERO)).isEqualTo(1);
+        assertThat(queue.drainOnce(Duration.ZERO)).isZero();
+
+        assertThat(queue.findStatus(first.id())).contains(firstStatus);
+        assertThat(queue.findStatus(second.id())).contains(secondStatus);
+        assertThat(queue.findStatus(third.id())).contains(thirdStatus);
+        assertThat(meterRegistry.get("products.async-writes.batch.size").summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    void drainOnce_ShouldFailTheWholeBatchWithGenericError_WhenApplyingThrows() throws InterruptedException {
+        ProductWrite write = ProductWrite.create(product);
+        queue.offer(write);
+        when(productServiceProvider.getObject()).thenReturn(productService);
+        when(productService.applyWrites(anyList())).thenThrow(new IllegalStateException("connection refused"));
+
+        queue.drainOnce(Duration.ZERO);
+
+        assertThat(queue.findStatus(write.id())).contains(ProductWriteStatus.failed(write.id()));
+        verify(productService).applyWrites(List.of(write));
+    }
+
+    @Test
+    void stop_ShouldRejectNewWritesAndCommitQueuedOnes() {
+        when(productServiceProvider.getObject()).thenReturn(productService);
+        ProductWrite queued = ProductWrite.create(product);
+        when(productService.applyWrites(List.of(queued)))
+                .thenReturn(List.of(ProductWriteStatus.completed(queued.id(), product)));
+        queue.offer(queued);
+
+        queue.start();
+        queue.stop();
+
+        assertThat(queue.isRunning()).isFalse();
+        assertThat(queue.offer(ProductWrite.create(product))).isFalse();
+        assertThat(queue.findStatus(queued.id()).map(ProductWriteStatus::state))
+                .contains(ProductWriteStatus.State.COMPLETED);
+    }
+
+    @Test
+    void stop_ShouldGiveUpAfterShutdownTimeoutAndFailQueuedWrites() {
+        queue = new BatchingProductWriteQueue(productServiceProvider, 3, 1, Duration.ZERO, Duration.ofMinutes(1),
+                Duration.ofMillis(50), meterRegistry);
+        CountDownLatch databaseBack = new CountDownLatch(1);
+        when(productServiceProvider.getObject()).thenReturn(productService);
+        when(productService.applyWrites(anyList())).thenAnswer(invocation -> {
+            databaseBack.await();
+            return List.of();
+        });
+        ProductWrite stuck = ProductWrite.create(product);
+        ProductWrite queued = ProductWrite.create(product);
+        queue.offer(stuck);
+        queue.offer(queued);
+
+        queue.start();
+        queue.stop();
+
+        assertThat(queue.isRunning()).isFalse();
+        assertThat(queue.findStatus(queued.id())).contains(ProductWriteStatus.failed(queued.id()));
+    }
+}
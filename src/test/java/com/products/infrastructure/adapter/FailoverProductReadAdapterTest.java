@@ -0,0 +1,102 @@
+package com.products.infrastructure.adapter;
+
+import com.products.domain.model.PaginatedResult;
+import com.products.domain.model.PaginationQuery;
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.domain.model.ProductFields;
+import com.products.domain.model.ProductFilter;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FailoverProductReadAdapterTest {
+
+    @Mock
+    private ProductMongoAdapter mongoAdapter;
+
+    @Mock
+    private ProductPostgresReadAdapter postgresAdapter;
+
+    private CircuitBreaker circuitBreaker;
+    private FailoverProductReadAdapter adapter;
+
+    private final Product product = new Product(1L, "Laptop", new BigDecimal("999.00"), ProductCategory.ELECTRONICS, true);
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        adapter = new FailoverProductReadAdapter(mongoAdapter, postgresAdapter, circuitBreaker);
+    }
+
+    @Test
+    void findActiveById_ShouldReadMongo_WhenHealthy() {
+        when(mongoAdapter.findActiveById(1L)).thenReturn(Optional.of(product));
+
+        assertThat(adapter.findActiveById(1L)).contains(product);
+        verifyNoInteractions(postgresAdapter);
+    }
+
+    @Test
+    void findActiveById_ShouldFallBackToPostgres_WhenMongoFails() {
+        when(mongoAdapter.findActiveById(1L)).thenThrow(new DataAccessResourceFailureException("timeout"));
+        when(postgresAdapter.findActiveById(1L)).thenReturn(Optional.of(product));
+
+        assertThat(adapter.findActiveById(1L)).contains(product);
+    }
+
+    @Test
+    void findActiveProducts_ShouldSkipMongo_WhenCircuitIsOpen() {
+        PaginationQuery query = new PaginationQuery(10);
+        ProductFilter filter = new ProductFilter(null, null, true);
+        PaginatedResult<Product> page = new PaginatedResult<>(List.of(product), "1", null, false, false, 1, 10);
+        when(mongoAdapter.findById(1L)).thenThrow(new DataAccessResourceFailureException("timeout"));
+        when(postgresAdapter.findById(1L)).thenReturn(Optional.of(product));
+        when(postgresAdapter.findActiveProducts(query, filter, ProductFields.ALL)).thenReturn(page);
+
+        for (int i = 0; i < 4; i++) {
+            adapter.findById(1L);
+        }
+        PaginatedResult<Product> result = adapter.findActiveProducts(query, filter, ProductFields.ALL);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(result).isEqualTo(page);
+        verify(mongoAdapter, times(4)).findById(1L);
+        verify(mongoAdapter, never()).findActiveProducts(query, filter, ProductFields.ALL);
+    }
+
+    @Test
+    void save_ShouldAlwaysWriteToMongo_WhenCircuitIsOpen() {
+        circuitBreaker.transitionToOpenState();
+
+        adapter.save(product);
+        adapter.saveAll(List.of(product));
+
+        verify(mongoAdapter).save(product);
+        verify(mongoAdapter).saveAll(List.of(product));
+        verifyNoInteractions(postgresAdapter);
+    }
+}
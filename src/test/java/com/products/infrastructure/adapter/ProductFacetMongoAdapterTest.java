@@ -0,0 +1,115 @@
+package com.products.infrastructure.adapter;
+
+import com.products.domain.model.CategoryFacet;
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.domain.model.ProductFacets;
+import com.products.infrastructure.mongo.document.ProductCounterDocument;
+import com.products.infrastructure.mongo.repository.ProductCounterRepository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductFacetMongoAdapterTest {
+
+    @Mock
+    private ProductCounterRepository repository;
+
+    @InjectMocks
+    private ProductFacetMongoAdapter adapter;
+
+    @Test
+    void recordChange_ShouldIncrementCurrentCounter_WhenProductIsNew() {
+        Product current = product(ProductCategory.BOOKS, true);
+
+        adapter.recordChange(null, current);
+
+        verify(repository).increment("BOOKS", true, 1);
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void recordChange_ShouldMoveCount_WhenProductIsDeactivated() {
+        Product previous = product(ProductCategory.BOOKS, true);
+        Product current = product(ProductCategory.BOOKS, false);
+
+        adapter.recordChange(previous, current);
+
+        verify(repository).increment("BOOKS", true, -1);
+        verify(repository).increment("BOOKS", false, 1);
+    }
+
+    @Test
+    void recordChange_ShouldDoNothing_WhenCategoryAndActiveAreUnchanged() {
+        Product previous = product(ProductCategory.ELECTRONICS, true);
+        Product current = new Product(1L, "Renamed", BigDecimal.TEN, ProductCategory.ELECTRONICS, true);
+
+        adapter.recordChange(previous, current);
+
+        verify(repository, never()).increment(anyString(), anyBoolean(), anyLong());
+    }
+
+    @Test
+    void getFacets_ShouldReturnEveryCategory() {
+        when(repository.findAll()).thenReturn(List.of(
+                new ProductCounterDocument("ELECTRONICS:true", "ELECTRONICS", true, 4),
+                new ProductCounterDocument("ELECTRONICS:false", "ELECTRONICS", false, 1),
+                new ProductCounterDocument("BOOKS:true", "BOOKS", true, 2)));
+
+        ProductFacets result = adapter.getFacets();
+
+        assertThat(result.categories()).containsExactly(
+                new CategoryFacet(ProductCategory.ELECTRONICS, 4, 1),
+                new CategoryFacet(ProductCategory.CLOTHING, 0, 0),
+                new CategoryFacet(ProductCategory.BOOKS, 2, 0));
+        assertThat(result.activeCount()).isEqualTo(6);
+        assertThat(result.inactiveCount()).isEqualTo(1);
+    }
+
+    @Test
+    void initializeCounters_ShouldRebuild_WhenCountersAreEmpty() {
+        when(repository.count()).thenReturn(0L);
+
+        adapter.initializeCounters();
+
+        verify(repository).rebuildFromProducts();
+    }
+
+    @Test
+    void initializeCounters_ShouldKeepCounters_WhenAlreadySeeded() {
+        when(repository.count()).thenReturn(6L);
+
+        adapter.initializeCounters();
+
+        verify(repository, never()).rebuildFromProducts();
+    }
+
+    @Test
+    void initializeCounters_ShouldRebuildSeededCounters_WhenRebuildOnStartupIsEnabled() {
+        ReflectionTestUtils.setField(adapter, "rebuildOnStartup", true);
+
+        adapter.initializeCounters();
+
+        verify(repository).rebuildFromProducts();
+        verify(repository, never()).count();
+    }
+
+    private Product product(ProductCategory category, boolean active) {
+        return new Product(1L, "Product", BigDecimal.TEN, category, active);
+    }
+}
@@ -1,24 +1,33 @@
 package com.products.infrastructure.adapter;
 
 import com.products.domain.model.*;
+import com.products.infrastructure.cache.ProductAccessStats;
+import com.products.infrastructure.cache.ProductCache;
 import com.products.infrastructure.mapper.ProductMapper;
 import com.products.infrastructure.mongo.document.ProductDocument;
+import com.products.infrastructure.mongo.document.ProductProjectionDocument;
 import com.products.infrastructure.mongo.repository.ProductRepository;
+import com.products.infrastructure.mongo.repository.ProductSearchCriteria;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,7 +39,12 @@ class ProductMongoAdapterTest {
     @Mock
     private ProductMapper mapper;
 
-    @InjectMocks
+    @Mock
+    private ProductAccessStats accessStats;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
     private ProductMongoAdapter adapter;
 
     private ProductDocument testDocument;
@@ -38,6 +52,8 @@ class ProductMongoAdapterTest {
 
     @BeforeEach
     void setUp() {
+        adapter = new ProductMongoAdapter(mapper, repository,
+                new ProductCache(Duration.ofSeconds(30), 100, accessStats, meterRegistry));
         testDocument = new ProductDocument(1L, "Test Product", new BigDecimal("99.99"), "Electronics", true);
         testProduct = new Product(1L, "Test Product", new BigDecimal("99.99"), ProductCategory.ELECTRONICS, true);
     }
@@ -49,33 +65,84 @@ class ProductMongoAdapterTest {
         adapter.save(testProduct);
 
         verify(mapper).domainToDocument(testProduct);
-        verify(repository).save(testDocument);
+        verify(repository).upsert(testDocument);
+    }
+
+    @Test
+    void saveAndGetPrevious_ShouldReturnReplacedProduct() {
+        ProductDocument previousDocument = new ProductDocument(1L, "Old Name", new BigDecimal("89.99"),
+                "ELECTRONICS", true);
+        Product previousProduct = new Product(1L, "Old Name", new BigDecimal("89.99"), ProductCategory.ELECTRONICS,
+                true);
+        when(mapper.domainToDocument(testProduct)).thenReturn(testDocument);
+        when(repository.replaceAndGetPrevious(testDocument)).thenReturn(Optional.of(previousDocument));
+        when(mapper.documentToDomain(previousDocument)).thenReturn(previousProduct);
+
+        Optional<Product> result = adapter.saveAndGetPrevious(testProduct);
+
+        assertThat(result).contains(previousProduct);
     }
 
     @Test
     void findById_ShouldReturnProduct_WhenExists() {
-        when(repository.findById(1L)).thenReturn(Optional.of(testDocument));
+        when(repository.lookupById(1L, false)).thenReturn(Optional.of(testDocument));
         when(mapper.documentToDomain(testDocument)).thenReturn(testProduct);
 
         Optional<Product> result = adapter.findById(1L);
 
         assertThat(result).isPresent().contains(testProduct);
-        verify(repository).findById(1L);
+        verify(repository).lookupById(1L, false);
         verify(mapper).documentToDomain(testDocument);
     }
 
     @Test
     void findActiveById_ShouldReturnProduct_WhenActiveProductExists() {
-        when(repository.findByIdAndActiveTrue(1L)).thenReturn(Optional.of(testDocument));
+        when(repository.lookupById(1L, true)).thenReturn(Optional.of(testDocument));
         when(mapper.documentToDomain(testDocument)).thenReturn(testProduct);
 
         Optional<Product> result = adapter.findActiveById(1L);
 
         assertThat(result).isPresent().contains(testProduct);
-        verify(repository).findByIdAndActiveTrue(1L);
+        verify(repository).lookupById(1L, true);
         verify(mapper).documentToDomain(testDocument);
     }
 
+    @Test
+    void findActiveById_ShouldServeRepeatedLookupsFromCache() {
+        when(repository.lookupById(1L, true)).thenReturn(Optional.of(testDocument));
+        when(mapper.documentToDomain(testDocument)).thenReturn(testProduct);
+
+        adapter.findActiveById(1L);
+        Optional<Product> result = adapter.findActiveById(1L);
+
+        assertThat(result).contains(testProduct);
+        verify(repository, times(1)).lookupById(1L, true);
+        verify(accessStats, times(2)).record(1L);
+    }
+
+    @Test
+    void findActiveById_ShouldNotCacheMissingProducts() {
+        when(repository.lookupById(1L, true)).thenReturn(Optional.empty());
+
+        assertThat(adapter.findActiveById(1L)).isEmpty();
+        assertThat(adapter.findActiveById(1L)).isEmpty();
+
+        verify(repository, times(2)).lookupById(1L, true);
+    }
+
+    @Test
+    void save_ShouldEvictCachedProduct() {
+        when(repository.lookupById(1L, true)).thenReturn(Optional.of(testDocument));
+        when(mapper.documentToDomain(testDocument)).thenReturn(testProduct);
+        when(mapper.domainToDocument(testProduct)).thenReturn(testDocument);
+        adapter.findActiveById(1L);
+
+        adapter.save(testProduct);
+        adapter.findActiveById(1L);
+
+        verify(repository, times(2)).lookupById(1L, true);
+    }
+
     @Test
     void findActiveProducts_ShouldReturnPaginatedProducts() {
         PaginationQuery paginationQuery = new PaginationQuery(null, 10, "id", "asc");
@@ -92,14 +159,13 @@ class ProductMongoAdapterTest {
         Product product1 = new Product(1L, "Laptop", BigDecimal.valueOf(1000), ProductCategory.ELECTRONICS, true);
         Product product2 = new Product(2L, "Mouse", BigDecimal.valueOf(25), ProductCategory.ELECTRONICS, true);
 
-        when(repository.findProductsAfterCursor(
-                null, true, "ELECTRONICS", "laptop", 11))
+        when(repository.findProductsAfterCursor(idCriteria(null, "ELECTRONICS", "laptop", 11)))
                 .thenReturn(entities);
 
         when(mapper.documentToDomain(document1)).thenReturn(product1);
         when(mapper.documentToDomain(document2)).thenReturn(product2);
 
-        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter);
+        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter, ProductFields.ALL);
 
         assertThat(result.content()).hasSize(2);
         assertThat(result.size()).isEqualTo(2);
@@ -108,7 +174,7 @@ class ProductMongoAdapterTest {
         assertThat(result.hasPrevious()).isFalse();
         assertThat(result.nextCursor()).isEqualTo("2");
 
-        verify(repository).findProductsAfterCursor(null, true, "ELECTRONICS", "laptop", 11);
+        verify(repository).findProductsAfterCursor(idCriteria(null, "ELECTRONICS", "laptop", 11));
         verify(mapper).documentToDomain(document1);
         verify(mapper).documentToDomain(document2);
     }
@@ -118,13 +184,13 @@ class ProductMongoAdapterTest {
         PaginationQuery paginationQuery = new PaginationQuery("invalid-cursor", 10, "id", "asc");
         ProductFilter filter = new ProductFilter(null, null, true);
 
-        when(repository.findProductsAfterCursor(null, true, null, null, 11))
+        when(repository.findProductsAfterCursor(idCriteria(null, null, null, 11)))
                 .thenReturn(List.of());
 
-        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter);
+        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter, ProductFields.ALL);
 
         assertThat(result.content()).isEmpty();
-        verify(repository).findProductsAfterCursor(null, true, null, null, 11);
+        verify(repository).findProductsAfterCursor(idCriteria(null, null, null, 11));
     }
 
     @Test
@@ -132,13 +198,13 @@ class ProductMongoAdapterTest {
         PaginationQuery paginationQuery = new PaginationQuery("   ", 10, "id", "asc");
         ProductFilter filter = new ProductFilter(null, null, true);
 
-        when(repository.findProductsAfterCursor(null, true, null, null, 11))
+        when(repository.findProductsAfterCursor(idCriteria(null, null, null, 11)))
                 .thenReturn(List.of());
 
-        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter);
+        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter, ProductFields.ALL);
 
         assertThat(result.content()).isEmpty();
-        verify(repository).findProductsAfterCursor(null, true, null, null, 11);
+        verify(repository).findProductsAfterCursor(idCriteria(null, null, null, 11));
     }
 
     @Test
@@ -148,13 +214,13 @@ class ProductMongoAdapterTest {
 
         ProductDocument document = createProductDocument(6L, "Product", BigDecimal.valueOf(100),
                 ProductCategory.ELECTRONICS);
-        when(repository.findProductsAfterCursor(5L, true, null, null, 11))
+        when(repository.findProductsAfterCursor(idCriteria(5L, null, null, 11)))
                 .thenReturn(List.of(document));
 
         Product product = new Product(6L, "Product", BigDecimal.valueOf(100), ProductCategory.ELECTRONICS, true);
         when(mapper.documentToDomain(document)).thenReturn(product);
 
-        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter);
+        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter, ProductFields.ALL);
 
         assertThat(result.hasPrevious()).isTrue();
         assertThat(result.previousCursor()).isEqualTo("6");
@@ -173,7 +239,7 @@ class ProductMongoAdapterTest {
         ProductDocument document3 = createProductDocument(3L, "Product3", BigDecimal.valueOf(300),
                 ProductCategory.ELECTRONICS);
 
-        when(repository.findProductsAfterCursor(null, true, null, null, 3))
+        when(repository.findProductsAfterCursor(idCriteria(null, null, null, 3)))
                 .thenReturn(List.of(document1, document2, document3));
 
         Product product1 = new Product(1L, "Product1", BigDecimal.valueOf(100), ProductCategory.ELECTRONICS, true);
@@ -182,13 +248,103 @@ class ProductMongoAdapterTest {
         when(mapper.documentToDomain(document1)).thenReturn(product1);
         when(mapper.documentToDomain(document2)).thenReturn(product2);
 
-        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter);
+        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter, ProductFields.ALL);
 
         assertThat(result.hasNext()).isTrue();
         assertThat(result.content()).hasSize(2); // Should only return 2, not 3
         assertThat(result.nextCursor()).isEqualTo("2");
     }
 
+    @Test
+    void findActiveProducts_ShouldUseProjection_WhenFieldsAreSelected() {
+        PaginationQuery paginationQuery = new PaginationQuery(null, 1, "id", "asc");
+        ProductFilter filter = new ProductFilter(null, null, true);
+        ProductFields fields = ProductFields.of("name,price");
+
+        ProductProjectionDocument projection1 = new ProductProjectionDocument(1L, "Laptop", BigDecimal.valueOf(1000),
+                null, null);
+        ProductProjectionDocument projection2 = new ProductProjectionDocument(2L, "Mouse", BigDecimal.valueOf(25),
+                null, null);
+        when(repository.findProductsAfterCursor(idCriteria(null, null, null, 2), fields.names()))
+                .thenReturn(List.of(projection1, projection2));
+
+        Product product1 = new Product(1L, "Laptop", BigDecimal.valueOf(1000), null, null);
+        when(mapper.projectionToDomain(projection1)).thenReturn(product1);
+
+        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter, fields);
+
+        assertThat(result.content()).containsExactly(product1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo("1");
+        verify(repository, never()).findProductsAfterCursor(any());
+    }
+
+    @Test
+    void saveAll_ShouldUpsertAllDocumentsInOneBulkWrite() {
+        Product product1 = new Product(1L, "Laptop", BigDecimal.valueOf(1000), ProductCategory.ELECTRONICS, true);
+        Product product2 = new Product(2L, "Mouse", BigDecimal.valueOf(25), ProductCategory.ELECTRONICS, true);
+        ProductDocument document1 = createProductDocument(1L, "Laptop", BigDecimal.valueOf(1000),
+                ProductCategory.ELECTRONICS);
+        ProductDocument document2 = createProductDocument(2L, "Mouse", BigDecimal.valueOf(25),
+                ProductCategory.ELECTRONICS);
+        when(mapper.domainToDocument(product1)).thenReturn(document1);
+        when(mapper.domainToDocument(product2)).thenReturn(document2);
+
+        adapter.saveAll(List.of(product1, product2));
+
+        verify(repository).upsertAll(List.of(document1, document2));
+    }
+
+    @Test
+    void findActiveProducts_ShouldUsePriceCursor_WhenSortedByPrice() {
+        PaginationQuery paginationQuery = new PaginationQuery("149.99_3", 1, "price", "desc");
+        ProductFilter filter = new ProductFilter("CLOTHING", null, true, BigDecimal.TEN, BigDecimal.valueOf(200));
+
+        ProductDocument document1 = createProductDocument(9L, "Running Shoes", new BigDecimal("129.99"),
+                ProductCategory.CLOTHING);
+        ProductDocument document2 = createProductDocument(4L, "Socks", new BigDecimal("12.50"),
+                ProductCategory.CLOTHING);
+        ProductSearchCriteria criteria = new ProductSearchCriteria(3L, new BigDecimal("149.99"), true, "CLOTHING",
+                null, BigDecimal.TEN, BigDecimal.valueOf(200), true, true, 2);
+        when(repository.findProductsAfterCursor(criteria)).thenReturn(List.of(document1, document2));
+
+        Product product1 = new Product(9L, "Running Shoes", new BigDecimal("129.99"), ProductCategory.CLOTHING, true);
+        when(mapper.documentToDomain(document1)).thenReturn(product1);
+
+        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter, ProductFields.ALL);
+
+        assertThat(result.content()).containsExactly(product1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.hasPrevious()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo("129.99_9");
+    }
+
+    @Test
+    void findActiveProducts_ShouldProjectPriceForTheCursorOnly_WhenSortedByPrice() {
+        PaginationQuery paginationQuery = new PaginationQuery(null, 10, "price", "asc");
+        ProductFilter filter = new ProductFilter(null, null, true);
+        ProductFields fields = ProductFields.of("name");
+
+        ProductSearchCriteria criteria = new ProductSearchCriteria(null, null, true, null, null, null, null, true,
+                false, 11);
+        ProductProjectionDocument projection = new ProductProjectionDocument(5L, "Mouse", new BigDecimal("25.00"),
+                null, null);
+        when(repository.findProductsAfterCursor(criteria, Set.of("id", "name", "price")))
+                .thenReturn(List.of(projection));
+        when(mapper.projectionToDomain(projection))
+                .thenReturn(new Product(5L, "Mouse", new BigDecimal("25.00"), null, null));
+
+        PaginatedResult<Product> result = adapter.findActiveProducts(paginationQuery, filter, fields);
+
+        assertThat(result.content()).containsExactly(new Product(5L, "Mouse", null, null, null));
+        assertThat(result.nextCursor()).isEqualTo("25.00_5");
+        assertThat(result.hasPrevious()).isFalse();
+    }
+
+    private ProductSearchCriteria idCriteria(Long cursor, String category, String name, int limit) {
+        return new ProductSearchCriteria(cursor, null, true, category, name, null, null, false, false, limit);
+    }
+
     private ProductDocument createProductDocument(Long id, String name, BigDecimal price, ProductCategory category) {
         return new ProductDocument(id, name, price, category.name(), true);
     }
@@ -16,11 +16,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -50,28 +52,67 @@ class ProductPostgresAdapterTest {
 
     @Test
     void save_ShouldReturnSavedProduct() {
+        Product newProduct = new Product("Test Product", new BigDecimal("99.99"), ProductCategory.ELECTRONICS);
         when(mapper.domainToEntity(any(Product.class))).thenReturn(testEntity);
-        when(repository.save(any(ProductEntity.class))).thenReturn(testEntity);
+        when(repository.saveAndFlush(any(ProductEntity.class))).thenReturn(testEntity);
         when(mapper.entityToDomain(any(ProductEntity.class))).thenReturn(testProduct);
 
-        Product result = adapter.save(testProduct);
+        Product result = adapter.save(newProduct);
 
         assertThat(result).isEqualTo(testProduct);
-        verify(mapper).domainToEntity(testProduct);
-        verify(repository).save(testEntity);
+        verify(mapper).domainToEntity(newProduct);
+        verify(repository).saveAndFlush(testEntity);
         verify(mapper).entityToDomain(testEntity);
     }
 
+    @Test
+    void save_ShouldUpdateStoredRow_WhenProductExists() {
+        ProductEntity storedEntity = new ProductEntity("Old Name", new BigDecimal("10.00"), ProductCategory.BOOKS,
+                true);
+        storedEntity.setId(1L);
+        storedEntity.setVersion(4L);
+        // The version read from the projection is stale and must not be used for the update
+        Product staleProduct = new Product(1L, "Test Product", new BigDecimal("99.99"), ProductCategory.ELECTRONICS,
+                true, 2L);
+        when(repository.findById(1L)).thenReturn(Optional.of(storedEntity));
+        when(mapper.updateEntity(storedEntity, staleProduct)).thenCallRealMethod();
+        when(repository.saveAndFlush(storedEntity)).thenReturn(storedEntity);
+        when(mapper.entityToDomain(storedEntity)).thenReturn(testProduct);
+
+        adapter.save(staleProduct);
+
+        assertThat(storedEntity.getName()).isEqualTo("Test Product");
+        assertThat(storedEntity.getCategory()).isEqualTo(ProductCategory.ELECTRONICS);
+        assertThat(storedEntity.getVersion()).isEqualTo(4L);
+        verify(mapper, never()).domainToEntity(any(Product.class));
+    }
+
+    @Test
+    void saveAll_ShouldSaveEntitiesInOneCallAndReturnProducts() {
+        when(mapper.domainToEntity(testProduct)).thenReturn(testEntity);
+        when(repository.saveAll(List.of(testEntity))).thenReturn(List.of(testEntity));
+        when(mapper.entityToDomain(testEntity)).thenReturn(testProduct);
+
+        List<Product> result = adapter.saveAll(List.of(testProduct));
+
+        assertThat(result).containsExactly(testProduct);
+        verify(repository).saveAll(List.of(testEntity));
+    }
+
     @Test
     void deactivateProduct_ShouldSetInactiveAndSave_WhenProductIsActive() {
+        Product deactivatedProduct = new Product(1L, "Test Product", new BigDecimal("99.99"),
+                ProductCategory.ELECTRONICS, false);
         when(repository.findById(1L)).thenReturn(Optional.of(testEntity));
-        when(repository.save(any(ProductEntity.class))).thenReturn(testEntity);
+        when(repository.saveAndFlush(any(ProductEntity.class))).thenReturn(testEntity);
+        when(mapper.entityToDomain(testEntity)).thenReturn(deactivatedProduct);
 
-        adapter.deactivateProduct(1L);
+        Product result = adapter.deactivateProduct(1L);
 
         ArgumentCaptor<ProductEntity> entityCaptor = ArgumentCaptor.forClass(ProductEntity.class);
-        verify(repository).save(entityCaptor.capture());
+        verify(repository).saveAndFlush(entityCaptor.capture());
         assertThat(entityCaptor.getValue().isActive()).isFalse();
+        assertThat(result).isEqualTo(deactivatedProduct);
     }
 
     @Test
@@ -0,0 +1,88 @@
+package com.products.infrastructure.adapter;
+
+import com.products.domain.model.PaginatedResult;
+import com.products.domain.model.PaginationQuery;
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.domain.model.ProductFields;
+import com.products.domain.model.ProductFilter;
+import com.products.infrastructure.mapper.ProductMapper;
+import com.products.infrastructure.postgresql.entity.ProductEntity;
+import com.products.infrastructure.postgresql.repository.ProductJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductPostgresReadAdapterTest {
+
+    @Mock
+    private ProductJpaRepository repository;
+
+    private ProductPostgresReadAdapter adapter;
+
+    private final ProductFilter filter = new ProductFilter("ELECTRONICS", null, true);
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ProductPostgresReadAdapter(repository, new ProductMapper());
+    }
+
+    @Test
+    void findActiveProducts_ShouldContinueAfterIdCursor_AndDetectNextPage() {
+        PaginationQuery query = new PaginationQuery("10", 2);
+        when(repository.findProductsAfterCursor(10L, true, "ELECTRONICS", null, null, null, 3))
+                .thenReturn(List.of(entity(11L, "1.00"), entity(12L, "2.00"), entity(13L, "3.00")));
+
+        PaginatedResult<Product> result = adapter.findActiveProducts(query, filter, ProductFields.ALL);
+
+        assertThat(result.content()).extracting(Product::id).containsExactly(11L, 12L);
+        assertThat(result.nextCursor()).isEqualTo("12");
+        assertThat(result.previousCursor()).isEqualTo("11");
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.hasPrevious()).isTrue();
+    }
+
+    @Test
+    void findActiveProducts_ShouldUsePriceCursorDescending_WhenSortedByPriceDesc() {
+        PaginationQuery query = new PaginationQuery("25.50_7", 2, "price", "desc");
+        when(repository.findProductsBeforePriceCursor(new BigDecimal("25.50"), 7L, true, "ELECTRONICS", null,
+                null, null, 3))
+                .thenReturn(List.of(entity(3L, "20.00")));
+
+        PaginatedResult<Product> result = adapter.findActiveProducts(query, filter, ProductFields.of("name"));
+
+        assertThat(result.content()).containsExactly(
+                new Product(3L, "Product 3", null, null, null));
+        assertThat(result.nextCursor()).isEqualTo("20.00_3");
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void findActiveProducts_ShouldStartFromFirstPage_WhenCursorIsInvalid() {
+        PaginationQuery query = new PaginationQuery("not-a-price", 2, "price", "asc");
+        when(repository.findProductsAfterPriceCursor(null, null, true, "ELECTRONICS", null, null, null, 3))
+                .thenReturn(List.of());
+
+        PaginatedResult<Product> result = adapter.findActiveProducts(query, filter, ProductFields.ALL);
+
+        assertThat(result.content()).isEmpty();
+        assertThat(result.hasPrevious()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    private static ProductEntity entity(long id, String price) {
+        ProductEntity entity = new ProductEntity("Product " + id, new BigDecimal(price), ProductCategory.ELECTRONICS,
+                true);
+        entity.setId(id);
+        return entity;
+    }
+}
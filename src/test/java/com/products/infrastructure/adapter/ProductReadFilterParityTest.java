@@ -0,0 +1,115 @@
+package com.products.infrastructure.adapter;
+
+import com.products.domain.model.PaginationQuery;
+import com.products.domain.model.ProductFields;
+import com.products.domain.model.ProductFilter;
+import com.products.infrastructure.cache.ProductAccessStats;
+import com.products.infrastructure.cache.ProductCache;
+import com.products.infrastructure.mapper.ProductMapper;
+import com.products.infrastructure.mongo.config.MongoOperationSettings;
+import com.products.infrastructure.mongo.document.ProductDocument;
+import com.products.infrastructure.mongo.repository.ProductRepository;
+import com.products.infrastructure.mongo.repository.ProductRepositoryCustomImpl;
+import com.products.infrastructure.mongo.repository.ProductSearchCriteria;
+import com.products.infrastructure.postgresql.repository.ProductJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// The Postgres fallback must filter like the Mongo projection, or a listing changes when the circuit breaker opens
+@ExtendWith(MockitoExtension.class)
+class ProductReadFilterParityTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ProductRepository mongoRepository;
+
+    @Mock
+    private ProductJpaRepository jpaRepository;
+
+    @Mock
+    private ProductAccessStats accessStats;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private ProductMongoAdapter mongoAdapter;
+    private ProductPostgresReadAdapter postgresAdapter;
+
+    private final ProductFilter filter = new ProductFilter("ELECTRONICS", "Laptop Pro", true,
+            new BigDecimal("100.00"), new BigDecimal("2000.00"));
+
+    @BeforeEach
+    void setUp() {
+        ProductRepositoryCustomImpl mongoQueries = new ProductRepositoryCustomImpl(mongoTemplate,
+                MongoOperationSettings.of("primary", Duration.ofSeconds(90), "primary", "w1", false),
+                new SimpleMeterRegistry());
+        when(mongoRepository.findProductsAfterCursor(any(ProductSearchCriteria.class)))
+                .thenAnswer(invocation -> mongoQueries.findProductsAfterCursor(
+                        invocation.<ProductSearchCriteria>getArgument(0)));
+        mongoAdapter = new ProductMongoAdapter(new ProductMapper(), mongoRepository,
+                new ProductCache(Duration.ofSeconds(30), 100, accessStats, meterRegistry));
+        postgresAdapter = new ProductPostgresReadAdapter(jpaRepository, new ProductMapper());
+    }
+
+    @Test
+    void findActiveProducts_ShouldMatchTheExactNameInBothStores() {
+        PaginationQuery query = new PaginationQuery(null, 10);
+
+        mongoAdapter.findActiveProducts(query, filter, ProductFields.ALL);
+        postgresAdapter.findActiveProducts(query, filter, ProductFields.ALL);
+
+        ArgumentCaptor<Query> mongoQuery = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(mongoQuery.capture(), eq(ProductDocument.class));
+        Document mongoFilter = mongoQuery.getValue().getQueryObject();
+        assertThat(mongoFilter).containsEntry("name", "Laptop Pro")
+                .containsEntry("category", "ELECTRONICS")
+                .containsEntry("active", true)
+                .containsEntry("price", new Document("$gte", new BigDecimal("100.00"))
+                        .append("$lte", new BigDecimal("2000.00")));
+
+        verify(jpaRepository).findProductsAfterCursor(null, true, "ELECTRONICS", "Laptop Pro",
+                new BigDecimal("100.00"), new BigDecimal("2000.00"), 11);
+        assertThat(ProductJpaRepository.FILTERS)
+                .contains("name = CAST(:name AS varchar)")
+                .contains("category = CAST(:category AS varchar)")
+                .contains("active = :active")
+                .contains("price >= CAST(:minPrice AS numeric)")
+                .contains("price <= CAST(:maxPrice AS numeric)")
+                .doesNotContain("LIKE");
+    }
+
+    @Test
+    void findActiveProducts_ShouldIgnoreABlankNameInBothStores() {
+        ProductFilter blankName = new ProductFilter(null, "  ", true);
+        PaginationQuery query = new PaginationQuery(null, 10);
+
+        mongoAdapter.findActiveProducts(query, blankName, ProductFields.ALL);
+        postgresAdapter.findActiveProducts(query, blankName, ProductFields.ALL);
+
+        ArgumentCaptor<Query> mongoQuery = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(mongoQuery.capture(), eq(ProductDocument.class));
+        assertThat(mongoQuery.getValue().getQueryObject()).doesNotContainKey("name");
+        verify(jpaRepository).findProductsAfterCursor(null, true, null, null, null, null, 11);
+    }
+}
@@ -0,0 +1,66 @@
+package com.products.infrastructure.cache;
+
+import com.products.infrastructure.mongo.repository.ProductAccessStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductAccessStatsTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T14:37:12Z");
+
+    @Mock
+    private ProductAccessStatsRepository accessStatsRepository;
+
+    private ProductAccessStats accessStats;
+
+    @BeforeEach
+    void setUp() {
+        accessStats = new ProductAccessStats(accessStatsRepository, Duration.ofMinutes(1),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void flush_ShouldAddCountsToTheCurrentHourOnce() {
+        accessStats.record(1L);
+        accessStats.record(1L);
+        accessStats.record(2L);
+
+        accessStats.flush();
+        accessStats.flush();
+
+        verify(accessStatsRepository).incrementHits(Instant.parse("2026-10-19T14:00:00Z"), Map.of(1L, 2L, 2L, 1L));
+    }
+
+    @Test
+    void record_ShouldNotCount_WhileSuspended() {
+        accessStats.suspend();
+        accessStats.record(1L);
+        accessStats.flush();
+
+        verifyNoInteractions(accessStatsRepository);
+    }
+
+    @Test
+    void hottest_ShouldLookBackOverTheWindow() {
+        when(accessStatsRepository.findHottestProductIds(NOW.minus(Duration.ofHours(24)), 10))
+                .thenReturn(List.of(7L, 3L));
+
+        assertThat(accessStats.hottest(10, Duration.ofHours(24))).containsExactly(7L, 3L);
+    }
+}
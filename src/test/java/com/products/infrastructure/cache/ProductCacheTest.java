@@ -0,0 +1,75 @@
+package com.products.infrastructure.cache;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCacheTest {
+
+    @Mock
+    private ProductAccessStats accessStats;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private ProductCache cache;
+
+    private final Product stale = new Product(1L, "Desk", new BigDecimal("10.00"), ProductCategory.BOOKS, true, 1L);
+    private final Product current = new Product(1L, "Desk", new BigDecimal("12.00"), ProductCategory.BOOKS, true, 2L);
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductCache(Duration.ofSeconds(30), 100, accessStats, meterRegistry);
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndServeFromCache() {
+        assertThat(cache.get(1L, id -> Optional.of(stale))).contains(stale);
+        assertThat(cache.get(1L, id -> Optional.of(current))).contains(stale);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldNotCacheMisses() {
+        assertThat(cache.get(1L, id -> Optional.empty())).isEmpty();
+        assertThat(cache.get(1L, id -> Optional.of(current))).contains(current);
+    }
+
+    @Test
+    void get_ShouldNotKeepALoadedProduct_WhenEvictedWhileLoading() throws InterruptedException {
+        Thread projectionWrite = new Thread(() -> cache.evict(1L));
+
+        Optional<Product> loaded = cache.get(1L, id -> {
+            projectionWrite.start();
+            awaitBlockedOrDone(projectionWrite);
+            return Optional.of(stale);
+        });
+        projectionWrite.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(loaded).contains(stale);
+        assertThat(cache.get(1L, id -> Optional.of(current))).contains(current);
+    }
+
+    // The eviction either waits for the load to finish or, without atomic loads, completes before the put
+    private static void awaitBlockedOrDone(final Thread thread) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline && thread.getState() != Thread.State.BLOCKED
+                && thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TERMINATED) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.products.infrastructure.config;
+
+import com.netflix.concurrency.limits.limit.AIMDLimit;
+import com.netflix.concurrency.limits.limit.Gradient2Limit;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitConfigTest {
+
+    @Test
+    void limit_ShouldBuildGradient_WhenNoTimeoutIsSet() {
+        assertThat(ConcurrencyLimitConfig.limit("reads", "gradient", 50, 10, 200, null))
+                .isInstanceOf(Gradient2Limit.class);
+    }
+
+    @Test
+    void limit_ShouldReject_WhenTimeoutIsSetForGradient() {
+        assertThatThrownBy(() -> ConcurrencyLimitConfig.limit("reads", "gradient", 50, 10, 200,
+                Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("products.concurrency-limit.reads.timeout");
+    }
+
+    @Test
+    void limit_ShouldBuildAimd_WithOrWithoutTimeout() {
+        assertThat(ConcurrencyLimitConfig.limit("writes", "aimd", 10, 2, 50, Duration.ofMillis(500)))
+                .isInstanceOf(AIMDLimit.class);
+        assertThat(ConcurrencyLimitConfig.limit("writes", "aimd", 10, 2, 50, null))
+                .isInstanceOf(AIMDLimit.class);
+    }
+
+    @Test
+    void limit_ShouldReject_WhenAlgorithmIsUnknown() {
+        assertThatThrownBy(() -> ConcurrencyLimitConfig.limit("reads", "vegas", 50, 10, 200, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("vegas");
+    }
+}
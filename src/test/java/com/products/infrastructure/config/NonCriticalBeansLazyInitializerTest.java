@@ -0,0 +1,76 @@
+package com.products.infrastructure.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NonCriticalBeansLazyInitializerTest {
+
+    private static final String NON_CRITICAL_PREFIX = NonCriticalBeansLazyInitializerTest.class.getName() + "$NonCritical";
+
+    private DefaultListableBeanFactory beanFactory;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new DefaultListableBeanFactory();
+    }
+
+    @Test
+    void postProcessBeanFactory_ShouldDeferOnlyBeansMatchingAPrefix() {
+        beanFactory.registerBeanDefinition("docs", new RootBeanDefinition(NonCriticalDocs.class));
+        beanFactory.registerBeanDefinition("service", new RootBeanDefinition(CriticalService.class));
+
+        new NonCriticalBeansLazyInitializer(List.of(NON_CRITICAL_PREFIX)).postProcessBeanFactory(beanFactory);
+
+        assertThat(beanFactory.getBeanDefinition("docs").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("service").isLazyInit()).isFalse();
+    }
+
+    @Test
+    void postProcessBeanFactory_ShouldDeferBeansDeclaredByANonCriticalConfiguration() {
+        beanFactory.registerBeanDefinition("docsConfig", new RootBeanDefinition(NonCriticalDocsConfig.class));
+        final RootBeanDefinition title = new RootBeanDefinition();
+        title.setFactoryBeanName("docsConfig");
+        title.setFactoryMethodName("title");
+        beanFactory.registerBeanDefinition("title", title);
+
+        new NonCriticalBeansLazyInitializer(List.of(NON_CRITICAL_PREFIX)).postProcessBeanFactory(beanFactory);
+
+        assertThat(beanFactory.getBeanDefinition("title").isLazyInit()).isTrue();
+    }
+
+    @Test
+    void postProcessBeanFactory_ShouldKeepSmartInitializingSingletonsEager() {
+        beanFactory.registerBeanDefinition("warmup", new RootBeanDefinition(NonCriticalWarmup.class));
+
+        new NonCriticalBeansLazyInitializer(List.of(NON_CRITICAL_PREFIX)).postProcessBeanFactory(beanFactory);
+
+        assertThat(beanFactory.getBeanDefinition("warmup").isLazyInit()).isFalse();
+    }
+
+    static class NonCriticalDocs {
+    }
+
+    static class CriticalService {
+    }
+
+    static class NonCriticalDocsConfig {
+
+        public String title() {
+            return "Products API";
+        }
+    }
+
+    static class NonCriticalWarmup implements SmartInitializingSingleton {
+
+        @Override
+        public void afterSingletonsInstantiated() {
+        }
+    }
+}
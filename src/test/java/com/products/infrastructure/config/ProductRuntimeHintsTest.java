@@ -0,0 +1,47 @@
+package com.products.infrastructure.config;
+
+import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import com.products.infrastructure.mongo.document.ProductDocument;
+import com.products.infrastructure.postgresql.entity.ProductEntity;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new ProductRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_ShouldExposePersistedTypesToReflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProductEntity.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProductDocument.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS))
+                .accepts(hints);
+    }
+
+    @Test
+    void registerHints_ShouldExposeTheAvroSchemaFieldsOfProductEvent() {
+        assertThat(RuntimeHintsPredicates.reflection().onField(ProductEvent.class, "SCHEMA$")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onField(ProductEvent.class, "MODEL$")).accepts(hints);
+    }
+
+    @Test
+    void registerHints_ShouldExposeKafkaClassesConfiguredByName() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(StringSerializer.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+                .accepts(hints);
+    }
+}
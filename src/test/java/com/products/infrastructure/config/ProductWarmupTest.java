@@ -0,0 +1,87 @@
+package com.products.infrastructure.config;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.infrastructure.cache.ProductAccessStats;
+import com.products.infrastructure.cache.ProductCache;
+import com.products.infrastructure.mapper.ProductMapper;
+import com.products.infrastructure.mongo.document.ProductDocument;
+import com.products.infrastructure.mongo.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.core.env.Environment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductWarmupTest {
+
+    @Mock
+    private ProductAccessStats accessStats;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private Environment environment;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private ProductCache productCache;
+
+    private ProductWarmup warmup;
+
+    @BeforeEach
+    void setUp() {
+        productCache = new ProductCache(Duration.ofSeconds(30), 100, accessStats, meterRegistry);
+        warmup = new ProductWarmup(accessStats, productCache, productRepository, new ProductMapper(), environment);
+        ReflectionTestUtils.setField(warmup, "preloadCount", 3);
+        ReflectionTestUtils.setField(warmup, "accessWindow", Duration.ofHours(24));
+    }
+
+    @Test
+    void preloadCache_ShouldCacheTheActiveHottestProducts() {
+        when(accessStats.hottest(3, Duration.ofHours(24))).thenReturn(List.of(5L, 2L, 9L));
+        when(productRepository.findAllById(List.of(5L, 2L, 9L))).thenReturn(List.of(
+                document(5L, true), document(2L, false), document(9L, true)));
+
+        assertThat(warmup.preloadCache()).containsExactly(5L, 2L, 9L);
+
+        assertThat(productCache.size()).isEqualTo(2);
+        assertThat(productCache.get(5L, id -> Optional.empty())).map(Product::name).contains("Product 5");
+        assertThat(productCache.get(2L, id -> Optional.empty())).isEmpty();
+    }
+
+    @Test
+    void run_ShouldNotCountItsOwnLookupsAndNeverFail() {
+        when(accessStats.hottest(3, Duration.ofHours(24))).thenThrow(new IllegalStateException("Mongo is down"));
+
+        warmup.run(new DefaultApplicationArguments());
+
+        InOrder order = inOrder(accessStats);
+        order.verify(accessStats).suspend();
+        order.verify(accessStats).resume();
+    }
+
+    private static ProductDocument document(Long id, boolean active) {
+        return new ProductDocument(id, "Product " + id, new BigDecimal("19.99"), ProductCategory.BOOKS.name(),
+                active);
+    }
+}
@@ -0,0 +1,49 @@
+package com.products.infrastructure.kafka.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KafkaConfigTest {
+
+    private KafkaConfig kafkaConfig;
+
+    @BeforeEach
+    void setUp() {
+        kafkaConfig = new KafkaConfig();
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", "localhost:9092");
+        ReflectionTestUtils.setField(kafkaConfig, "schemaRegistryUrl", "http://localhost:8085");
+        ReflectionTestUtils.setField(kafkaConfig, "compressionType", "zstd");
+        ReflectionTestUtils.setField(kafkaConfig, "lingerMs", 20);
+        ReflectionTestUtils.setField(kafkaConfig, "batchSize", 262144);
+        ReflectionTestUtils.setField(kafkaConfig, "maxInFlightRequests", 5);
+    }
+
+    @Test
+    void producerConfigs_ShouldApplyBatchingAndCompressionSettings() {
+        Map<String, Object> configs = kafkaConfig.producerConfigs();
+
+        assertThat(configs)
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd")
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 20)
+                .containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, 262144)
+                .containsEntry(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5)
+                .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true)
+                .containsEntry(ProducerConfig.ACKS_CONFIG, "all");
+    }
+
+    @Test
+    void producerConfigs_ShouldRejectTooManyInFlightRequestsWithIdempotence() {
+        ReflectionTestUtils.setField(kafkaConfig, "maxInFlightRequests", 10);
+
+        assertThatThrownBy(() -> kafkaConfig.producerConfigs())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("between 1 and 5");
+    }
+}
@@ -2,6 +2,7 @@ package com.products.infrastructure.kafka.consumer;
 
 import com.products.domain.model.Product;
 import com.products.domain.model.ProductCategory;
+import com.products.domain.port.ProductFacetPort;
 import com.products.domain.port.ProductMongoPort;
 import com.products.infrastructure.kafka.avro.generated.ProductEvent;
 import com.products.infrastructure.mapper.ProductMapper;
@@ -14,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -24,6 +26,9 @@ class ProductConsumerTest {
     @Mock
     private ProductMongoPort productMongoPort;
 
+    @Mock
+    private ProductFacetPort productFacetPort;
+
     @Mock
     private ProductMapper productMapper;
 
@@ -62,11 +67,26 @@ class ProductConsumerTest {
         long offset = 123L;
 
         when(productMapper.avroToDomain(productEvent)).thenReturn(product);
+        when(productMongoPort.saveAndGetPrevious(product)).thenReturn(Optional.empty());
 
         productConsumer.consume(productEvent, key, topic, partition, offset, acknowledgment);
 
         verify(productMapper).avroToDomain(productEvent);
-        verify(productMongoPort).save(product);
+        verify(productMongoPort).saveAndGetPrevious(product);
+        verify(productFacetPort).recordChange(null, product);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void consume_ShouldRecordFacetChangeAgainstPreviousState() {
+        Product previous = new Product(1L, "Test Product", BigDecimal.valueOf(99.99), ProductCategory.BOOKS, true);
+
+        when(productMapper.avroToDomain(productEvent)).thenReturn(product);
+        when(productMongoPort.saveAndGetPrevious(product)).thenReturn(Optional.of(previous));
+
+        productConsumer.consume(productEvent, "1", "products_changes", 0, 124L, acknowledgment);
+
+        verify(productFacetPort).recordChange(previous, product);
         verify(acknowledgment).acknowledge();
     }
 
@@ -82,7 +102,7 @@ class ProductConsumerTest {
         productConsumer.consume(productEvent, key, topic, partition, offset, acknowledgment);
 
         verify(productMapper).avroToDomain(productEvent);
-        verify(productMongoPort, never()).save(any(Product.class));
+        verify(productMongoPort, never()).saveAndGetPrevious(any(Product.class));
         verify(acknowledgment).acknowledge();
     }
 
@@ -94,12 +114,13 @@ class ProductConsumerTest {
         long offset = 123L;
 
         when(productMapper.avroToDomain(productEvent)).thenReturn(product);
-        doThrow(new RuntimeException("Database error")).when(productMongoPort).save(product);
+        doThrow(new RuntimeException("Database error")).when(productMongoPort).saveAndGetPrevious(product);
 
         productConsumer.consume(productEvent, key, topic, partition, offset, acknowledgment);
 
         verify(productMapper).avroToDomain(productEvent);
-        verify(productMongoPort).save(product);
+        verify(productMongoPort).saveAndGetPrevious(product);
+        verify(productFacetPort, never()).recordChange(any(), any());
         verify(acknowledgment).acknowledge();
     }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.products.infrastructure.kafka.consumer;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.domain.port.ProductFacetPort;
+import com.products.domain.port.ProductMongoPort;
+import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import com.products.infrastructure.mapper.ProductMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSnapshotBootstrapTest {
+
+    private static final TopicPartition CHANGES_0 = new TopicPartition("products_changes", 0);
+    private static final TopicPartition CHANGES_1 = new TopicPartition("products_changes", 1);
+    private static final TopicPartition SNAPSHOT_0 = new TopicPartition("products_snapshot", 0);
+    private static final TopicPartition SNAPSHOT_1 = new TopicPartition("products_snapshot", 1);
+
+    @Mock
+    private ConsumerFactory<String, Object> consumerFactory;
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private MessageListenerContainer listenerContainer;
+
+    @Mock
+    private ProductMongoPort productMongoPort;
+
+    @Mock
+    private ProductFacetPort productFacetPort;
+
+    private MockConsumer<String, Object> changesConsumer;
+
+    private final Map<TopicPartition, OffsetAndMetadata> committedOffsets = new HashMap<>();
+
+    private ProductSnapshotBootstrap bootstrap;
+
+    @BeforeEach
+    void setUp() {
+        changesConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+                committedOffsets.putAll(offsets);
+                super.commitSync(offsets);
+            }
+        };
+        changesConsumer.updatePartitions("products_changes", List.of(partitionInfo(CHANGES_0), partitionInfo(CHANGES_1)));
+        changesConsumer.updatePartitions("products_snapshot",
+                List.of(partitionInfo(SNAPSHOT_0), partitionInfo(SNAPSHOT_1)));
+        changesConsumer.updateEndOffsets(Map.of(CHANGES_0, 40L, CHANGES_1, 25L));
+
+        when(consumerFactory.createConsumer(ProductConsumer.GROUP_ID, "snapshot-bootstrap", null))
+                .thenReturn(changesConsumer);
+        when(listenerRegistry.getListenerContainer(ProductConsumer.LISTENER_ID)).thenReturn(listenerContainer);
+
+        bootstrap = new ProductSnapshotBootstrap(consumerFactory, listenerRegistry, productMongoPort,
+                productFacetPort, new ProductMapper(), 2, 1000);
+    }
+
+    @Test
+    void bootstrap_ShouldLoadLatestStatePerProductThenCommitChangesEndAndStartListener() throws Exception {
+        MockConsumer<String, Object> reader0 = reader(SNAPSHOT_0,
+                event(1L, "Laptop", "999.99"), event(2L, "Mouse", "25.00"), event(1L, "Laptop", "899.99"));
+        MockConsumer<String, Object> reader1 = reader(SNAPSHOT_1, event(3L, "Keyboard", "159.99"));
+        when(consumerFactory.createConsumer(isNull(), eq("snapshot-reader"), eq("-0"))).thenReturn(reader0);
+        when(consumerFactory.createConsumer(isNull(), eq("snapshot-reader"), eq("-1"))).thenReturn(reader1);
+
+        bootstrap.bootstrap();
+
+        verify(productMongoPort).saveAll(List.of(product(1L, "Laptop", "899.99"), product(2L, "Mouse", "25.00")));
+        verify(productMongoPort).saveAll(List.of(product(3L, "Keyboard", "159.99")));
+        verify(productFacetPort).rebuild();
+        assertThat(committedOffsets)
+                .containsEntry(CHANGES_0, new OffsetAndMetadata(40L))
+                .containsEntry(CHANGES_1, new OffsetAndMetadata(25L));
+        verify(listenerContainer).start();
+    }
+
+    @Test
+    void bootstrap_ShouldOnlyStartListener_WhenGroupAlreadyHasOffsets() throws Exception {
+        changesConsumer.commitSync(Map.of(CHANGES_0, new OffsetAndMetadata(12L)));
+
+        bootstrap.bootstrap();
+
+        verify(productMongoPort, never()).saveAll(any());
+        verify(productFacetPort, never()).rebuild();
+        verify(listenerContainer).start();
+    }
+
+    private MockConsumer<String, Object> reader(TopicPartition partition, ProductEvent... events) {
+        MockConsumer<String, Object> reader = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        reader.updateBeginningOffsets(Map.of(partition, 0L));
+        reader.updateEndOffsets(Map.of(partition, (long) events.length));
+        reader.schedulePollTask(() -> {
+            for (int offset = 0; offset < events.length; offset++) {
+                reader.addRecord(new ConsumerRecord<>(partition.topic(), partition.partition(), offset,
+                        String.valueOf(events[offset].getId()), events[offset]));
+            }
+        });
+        return reader;
+    }
+
+    private static PartitionInfo partitionInfo(TopicPartition partition) {
+        return new PartitionInfo(partition.topic(), partition.partition(), null, null, null);
+    }
+
+    private static ProductEvent event(Long id, String name, String price) {
+        return new ProductEvent(id, name, new BigDecimal(price), "ELECTRONICS", true, 0L);
+    }
+
+    private static Product product(Long id, String name, String price) {
+        return new Product(id, name, new BigDecimal(price), ProductCategory.ELECTRONICS, true, 0L);
+    }
+}
@@ -0,0 +1,128 @@
+package com.products.infrastructure.kafka.producer;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.infrastructure.adapter.ProductTransactionAdapter;
+import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import com.products.infrastructure.kafka.config.KafkaTopics;
+import com.products.infrastructure.kafka.serialization.PinnedAvroSchema;
+import com.products.infrastructure.kafka.serialization.PinnedAvroSerializer;
+import com.products.infrastructure.kafka.serialization.ProductEventCodec;
+import com.products.infrastructure.mapper.ProductMapper;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EmbeddedKafka(partitions = 1, topics = {KafkaTopics.PRODUCTS_CHANGES, KafkaTopics.PRODUCTS_SNAPSHOT},
+        brokerProperties = {
+                "transaction.state.log.replication.factor=1",
+                "transaction.state.log.min.isr=1"})
+class ProductProducerTransactionTest {
+
+    private final EmbeddedKafkaBroker broker;
+
+    private EmbeddedDatabase database;
+    private DefaultKafkaProducerFactory<String, Object> producerFactory;
+    private ProductTransactionAdapter transactionAdapter;
+    private ProductProducer productProducer;
+
+    ProductProducerTransactionTest(final EmbeddedKafkaBroker broker) {
+        this.broker = broker;
+    }
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("tx-" + UUID.randomUUID())
+                .build();
+
+        final Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        producerFactory = new DefaultKafkaProducerFactory<>(producerProps, new StringSerializer(),
+                new PinnedAvroSerializer(new PinnedAvroSchema(ProductEvent.getClassSchema(), 1),
+                        new ProductEventCodec()));
+        producerFactory.setTransactionIdPrefix("products-tx-test-");
+
+        transactionAdapter = new ProductTransactionAdapter(new DataSourceTransactionManager(database));
+        productProducer = new ProductProducer(new KafkaTemplate<>(producerFactory), new ProductMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        producerFactory.destroy();
+        database.shutdown();
+    }
+
+    @Test
+    void publishEvent_ShouldBeVisibleToReadCommittedConsumers_WhenDatabaseTransactionCommits() {
+        final Product committed = new Product(1L, "Committed", new BigDecimal("10.00"), ProductCategory.BOOKS, true);
+        final Product rolledBack = new Product(2L, "Rolled back", new BigDecimal("20.00"), ProductCategory.BOOKS, true);
+
+        assertThatThrownBy(() -> transactionAdapter.runInTransaction(() -> {
+            productProducer.publishEvent(rolledBack);
+            throw new IllegalStateException("database write failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        transactionAdapter.runInTransaction(() -> productProducer.publishEvent(committed));
+
+        // The broker is shared by the tests of this class, so only look for these two products
+        assertThat(readCommittedKeys(KafkaTopics.PRODUCTS_CHANGES)).contains("1").doesNotContain("2");
+        assertThat(readCommittedKeys(KafkaTopics.PRODUCTS_SNAPSHOT)).contains("1").doesNotContain("2");
+    }
+
+    @Test
+    void publishEventsAndWait_ShouldCommitBatchInOwnTransaction_WhenNoDatabaseTransactionIsActive() {
+        productProducer.publishEventsAndWait(List.of(
+                new Product(3L, "First", new BigDecimal("10.00"), ProductCategory.BOOKS, true),
+                new Product(4L, "Second", new BigDecimal("20.00"), ProductCategory.BOOKS, false)));
+
+        assertThat(readCommittedKeys(KafkaTopics.PRODUCTS_CHANGES)).contains("3", "4");
+    }
+
+    private List<String> readCommittedKeys(final String topic) {
+        final Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("tx-" + topic, "false", broker);
+        consumerProps.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        final List<String> keys = new ArrayList<>();
+        try (Consumer<String, byte[]> consumer = new KafkaConsumer<>(consumerProps,
+                new StringDeserializer(), new ByteArrayDeserializer())) {
+            broker.consumeFromAnEmbeddedTopic(consumer, topic);
+            // The committed record is followed by its commit marker, so reading stops once the topic goes quiet
+            ConsumerRecords<String, byte[]> records = consumer.poll(Duration.ofSeconds(10));
+            while (!records.isEmpty()) {
+                records.forEach(record -> keys.add(record.key()));
+                records = consumer.poll(Duration.ofSeconds(1));
+            }
+        }
+        return keys;
+    }
+}
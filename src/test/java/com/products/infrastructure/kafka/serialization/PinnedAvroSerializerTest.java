@@ -0,0 +1,113 @@
+package com.products.infrastructure.kafka.serialization;
+
+import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import io.confluent.kafka.schemaregistry.avro.AvroSchema;
+import io.confluent.kafka.schemaregistry.client.MockSchemaRegistryClient;
+import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PinnedAvroSerializerTest {
+
+    private static final String TOPIC = "products_changes";
+    private static final String SUBJECT = "products_changes-value";
+
+    @Mock
+    private Deserializer<Object> fallback;
+
+    private SchemaRegistryClient registry;
+
+    private PinnedAvroSchema pinnedSchema;
+
+    @BeforeEach
+    void setUp() {
+        registry = new MockSchemaRegistryClient();
+        pinnedSchema = PinnedAvroSchema.resolve(registry, SUBJECT, ProductEvent.getClassSchema(), true);
+    }
+
+    @Test
+    void resolve_ShouldReuseTheRegisteredId() throws Exception {
+        PinnedAvroSchema lookedUp = PinnedAvroSchema.resolve(registry, SUBJECT, ProductEvent.getClassSchema(), false);
+
+        assertThat(lookedUp.id()).isEqualTo(pinnedSchema.id());
+        assertThat(registry.getId(SUBJECT, new AvroSchema(ProductEvent.getClassSchema()))).isEqualTo(pinnedSchema.id());
+    }
+
+    @Test
+    void resolve_ShouldFail_WhenSchemaIsNotRegisteredAndAutoRegisterIsOff() {
+        assertThatThrownBy(() -> PinnedAvroSchema.resolve(new MockSchemaRegistryClient(), SUBJECT,
+                ProductEvent.getClassSchema(), false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(SUBJECT);
+    }
+
+    @Test
+    void serialize_ShouldWriteWireFormatThatRoundTrips() {
+        ProductEvent event = productEvent();
+
+        byte[] bytes = new PinnedAvroSerializer(pinnedSchema).serialize(TOPIC, event);
+        Object read = new PinnedAvroDeserializer(pinnedSchema, fallback).deserialize(TOPIC, bytes);
+
+        ByteBuffer header = ByteBuffer.wrap(bytes);
+        assertThat(header.get()).isEqualTo((byte) 0);
+        assertThat(header.getInt()).isEqualTo(pinnedSchema.id());
+        assertThat(read).isEqualTo(event);
+        verifyNoInteractions(fallback);
+    }
+
+    @Test
+    void serialize_ShouldReturnIndependentArrays_WhenTheBufferIsReused() {
+        PinnedAvroSerializer serializer = new PinnedAvroSerializer(pinnedSchema, new ProductEventCodec());
+        PinnedAvroDeserializer deserializer = new PinnedAvroDeserializer(pinnedSchema, new ProductEventCodec(),
+                fallback);
+        ProductEvent other = new ProductEvent(2L, "Mouse", new BigDecimal("25.00"), "ELECTRONICS", false, 1L);
+
+        byte[] first = serializer.serialize(TOPIC, productEvent());
+        byte[] second = serializer.serialize(TOPIC, other);
+
+        assertThat(deserializer.deserialize(TOPIC, first)).isEqualTo(productEvent());
+        assertThat(deserializer.deserialize(TOPIC, second)).isEqualTo(other);
+    }
+
+    @Test
+    void deserialize_ShouldDelegate_WhenWrittenWithAnotherSchemaId() {
+        byte[] bytes = new PinnedAvroSerializer(new PinnedAvroSchema(ProductEvent.getClassSchema(), 99))
+                .serialize(TOPIC, productEvent());
+        when(fallback.deserialize(TOPIC, bytes)).thenReturn(productEvent());
+
+        Object read = new PinnedAvroDeserializer(pinnedSchema, fallback).deserialize(TOPIC, bytes);
+
+        assertThat(read).isEqualTo(productEvent());
+    }
+
+    @Test
+    void deserialize_ShouldRejectUnknownMagicByte() {
+        assertThatThrownBy(() -> new PinnedAvroDeserializer(pinnedSchema, fallback)
+                .deserialize(TOPIC, new byte[] {1, 0, 0, 0, 1, 2}))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    private ProductEvent productEvent() {
+        return ProductEvent.newBuilder()
+                .setId(1L)
+                .setName("Laptop")
+                .setPrice(new BigDecimal("1299.99"))
+                .setCategory("ELECTRONICS")
+                .setActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.products.infrastructure.kafka.serialization;
+
+import com.products.infrastructure.kafka.avro.generated.ProductEvent;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductEventCodecTest {
+
+    private final ProductEventCodec codec = new ProductEventCodec();
+
+    @Test
+    void write_ShouldProduceTheSameBytesAsSpecificDatumWriter() throws IOException {
+        ProductEvent event = new ProductEvent(42L, "Mechanical Keyboard", new BigDecimal("159.90"), "ELECTRONICS",
+                true, 3L);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        BinaryEncoder specificEncoder = EncoderFactory.get().directBinaryEncoder(expected, null);
+        new SpecificDatumWriter<ProductEvent>(ProductEvent.getClassSchema()).write(event, specificEncoder);
+
+        assertThat(encode(event)).isEqualTo(expected.toByteArray());
+    }
+
+    @Test
+    void read_ShouldRoundTripAndRescaleThePrice() throws IOException {
+        ProductEvent event = new ProductEvent(1L, "Book: Clean Code", new BigDecimal("45.9"), "BOOKS", false, 4L);
+
+        ProductEvent read = decode(encode(event), null);
+
+        assertThat(read.getId()).isEqualTo(1L);
+        assertThat(read.getName()).isEqualTo("Book: Clean Code");
+        assertThat(read.getPrice()).isEqualTo(new BigDecimal("45.90"));
+        assertThat(read.getCategory()).isEqualTo("BOOKS");
+        assertThat(read.getActive()).isFalse();
+        assertThat(read.getVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    void read_ShouldNotReuseTheRecordInstance() throws IOException {
+        ProductEvent reuse = new ProductEvent(7L, "Old", BigDecimal.ONE, "BOOKS", true, 0L);
+        byte[] bytes = encode(new ProductEvent(8L, "New", BigDecimal.TEN, "BOOKS", true, 1L));
+
+        ProductEvent read = decode(bytes, reuse);
+
+        assertThat(read).isNotSameAs(reuse);
+        assertThat(reuse.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void write_ShouldRejectPricesThatNeedRounding() {
+        ProductEvent event = new ProductEvent(1L, "Gum", new BigDecimal("0.999"), "BOOKS", true, 0L);
+
+        assertThatThrownBy(() -> encode(event)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void setSchema_ShouldRejectOtherSchemas() {
+        assertThatThrownBy(() -> codec.setSchema(Schema.create(Schema.Type.STRING)))
+                .isInstanceOf(AvroTypeException.class);
+    }
+
+    private byte[] encode(ProductEvent event) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+        codec.write(event, encoder);
+        return out.toByteArray();
+    }
+
+    private ProductEvent decode(byte[] bytes, ProductEvent reuse) throws IOException {
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(bytes, null);
+        return (ProductEvent) codec.read(reuse, decoder);
+    }
+}
@@ -1,14 +1,20 @@
 package com.products.infrastructure.mapper;
 
+import com.products.domain.model.CategoryFacet;
 import com.products.domain.model.Product;
 import com.products.domain.model.ProductCategory;
+import com.products.domain.model.ProductFacets;
 import com.products.infrastructure.dto.ProductRequestDTO;
 import com.products.infrastructure.dto.ProductResponseDTO;
 import com.products.infrastructure.postgresql.entity.ProductEntity;
 import com.products.infrastructure.kafka.avro.generated.ProductEvent;
 import com.products.infrastructure.mongo.document.ProductDocument;
+import com.products.infrastructure.mongo.document.ProductProjectionDocument;
 
+import com.products.domain.model.PaginatedResult;
 import com.products.domain.model.PaginationQuery;
+import com.products.infrastructure.dto.ProductFacetsResponseDTO;
+import com.products.infrastructure.dto.ProductPageResponseDTO;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -16,6 +22,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -227,6 +234,50 @@ class ProductMapperTest {
         assertThat(result.sortDir()).isEqualTo("asc");
     }
 
+    @Test
+    void toPageResponseDTO_FullView_ShouldIncludePageInfo() {
+        PaginatedResult<Product> paginatedResult = new PaginatedResult<>(
+                List.of(new Product(1L, "Laptop", BigDecimal.valueOf(1000), ProductCategory.ELECTRONICS, true)),
+                "1", null, true, false, 1, 20);
+
+        ProductPageResponseDTO result = mapper.toPageResponseDTO(paginatedResult);
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.nextCursor()).isEqualTo("1");
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.pageInfo()).isNotNull();
+        assertThat(result.pageInfo().nextCursor()).isEqualTo("1");
+        assertThat(result.pageInfo().limit()).isEqualTo(20);
+    }
+
+    @Test
+    void toPageResponseDTO_LeanView_ShouldOmitPageInfo() {
+        PaginatedResult<Product> paginatedResult = new PaginatedResult<>(
+                List.of(new Product(1L, "Laptop", BigDecimal.valueOf(1000), ProductCategory.ELECTRONICS, true)),
+                "1", null, true, false, 1, 20);
+
+        ProductPageResponseDTO result = mapper.toPageResponseDTO(paginatedResult, "LEAN");
+
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.nextCursor()).isEqualTo("1");
+        assertThat(result.size()).isEqualTo(1);
+        assertThat(result.pageInfo()).isNull();
+    }
+
+    @Test
+    void toFacetsResponseDTO_ShouldIncludeTotals() {
+        ProductFacets facets = new ProductFacets(List.of(
+                new CategoryFacet(ProductCategory.ELECTRONICS, 3, 1),
+                new CategoryFacet(ProductCategory.BOOKS, 2, 0)));
+
+        ProductFacetsResponseDTO result = mapper.toFacetsResponseDTO(facets);
+
+        assertThat(result.categories()).hasSize(2);
+        assertThat(result.categories().getFirst().totalCount()).isEqualTo(4);
+        assertThat(result.activeCount()).isEqualTo(5);
+        assertThat(result.inactiveCount()).isEqualTo(1);
+    }
+
     @Test
     void domainToAvro_ShouldConvertProductToAvro() {
         Product product = new Product(
@@ -304,6 +355,20 @@ class ProductMapperTest {
         assertTrue(result.active());
     }
 
+    @Test
+    void projectionToDomain_ShouldKeepUnselectedFieldsNull() {
+        ProductProjectionDocument projection = new ProductProjectionDocument(
+                1L, "Test Product", BigDecimal.valueOf(99.99), null, null);
+
+        Product result = mapper.projectionToDomain(projection);
+
+        assertEquals(1L, result.id());
+        assertEquals("Test Product", result.name());
+        assertEquals(BigDecimal.valueOf(99.99), result.price());
+        assertNull(result.category());
+        assertNull(result.active());
+    }
+
     @Test
     void avroToDomainToDcoument_RoundTripConversion_ShouldPreserveData() {
         ProductEvent originalEvent = ProductEvent.newBuilder()
@@ -0,0 +1,51 @@
+package com.products.infrastructure.mongo.config;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MongoConfigTest {
+
+    @Test
+    void converters_ShouldRoundTripPriceWithoutLosingScale() {
+        BigDecimal price = new BigDecimal("149.90");
+
+        Decimal128 stored = MongoConfig.BigDecimalToDecimal128Converter.INSTANCE.convert(price);
+        BigDecimal read = MongoConfig.Decimal128ToBigDecimalConverter.INSTANCE.convert(stored);
+
+        assertThat(stored).isEqualTo(Decimal128.parse("149.90"));
+        assertThat(read).isEqualTo(price);
+    }
+
+    @Test
+    void mongoCustomConversions_ShouldWriteBigDecimalAsDecimal128() {
+        assertThat(new MongoConfig().mongoCustomConversions().getCustomWriteTarget(BigDecimal.class))
+                .contains(Decimal128.class);
+    }
+
+    @Test
+    void mongoOperationSettings_ShouldIgnoreMaxStaleness_WhenReadPreferenceIsPrimary() {
+        MongoOperationSettings settings = new MongoConfig().mongoOperationSettings(
+                "nearest", Duration.ofSeconds(90), "primary", "majority", true);
+
+        assertThat(settings.listingReadPreference()).isEqualTo(ReadPreference.nearest(90, TimeUnit.SECONDS));
+        assertThat(settings.lookupReadPreference()).isEqualTo(ReadPreference.primary());
+        assertThat(settings.projectionWriteConcern()).isEqualTo(WriteConcern.MAJORITY.withJournal(true));
+    }
+
+    @Test
+    void mongoOperationSettings_ShouldRejectUnknownWriteConcern() {
+        assertThatThrownBy(() -> new MongoConfig().mongoOperationSettings(
+                "primary", Duration.ZERO, "primary", "w7x", false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown write concern 'w7x'");
+    }
+}
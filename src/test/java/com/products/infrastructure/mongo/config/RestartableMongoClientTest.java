@@ -0,0 +1,81 @@
+package com.products.infrastructure.mongo.config;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RestartableMongoClientTest {
+
+    @Mock
+    private MongoClient firstClient;
+
+    @Mock
+    private MongoClient secondClient;
+
+    @Mock
+    private MongoDatabase database;
+
+    @Test
+    void client_ShouldDelegateToTheCurrentClient() {
+        when(firstClient.getDatabase("products_db")).thenReturn(database);
+        final RestartableMongoClient restartable = restartable();
+
+        assertThat(restartable.client().getDatabase("products_db")).isSameAs(database);
+        assertThat(restartable.isRunning()).isTrue();
+    }
+
+    @Test
+    void stop_ShouldCloseTheClientAndRejectCallsUntilStarted() {
+        final RestartableMongoClient restartable = restartable();
+
+        restartable.stop();
+
+        verify(firstClient).close();
+        assertThat(restartable.isRunning()).isFalse();
+        assertThatThrownBy(() -> restartable.client().getDatabase("products_db"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void start_ShouldOpenANewClientAfterAStop() {
+        when(secondClient.getDatabase("products_db")).thenReturn(database);
+        final RestartableMongoClient restartable = restartable();
+
+        restartable.stop();
+        restartable.start();
+
+        assertThat(restartable.client().getDatabase("products_db")).isSameAs(database);
+        assertThat(restartable.isRunning()).isTrue();
+    }
+
+    @Test
+    void close_ShouldStopInsteadOfClosingTheProxyForGood() {
+        final RestartableMongoClient restartable = restartable();
+
+        restartable.client().close();
+        restartable.start();
+
+        verify(firstClient).close();
+        verify(secondClient, never()).close();
+        assertThat(restartable.isRunning()).isTrue();
+    }
+
+    private RestartableMongoClient restartable() {
+        final Queue<MongoClient> clients = new ArrayDeque<>(List.of(firstClient, secondClient));
+        return new RestartableMongoClient(clients::remove);
+    }
+}
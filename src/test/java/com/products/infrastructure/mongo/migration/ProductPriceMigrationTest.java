@@ -0,0 +1,50 @@
+package com.products.infrastructure.mongo.migration;
+
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductPriceMigrationTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private ProductPriceMigration migration;
+
+    @Test
+    void migrate_ShouldConvertOnlyStringPricesServerSide() {
+        when(mongoTemplate.updateMulti(any(Query.class), any(AggregationUpdate.class), eq("products")))
+                .thenReturn(UpdateResult.acknowledged(3, 3L, null));
+
+        long migrated = migration.migrate();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<AggregationUpdate> update = ArgumentCaptor.forClass(AggregationUpdate.class);
+        verify(mongoTemplate).updateMulti(query.capture(), update.capture(), eq("products"));
+
+        assertThat(migrated).isEqualTo(3);
+        assertThat(query.getValue().getQueryObject().toJson())
+                .isEqualTo("{\"price\": {\"$type\": [\"string\"]}}");
+        assertThat(update.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT))
+                .singleElement()
+                .extracting(Document::toJson)
+                .isEqualTo("{\"$set\": {\"price\": {\"$toDecimal\": \"$price\"}}}");
+    }
+}
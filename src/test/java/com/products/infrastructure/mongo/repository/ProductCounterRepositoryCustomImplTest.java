@@ -0,0 +1,45 @@
+package com.products.infrastructure.mongo.repository;
+
+import com.products.infrastructure.mongo.document.ProductCounterDocument;
+import com.products.infrastructure.mongo.document.ProductDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCounterRepositoryCustomImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    void rebuildFromProducts_ShouldSwapInRecountedCountersWithOut() {
+        when(mongoTemplate.getCollectionName(ProductCounterDocument.class)).thenReturn("product_counters");
+        ProductCounterRepositoryCustomImpl repository = new ProductCounterRepositoryCustomImpl(mongoTemplate);
+
+        repository.rebuildFromProducts();
+
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq(ProductDocument.class), eq(Document.class));
+        List<Document> pipeline = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertThat(pipeline).extracting(stage -> stage.keySet().iterator().next())
+                .containsExactly("$group", "$project", "$out");
+        assertThat(pipeline.get(2).getString("$out")).isEqualTo("product_counters");
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(ProductCounterDocument.class));
+    }
+}
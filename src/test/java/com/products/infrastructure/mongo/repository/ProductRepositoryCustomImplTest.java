@@ -0,0 +1,170 @@
+package com.products.infrastructure.mongo.repository;
+
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.FindOneAndReplaceOptions;
+import com.products.infrastructure.deadline.RequestDeadline;
+import com.products.infrastructure.deadline.RequestDeadlineExceededException;
+import com.products.infrastructure.mongo.config.MongoConfig;
+import com.products.infrastructure.mongo.config.MongoOperationSettings;
+import com.products.infrastructure.mongo.document.ProductDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.CollectionCallback;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductRepositoryCustomImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoCollection<Document> collection;
+
+    @Mock
+    private MongoCollection<Document> relaxedCollection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MongoOperationSettings settings = MongoOperationSettings.of(
+            "secondaryPreferred", Duration.ofSeconds(120), "primary", "w1", false);
+
+    private ProductRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ProductRepositoryCustomImpl(mongoTemplate, settings, meterRegistry);
+    }
+
+    @AfterEach
+    void clearDeadline() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void findProductsAfterCursor_ShouldLimitServerTimeToTheRequestDeadline() {
+        ProductSearchCriteria criteria = new ProductSearchCriteria(null, null, true, null, null, null, null,
+                false, false, 11);
+        RequestDeadline.start(Duration.ofSeconds(2));
+
+        repository.findProductsAfterCursor(criteria);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(ProductDocument.class));
+        assertThat(query.getValue().getMeta().getMaxTimeMsec()).isBetween(1_000L, 2_000L);
+    }
+
+    @Test
+    void lookupById_ShouldNotLimitServerTime_WithoutRequestDeadline() {
+        repository.lookupById(1L, true);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(query.capture(), eq(ProductDocument.class));
+        assertThat(query.getValue().getMeta().getMaxTimeMsec()).isNull();
+    }
+
+    @Test
+    void lookupById_ShouldReportDeadlineExceeded_WhenServerAbortsTheQuery() {
+        RequestDeadline.start(Duration.ofSeconds(2));
+        when(mongoTemplate.findOne(any(Query.class), eq(ProductDocument.class))).thenThrow(
+                new UncategorizedMongoDbException("timeout", new MongoExecutionTimeoutException(50, "timeout")));
+
+        assertThatThrownBy(() -> repository.lookupById(1L, true))
+                .isInstanceOf(RequestDeadlineExceededException.class);
+    }
+
+    @Test
+    void findProductsAfterCursor_ShouldReadFromSecondaryWithinMaxStaleness() {
+        ProductSearchCriteria criteria = new ProductSearchCriteria(null, null, true, null, null, null, null,
+                false, false, 11);
+
+        repository.findProductsAfterCursor(criteria);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(ProductDocument.class));
+        assertThat(query.getValue().getReadPreference())
+                .isEqualTo(ReadPreference.secondaryPreferred(120, TimeUnit.SECONDS));
+        assertThat(meterRegistry.get(ProductRepositoryCustomImpl.OPERATION_TIMER)
+                .tag("operation", "listing").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void lookupById_ShouldReadFromPrimary_WhenActiveOnly() {
+        ProductDocument document = new ProductDocument(1L, "Desk", new BigDecimal("10.00"), "BOOKS", true);
+        when(mongoTemplate.findOne(any(Query.class), eq(ProductDocument.class))).thenReturn(document);
+
+        Optional<ProductDocument> result = repository.lookupById(1L, true);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(query.capture(), eq(ProductDocument.class));
+        assertThat(result).contains(document);
+        assertThat(query.getValue().getReadPreference()).isEqualTo(ReadPreference.primary());
+        assertThat(query.getValue().getQueryObject()).containsEntry("active", true);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replaceAndGetPrevious_ShouldUpsertWithRelaxedWriteConcern() {
+        when(mongoTemplate.getConverter()).thenReturn(converter());
+        when(mongoTemplate.execute(eq(ProductDocument.class), any(CollectionCallback.class)))
+                .thenAnswer(invocation -> invocation.<CollectionCallback<?>>getArgument(1).doInCollection(collection));
+        when(collection.withWriteConcern(WriteConcern.W1.withJournal(false))).thenReturn(relaxedCollection);
+        Document previous = new Document("_id", 1L).append("name", "Old").append("price", Decimal128.parse("9.99"))
+                .append("category", "BOOKS").append("active", true);
+        when(relaxedCollection.findOneAndReplace(any(Bson.class), any(Document.class),
+                any(FindOneAndReplaceOptions.class))).thenReturn(previous);
+
+        Optional<ProductDocument> result = repository.replaceAndGetPrevious(
+                new ProductDocument(1L, "New", new BigDecimal("12.50"), "BOOKS", true));
+
+        ArgumentCaptor<Document> replacement = ArgumentCaptor.forClass(Document.class);
+        ArgumentCaptor<FindOneAndReplaceOptions> options = ArgumentCaptor.forClass(FindOneAndReplaceOptions.class);
+        verify(relaxedCollection).findOneAndReplace(any(Bson.class), replacement.capture(), options.capture());
+        assertThat(replacement.getValue()).containsEntry("price", Decimal128.parse("12.50"));
+        assertThat(options.getValue().isUpsert()).isTrue();
+        assertThat(result).get().extracting(ProductDocument::getName).isEqualTo("Old");
+        assertThat(meterRegistry.get(ProductRepositoryCustomImpl.OPERATION_TIMER)
+                .tags("operation", "projection-write", "mode", "w=1,j=false").timer().count()).isEqualTo(1);
+    }
+
+    private static MappingMongoConverter converter() {
+        MongoCustomConversions conversions = new MongoConfig().mongoCustomConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
@@ -0,0 +1,163 @@
+package com.products.infrastructure.postgresql.cdc;
+
+import com.products.infrastructure.postgresql.cdc.PgOutputMessage.Operation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PgOutputDecoderTest {
+
+    private static final int RELATION_ID = 16384;
+    private static final String[] COLUMNS = {"id", "name", "price", "category", "active"};
+
+    private PgOutputDecoder decoder;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        decoder = new PgOutputDecoder();
+        assertThat(decoder.decode(relation())).isEqualTo(new PgOutputMessage.Ignored('R'));
+    }
+
+    @Test
+    void decode_ShouldReadBeginAndCommit() throws IOException {
+        Message begin = new Message('B').int64(0x16B3748L).int64(123L).int32(742);
+        Message commit = new Message('C').int8(0).int64(0x16B3748L).int64(0x16B3778L).int64(123L);
+
+        assertThat(decoder.decode(begin.buffer())).isEqualTo(new PgOutputMessage.Begin(0x16B3748L, 742));
+        assertThat(decoder.decode(commit.buffer())).isEqualTo(new PgOutputMessage.Commit(0x16B3748L, 0x16B3778L));
+    }
+
+    @Test
+    void decode_ShouldNameInsertedColumnsFromRelation() throws IOException {
+        Message insert = new Message('I').int32(RELATION_ID).int8('N')
+                .tuple("7", "Laptop", "1299.99", "ELECTRONICS", "t");
+
+        PgOutputMessage message = decoder.decode(insert.buffer());
+
+        assertThat(message).isEqualTo(new PgOutputMessage.RowChange(Operation.INSERT, "public", "products",
+                row("7", "Laptop", "1299.99", "ELECTRONICS", "t")));
+    }
+
+    @Test
+    void decode_ShouldSkipOldTupleOfUpdate() throws IOException {
+        Message update = new Message('U').int32(RELATION_ID)
+                .int8('O').tuple("7", "Laptop", "1299.99", "ELECTRONICS", "t")
+                .int8('N').tuple("7", "Laptop", "1299.99", "ELECTRONICS", "f");
+
+        PgOutputMessage message = decoder.decode(update.buffer());
+
+        assertThat(message).isEqualTo(new PgOutputMessage.RowChange(Operation.UPDATE, "public", "products",
+                row("7", "Laptop", "1299.99", "ELECTRONICS", "f")));
+    }
+
+    @Test
+    void decode_ShouldKeepNullsAndLeaveOutUnchangedToastedValues() throws IOException {
+        Message update = new Message('U').int32(RELATION_ID).int8('N')
+                .int16(5).text("7").int8('u').int8('n').text("BOOKS").text("t");
+
+        PgOutputMessage.RowChange change = (PgOutputMessage.RowChange) decoder.decode(update.buffer());
+
+        assertThat(change.values()).containsOnlyKeys("id", "price", "category", "active");
+        assertThat(change.values().get("price")).isNull();
+    }
+
+    @Test
+    void decode_ShouldIgnoreMessagesWithoutRows() throws IOException {
+        Message origin = new Message('O').int64(1L).string("origin");
+
+        assertThat(decoder.decode(origin.buffer())).isEqualTo(new PgOutputMessage.Ignored('O'));
+    }
+
+    @Test
+    void decode_ShouldFail_WhenRelationIsUnknown() throws IOException {
+        Message insert = new Message('I').int32(RELATION_ID + 1).int8('N').tuple("1");
+
+        assertThatThrownBy(() -> decoder.decode(insert.buffer()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Row message for unknown relation " + (RELATION_ID + 1));
+    }
+
+    private static ByteBuffer relation() throws IOException {
+        Message relation = new Message('R').int32(RELATION_ID).string("public").string("products")
+                .int8('d').int16(COLUMNS.length);
+        for (String column : COLUMNS) {
+            relation.int8(column.equals("id") ? 1 : 0).string(column).int32(25).int32(-1);
+        }
+        return relation.buffer();
+    }
+
+    private static Map<String, String> row(String... values) {
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            row.put(COLUMNS[i], values[i]);
+        }
+        return row;
+    }
+
+    private static final class Message {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        Message(char type) throws IOException {
+            out.writeByte(type);
+        }
+
+        Message int8(int value) throws IOException {
+            out.writeByte(value);
+            return this;
+        }
+
+        Message int16(int value) throws IOException {
+            out.writeShort(value);
+            return this;
+        }
+
+        Message int32(int value) throws IOException {
+            out.writeInt(value);
+            return this;
+        }
+
+        Message int64(long value) throws IOException {
+            out.writeLong(value);
+            return this;
+        }
+
+        Message string(String value) throws IOException {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+            out.writeByte(0);
+            return this;
+        }
+
+        Message text(String value) throws IOException {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            out.writeByte('t');
+            out.writeInt(encoded.length);
+            out.write(encoded);
+            return this;
+        }
+
+        Message tuple(String... values) throws IOException {
+            int16(values.length);
+            for (String value : Arrays.asList(values)) {
+                text(value);
+            }
+            return this;
+        }
+
+        ByteBuffer buffer() {
+            return ByteBuffer.wrap(bytes.toByteArray());
+        }
+    }
+}
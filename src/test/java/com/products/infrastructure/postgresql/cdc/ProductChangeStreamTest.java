@@ -0,0 +1,95 @@
+package com.products.infrastructure.postgresql.cdc;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.infrastructure.kafka.producer.ProductProducer;
+import com.products.infrastructure.postgresql.cdc.PgOutputMessage.Operation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.replication.LogSequenceNumber;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductChangeStreamTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ProductProducer productProducer;
+
+    private ProductChangeStream changeStream;
+
+    @BeforeEach
+    void setUp() {
+        changeStream = new ProductChangeStream(jdbcTemplate, productProducer, "jdbc:postgresql://localhost/products",
+                "user", "pass", "products_cdc", "products_publication");
+    }
+
+    @Test
+    void apply_ShouldPublishLastStateOfEachProduct_WhenTransactionCommits() {
+        changeStream.apply(new PgOutputMessage.Begin(100L, 1));
+        changeStream.apply(change(Operation.INSERT, "1", "t"));
+        changeStream.apply(change(Operation.INSERT, "2", "t"));
+        changeStream.apply(change(Operation.UPDATE, "1", "f"));
+
+        LogSequenceNumber acknowledged = changeStream.apply(new PgOutputMessage.Commit(100L, 148L));
+
+        assertThat(acknowledged).isEqualTo(LogSequenceNumber.valueOf(148L));
+        verify(productProducer).publishEventsAndWait(List.of(product(2L, true), product(1L, false)));
+    }
+
+    @Test
+    void apply_ShouldAcknowledgeWithoutPublishing_WhenTransactionHasNoProductChanges() {
+        changeStream.apply(new PgOutputMessage.Begin(100L, 1));
+        changeStream.apply(new PgOutputMessage.RowChange(Operation.INSERT, "public", "audit", Map.of("id", "1")));
+        changeStream.apply(change(Operation.DELETE, "1", "t"));
+
+        LogSequenceNumber acknowledged = changeStream.apply(new PgOutputMessage.Commit(100L, 148L));
+
+        assertThat(acknowledged).isEqualTo(LogSequenceNumber.valueOf(148L));
+        verify(productProducer, never()).publishEventsAndWait(anyList());
+    }
+
+    @Test
+    void apply_ShouldNotAcknowledge_WhenPublishingFails() {
+        doThrow(new RuntimeException("broker down")).when(productProducer).publishEventsAndWait(anyList());
+        changeStream.apply(new PgOutputMessage.Begin(100L, 1));
+        changeStream.apply(change(Operation.INSERT, "1", "t"));
+
+        assertThatThrownBy(() -> changeStream.apply(new PgOutputMessage.Commit(100L, 148L)))
+                .hasMessage("broker down");
+    }
+
+    @Test
+    void toProduct_ShouldParseTextValues() {
+        Product product = ProductChangeStream.toProduct(Map.of(
+                "id", "42", "name", "Desk", "price", "199.90", "category", "CLOTHING", "active", "f",
+                "created_at", "2026-01-01 00:00:00+00"));
+
+        assertThat(product).isEqualTo(new Product(42L, "Desk", new BigDecimal("199.90"), ProductCategory.CLOTHING, false));
+    }
+
+    private static PgOutputMessage change(Operation operation, String id, String active) {
+        return new PgOutputMessage.RowChange(operation, "public", "products", Map.of(
+                "id", id, "name", "Product " + id, "price", "10.00", "category", "BOOKS", "active", active));
+    }
+
+    private static Product product(long id, boolean active) {
+        return new Product(id, "Product " + id, new BigDecimal("10.00"), ProductCategory.BOOKS, active);
+    }
+}
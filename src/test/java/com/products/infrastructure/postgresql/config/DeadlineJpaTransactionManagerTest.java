@@ -0,0 +1,53 @@
+package com.products.infrastructure.postgresql.config;
+
+import com.products.infrastructure.deadline.RequestDeadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineJpaTransactionManagerTest {
+
+    private final DeadlineJpaTransactionManager transactionManager = new DeadlineJpaTransactionManager();
+
+    @AfterEach
+    void clearDeadline() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void determineTimeout_ShouldRoundTheRemainingTimeUpToSeconds() {
+        RequestDeadline.start(Duration.ofMillis(2_300));
+
+        assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition())).isEqualTo(3);
+    }
+
+    @Test
+    void determineTimeout_ShouldKeepAShorterTransactionTimeout() {
+        RequestDeadline.start(Duration.ofSeconds(10));
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setTimeout(2);
+
+        assertThat(transactionManager.determineTimeout(definition)).isEqualTo(2);
+    }
+
+    @Test
+    void determineTimeout_ShouldUseTheDefault_WithoutRequestDeadline() {
+        assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+                .isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+    }
+
+    @Test
+    void determineTimeout_ShouldFail_WhenTheDeadlineHasPassed() {
+        RequestDeadline.start(Duration.ZERO);
+
+        assertThatThrownBy(() -> transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+                .isInstanceOf(TransactionTimedOutException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.products.infrastructure.postgresql.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HikariPoolSizerTest {
+
+    @Test
+    void poolSize_ShouldUseCoresAndSpindles_WhenNoTargetThroughput() {
+        HikariPoolSizer sizer = new HikariPoolSizer(4, 1, 0, 5);
+
+        assertThat(sizer.poolSize()).isEqualTo(9);
+    }
+
+    @Test
+    void poolSize_ShouldCoverTargetThroughput_WhenItNeedsMoreConnections() {
+        // 4000 req/s * 5 ms = 20 connections busy on average
+        HikariPoolSizer sizer = new HikariPoolSizer(4, 1, 4000, 5);
+
+        assertThat(sizer.poolSize()).isEqualTo(20);
+    }
+
+    @Test
+    void postProcessAfterInitialization_ShouldFixPoolSize_WhenBeanIsHikariDataSource() {
+        HikariPoolSizer sizer = new HikariPoolSizer(2, 1, 0, 5);
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+
+            Object result = sizer.postProcessAfterInitialization(dataSource, "dataSource");
+
+            assertThat(result).isSameAs(dataSource);
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(5);
+            assertThat(dataSource.getMinimumIdle()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void postProcessAfterInitialization_ShouldSizePrimaryPool_WhenReplicaIsEnabled() {
+        HikariPoolSizer sizer = new HikariPoolSizer(2, 1, 0, 5);
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+
+            sizer.postProcessAfterInitialization(dataSource, "primaryDataSource");
+
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void postProcessAfterInitialization_ShouldKeepConfiguredSize_WhenBeanIsReplicaPool() {
+        HikariPoolSizer sizer = new HikariPoolSizer(8, 1, 0, 5);
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+            dataSource.setMaximumPoolSize(5);
+
+            sizer.postProcessAfterInitialization(dataSource, "replicaDataSource");
+
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void postProcessAfterInitialization_ShouldLeaveOtherBeansUntouched() {
+        HikariPoolSizer sizer = new HikariPoolSizer(2, 1, 0, 5);
+        Object bean = new Object();
+
+        assertThat(sizer.postProcessAfterInitialization(bean, "other")).isSameAs(bean);
+    }
+}
@@ -0,0 +1,87 @@
+package com.products.infrastructure.postgresql.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void shouldUseReplica_WhenTransactionIsReadOnly() {
+        transactionTemplate.setReadOnly(true);
+
+        String server = transactionTemplate.execute(status -> currentServer());
+
+        assertThat(server).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldUsePrimary_WhenTransactionIsReadWrite() {
+        String server = transactionTemplate.execute(status -> currentServer());
+
+        assertThat(server).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldUsePrimary_WhenNoTransactionIsActive() {
+        assertThat(currentServer()).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldStayOnPrimary_WhenReadOnlyWorkJoinsReadWriteTransaction() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        String server = transactionTemplate.execute(status -> readOnly.execute(inner -> currentServer()));
+
+        assertThat(server).isEqualTo("primary");
+    }
+
+    private String currentServer() {
+        return jdbcTemplate.queryForObject("SELECT name FROM server", String.class);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + UUID.randomUUID())
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE server (name VARCHAR(16))");
+        template.update("INSERT INTO server VALUES (?)", name);
+        return database;
+    }
+}
@@ -3,14 +3,21 @@ package com.products.infrastructure.rest.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.products.application.ProductUseCase;
 import com.products.domain.model.Product;
+import com.products.domain.model.CategoryFacet;
 import com.products.domain.model.ProductCategory;
+import com.products.domain.model.ProductFacets;
+import com.products.domain.model.ProductFields;
 import com.products.domain.model.ProductFilter;
 import com.products.domain.model.PaginatedResult;
 import com.products.domain.model.PaginationQuery;
+import com.products.domain.model.ProductWriteStatus;
+import com.products.infrastructure.dto.CategoryFacetDTO;
 import com.products.infrastructure.dto.PageInfo;
+import com.products.infrastructure.dto.ProductFacetsResponseDTO;
 import com.products.infrastructure.dto.ProductPageResponseDTO;
 import com.products.infrastructure.dto.ProductRequestDTO;
 import com.products.infrastructure.dto.ProductResponseDTO;
+import com.products.infrastructure.dto.ProductWriteStatusDTO;
 import com.products.infrastructure.mapper.ProductMapper;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,12 +33,14 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.hamcrest.Matchers.hasSize;
@@ -112,9 +121,9 @@ class ProductControllerTest {
                 ProductFilter expectedFilter = new ProductFilter("ELECTRONICS", "laptop", true);
 
                 when(productMapper.toPaginationQuery(null, 20, "id", "asc")).thenReturn(expectedPaginationQuery);
-                when(productUseCase.getAllActiveProducts(expectedPaginationQuery, expectedFilter))
+                when(productUseCase.getAllActiveProducts(expectedPaginationQuery, expectedFilter, ProductFields.ALL))
                                 .thenReturn(paginatedResult);
-                when(productMapper.toPageResponseDTO(paginatedResult)).thenReturn(
+                when(productMapper.toPageResponseDTO(paginatedResult, "full")).thenReturn(
                                 new ProductPageResponseDTO(
                                                 Arrays.asList(
                                                                 new ProductResponseDTO(1L, "Laptop",
@@ -144,9 +153,83 @@ class ProductControllerTest {
                                 .andExpect(jsonPath("$.hasPrevious").value(false))
                                 .andExpect(jsonPath("$.nextCursor").value("2"));
 
-                verify(productUseCase).getAllActiveProducts(expectedPaginationQuery, expectedFilter);
+                verify(productUseCase).getAllActiveProducts(expectedPaginationQuery, expectedFilter, ProductFields.ALL);
                 verify(productMapper).toPaginationQuery(null, 20, "id", "asc");
-                verify(productMapper).toPageResponseDTO(paginatedResult);
+                verify(productMapper).toPageResponseDTO(paginatedResult, "full");
+        }
+
+        @Test
+        void getAllActiveProducts_ShouldReturnOnlySelectedFields_WhenFieldsRequested() throws Exception {
+                List<Product> products = List.of(new Product(1L, "Laptop", BigDecimal.valueOf(1000), null, null));
+                PaginatedResult<Product> paginatedResult = new PaginatedResult<>(
+                                products, "1", null, false, false, 1, 20);
+
+                PaginationQuery expectedPaginationQuery = new PaginationQuery(null, 20, "id", "asc");
+                ProductFilter expectedFilter = new ProductFilter(null, null, null);
+                ProductFields expectedFields = ProductFields.of("name,price");
+
+                when(productMapper.toPaginationQuery(null, 20, "id", "asc")).thenReturn(expectedPaginationQuery);
+                when(productUseCase.getAllActiveProducts(expectedPaginationQuery, expectedFilter, expectedFields))
+                                .thenReturn(paginatedResult);
+                when(productMapper.toPageResponseDTO(paginatedResult, "lean")).thenReturn(
+                                new ProductPageResponseDTO(
+                                                List.of(new ProductResponseDTO(1L, "Laptop",
+                                                                BigDecimal.valueOf(1000), null, null)),
+                                                "1", null, false, false, 1, 20, null));
+
+                mockMvc.perform(get("/api/v1/products")
+                                .param("fields", "name,price")
+                                .param("view", "lean"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].name").value("Laptop"))
+                                .andExpect(jsonPath("$.content[0].category").doesNotExist())
+                                .andExpect(jsonPath("$.pageInfo").doesNotExist());
+
+                verify(productUseCase).getAllActiveProducts(expectedPaginationQuery, expectedFilter, expectedFields);
+        }
+
+        @Test
+        void getAllActiveProducts_ShouldFilterByPriceRangeAndSortByPrice() throws Exception {
+                PaginatedResult<Product> paginatedResult = new PaginatedResult<>(
+                                List.of(), null, null, false, false, 0, 20);
+
+                PaginationQuery expectedPaginationQuery = new PaginationQuery(null, 20, "price", "desc");
+                ProductFilter expectedFilter = new ProductFilter(null, null, null, new BigDecimal("10.00"),
+                                new BigDecimal("200"));
+
+                when(productMapper.toPaginationQuery(null, 20, "price", "desc")).thenReturn(expectedPaginationQuery);
+                when(productUseCase.getAllActiveProducts(expectedPaginationQuery, expectedFilter, ProductFields.ALL))
+                                .thenReturn(paginatedResult);
+                when(productMapper.toPageResponseDTO(paginatedResult, "full")).thenReturn(
+                                new ProductPageResponseDTO(List.of(), null, null, false, false, 0, 20,
+                                                new PageInfo(0, 20, false, false, null, null)));
+
+                mockMvc.perform(get("/api/v1/products")
+                                .param("sortBy", "price")
+                                .param("sortDir", "desc")
+                                .param("minPrice", "10.00")
+                                .param("maxPrice", "200"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content", hasSize(0)));
+
+                verify(productUseCase).getAllActiveProducts(expectedPaginationQuery, expectedFilter, ProductFields.ALL);
+        }
+
+        @Test
+        void getProductFacets_ShouldReturnCountsPerCategory() throws Exception {
+                ProductFacets facets = new ProductFacets(List.of(
+                                new CategoryFacet(ProductCategory.ELECTRONICS, 3, 1)));
+
+                when(productUseCase.getFacets()).thenReturn(facets);
+                when(productMapper.toFacetsResponseDTO(facets)).thenReturn(new ProductFacetsResponseDTO(
+                                List.of(new CategoryFacetDTO(ProductCategory.ELECTRONICS, 3, 1, 4)), 3, 1));
+
+                mockMvc.perform(get("/api/v1/products/facets"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.categories", hasSize(1)))
+                                .andExpect(jsonPath("$.categories[0].totalCount").value(4))
+                                .andExpect(jsonPath("$.activeCount").value(3))
+                                .andExpect(jsonPath("$.inactiveCount").value(1));
         }
 
         @Test
@@ -168,6 +251,27 @@ class ProductControllerTest {
                                 .andExpect(jsonPath("$.name").value("Test Product"));
         }
 
+        @Test
+        void getProductById_ShouldReadAtLeastTheTokenVersion_WhenConsistencyTokenIsSent() throws Exception {
+                Long productId = 1L;
+                Product product = new Product(
+                                productId, "Test Product", BigDecimal.valueOf(99.99), ProductCategory.ELECTRONICS,
+                                true, 3L);
+                ProductResponseDTO responseDTO = new ProductResponseDTO(
+                                productId, "Test Product", BigDecimal.valueOf(99.99), ProductCategory.ELECTRONICS,
+                                true);
+
+                when(productUseCase.getActiveProductById(productId, 3L)).thenReturn(product);
+                when(productMapper.domainToResponseDTO(product)).thenReturn(responseDTO);
+
+                mockMvc.perform(get("/api/v1/products/{id}", productId)
+                                .header("X-Consistency-Token", "3"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.id").value(productId));
+
+                verify(productUseCase).getActiveProductById(productId, 3L);
+        }
+
         @Test
         void updateProduct_ShouldReturnUpdatedProduct_WhenValidRequest() throws Exception {
                 Long productId = 1L;
@@ -176,7 +280,8 @@ class ProductControllerTest {
                 Product domainProduct = new Product(
                                 "Updated Product", BigDecimal.valueOf(149.99), ProductCategory.BOOKS);
                 Product updatedProduct = new Product(
-                                productId, "Updated Product", BigDecimal.valueOf(149.99), ProductCategory.BOOKS, true);
+                                productId, "Updated Product", BigDecimal.valueOf(149.99), ProductCategory.BOOKS, true,
+                                3L);
                 ProductResponseDTO responseDTO = new ProductResponseDTO(
                                 productId, "Updated Product", BigDecimal.valueOf(149.99), ProductCategory.BOOKS, true);
 
@@ -188,6 +293,7 @@ class ProductControllerTest {
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(requestDTO)))
                                 .andExpect(status().isOk())
+                                .andExpect(header().string("X-Consistency-Token", "3"))
                                 .andExpect(jsonPath("$.id").value(productId))
                                 .andExpect(jsonPath("$.name").value("Updated Product"));
         }
@@ -209,4 +315,85 @@ class ProductControllerTest {
 
                 verify(productUseCase).deactivateProduct(productDelete);
         }
-}
\ No newline at end of file
+
+        @Test
+        void createProductAsync_ShouldReturnAcceptedWithStatusLocation() throws Exception {
+                ProductRequestDTO requestDTO = new ProductRequestDTO(
+                                "Test Product", BigDecimal.valueOf(99.99), ProductCategory.ELECTRONICS, true);
+                Product domainProduct = new Product(
+                                "Test Product", BigDecimal.valueOf(99.99), ProductCategory.ELECTRONICS);
+                UUID writeId = UUID.randomUUID();
+                ProductWriteStatus pending = ProductWriteStatus.pending(writeId);
+
+                when(productMapper.requestDtoToDomain(any(ProductRequestDTO.class))).thenReturn(domainProduct);
+                when(productUseCase.submitCreate(domainProduct)).thenReturn(pending);
+                when(productMapper.toWriteStatusDTO(pending)).thenReturn(
+                                new ProductWriteStatusDTO(writeId, ProductWriteStatus.State.PENDING, null, null));
+
+                mockMvc.perform(post("/api/v1/products/async")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requestDTO)))
+                                .andExpect(status().isAccepted())
+                                .andExpect(header().string("Location", "/api/v1/products/writes/" + writeId))
+                                .andExpect(jsonPath("$.id").value(writeId.toString()))
+                                .andExpect(jsonPath("$.status").value("PENDING"));
+        }
+
+        @Test
+        void updateProductAsync_ShouldReturnAcceptedWithStatusLocation() throws Exception {
+                Long productId = 1L;
+                ProductRequestDTO requestDTO = new ProductRequestDTO(
+                                "Updated Product", BigDecimal.valueOf(149.99), ProductCategory.BOOKS, true);
+                Product domainProduct = new Product(
+                                "Updated Product", BigDecimal.valueOf(149.99), ProductCategory.BOOKS);
+                UUID writeId = UUID.randomUUID();
+                ProductWriteStatus pending = ProductWriteStatus.pending(writeId);
+
+                when(productMapper.requestDtoToDomain(any(ProductRequestDTO.class))).thenReturn(domainProduct);
+                when(productUseCase.submitUpdate(productId, domainProduct)).thenReturn(pending);
+                when(productMapper.toWriteStatusDTO(pending)).thenReturn(
+                                new ProductWriteStatusDTO(writeId, ProductWriteStatus.State.PENDING, null, null));
+
+                mockMvc.perform(put("/api/v1/products/{id}/async", productId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requestDTO)))
+                                .andExpect(status().isAccepted())
+                                .andExpect(header().string("Location", "/api/v1/products/writes/" + writeId));
+        }
+
+        @Test
+        void getWriteStatus_ShouldReturnProductAndConsistencyToken_WhenCompleted() throws Exception {
+                UUID writeId = UUID.randomUUID();
+                Product product = new Product(
+                                1L, "Test Product", BigDecimal.valueOf(99.99), ProductCategory.ELECTRONICS, true, 0L);
+                ProductWriteStatus completed = ProductWriteStatus.completed(writeId, product);
+                ProductResponseDTO responseDTO = new ProductResponseDTO(
+                                1L, "Test Product", BigDecimal.valueOf(99.99), ProductCategory.ELECTRONICS, true);
+
+                when(productUseCase.getWriteStatus(writeId)).thenReturn(completed);
+                when(productMapper.toWriteStatusDTO(completed)).thenReturn(
+                                new ProductWriteStatusDTO(writeId, ProductWriteStatus.State.COMPLETED, responseDTO, null));
+
+                mockMvc.perform(get("/api/v1/products/writes/{writeId}", writeId))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("X-Consistency-Token", "0"))
+                                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                                .andExpect(jsonPath("$.product.id").value(1))
+                                .andExpect(jsonPath("$.error").doesNotExist());
+        }
+
+        @Test
+        void getWriteStatus_ShouldOmitConsistencyToken_WhenPending() throws Exception {
+                UUID writeId = UUID.randomUUID();
+                ProductWriteStatus pending = ProductWriteStatus.pending(writeId);
+
+                when(productUseCase.getWriteStatus(writeId)).thenReturn(pending);
+                when(productMapper.toWriteStatusDTO(pending)).thenReturn(
+                                new ProductWriteStatusDTO(writeId, ProductWriteStatus.State.PENDING, null, null));
+
+                mockMvc.perform(get("/api/v1/products/writes/{writeId}", writeId))
+                                .andExpect(status().isOk())
+                                .andExpect(header().doesNotExist("X-Consistency-Token"))
+                                .andExpect(jsonPath("$.status").value("PENDING"));
+        }
+}
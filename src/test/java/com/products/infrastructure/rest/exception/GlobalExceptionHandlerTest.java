@@ -2,7 +2,10 @@ package com.products.infrastructure.rest.exception;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.products.domain.exception.InvalidProductWriteException;
 import com.products.domain.exception.ProductNotFoundException;
+import com.products.domain.exception.ProductWriteQueueFullException;
+import com.products.infrastructure.deadline.RequestDeadlineExceededException;
 import com.products.infrastructure.rest.exception.dto.ErrorResponse;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -50,6 +54,38 @@ class GlobalExceptionHandlerTest {
         globalExceptionHandler = new GlobalExceptionHandler();
     }
 
+    @Test
+    void handleDeadlineExceeded() {
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleDeadlineExceeded(
+                new RequestDeadlineExceededException("Request deadline exceeded"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo(504);
+    }
+
+    @Test
+    void handleInvalidProductWriteException() {
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleInvalidProductWriteException(
+                new InvalidProductWriteException("Product violates a database constraint",
+                        new IllegalStateException("ERROR: numeric field overflow")));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Product violates a database constraint");
+    }
+
+    @Test
+    void handleProductWriteQueueFullException() {
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleProductWriteQueueFullException(
+                new ProductWriteQueueFullException("Too many pending writes, retry later"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().errors().get("write")).containsExactly("Too many pending writes, retry later");
+    }
+
     @Test
     void handleProductNotFoundException() {
         ProductNotFoundException ex = new ProductNotFoundException("Product not found");
@@ -0,0 +1,100 @@
+package com.products.infrastructure.rest.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.concurrency.limits.Limiter;
+import com.netflix.concurrency.limits.limit.FixedLimit;
+import com.netflix.concurrency.limits.limiter.AbstractLimiter;
+import com.netflix.concurrency.limits.limiter.SimpleLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitFilterTest {
+
+    @Mock
+    private AbstractLimiter<Void> writeLimiter;
+
+    @Mock
+    private Limiter.Listener listener;
+
+    private SimpleLimiter<Void> readLimiter;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        readLimiter = SimpleLimiter.newBuilder().limit(FixedLimit.of(1)).build();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(readLimiter, writeLimiter, Duration.ofSeconds(2),
+                new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    @Test
+    void doFilter_ShouldRejectWith503AndRetryAfter_WhenReadBudgetIsExhausted() throws Exception {
+        Limiter.Listener inFlight = readLimiter.acquire(null).orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/products/1"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("Limit of 1 concurrent reads reached");
+        assertThat(meterRegistry.get("products.concurrency.rejected").tag("budget", "reads").counter().count())
+                .isEqualTo(1);
+        inFlight.onSuccess();
+    }
+
+    @Test
+    void doFilter_ShouldReleaseTheReadBudget_WhenRequestCompletes() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/products"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        assertThat(readLimiter.getInflight()).isZero();
+        assertThat(meterRegistry.get("products.concurrency.inflight").tag("budget", "reads").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void doFilter_ShouldUseTheWriteBudgetAndReportDrops_WhenWriteFailsWith503() throws Exception {
+        when(writeLimiter.acquire(null)).thenReturn(Optional.of(listener));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/products"), response,
+                (request, servletResponse) -> response.setStatus(503));
+
+        verify(listener).onDropped();
+        assertThat(readLimiter.getInflight()).isZero();
+    }
+
+    @Test
+    void doFilter_ShouldNotLimitPreflightRequests() throws Exception {
+        Limiter.Listener inFlight = readLimiter.acquire(null).orElseThrow();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("OPTIONS", "/api/v1/products"), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        inFlight.onSuccess();
+    }
+}
@@ -0,0 +1,47 @@
+package com.products.infrastructure.rest.filter;
+
+import com.products.infrastructure.deadline.RequestDeadline;
+import com.products.infrastructure.rest.openapi.ProductApi;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestDeadlineFilterTest {
+
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter(Duration.ofSeconds(10),
+            Duration.ofSeconds(30));
+
+    @Test
+    void timeoutOf_ShouldUseTheClientTimeoutUpToTheMaximum() {
+        assertThat(filter.timeoutOf("250")).isEqualTo(Duration.ofMillis(250));
+        assertThat(filter.timeoutOf("60000")).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void timeoutOf_ShouldUseTheDefault_WhenHeaderIsMissingOrInvalid() {
+        assertThat(filter.timeoutOf(null)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(filter.timeoutOf("soon")).isEqualTo(Duration.ofSeconds(10));
+        assertThat(filter.timeoutOf("0")).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void doFilter_ShouldSetTheDeadlineOnlyWhileTheRequestIsServed() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+        request.addHeader(ProductApi.REQUEST_TIMEOUT_HEADER, "500");
+        List<Optional<Duration>> remaining = new ArrayList<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (servletRequest, servletResponse) -> remaining.add(RequestDeadline.remaining()));
+
+        assertThat(remaining.get(0)).hasValueSatisfying(left -> assertThat(left)
+                .isLessThanOrEqualTo(Duration.ofMillis(500)));
+        assertThat(RequestDeadline.remaining()).isEmpty();
+    }
+}
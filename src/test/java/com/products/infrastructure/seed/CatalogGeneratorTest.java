@@ -0,0 +1,44 @@
+package com.products.infrastructure.seed;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogGeneratorTest {
+
+    @Test
+    void next_ShouldGenerateTheSameCatalog_WhenSeedIsTheSame() {
+        assertThat(generate(42L, 1_000)).isEqualTo(generate(42L, 1_000));
+        assertThat(generate(42L, 1_000)).isNotEqualTo(generate(7L, 1_000));
+    }
+
+    @Test
+    void next_ShouldGenerateValidProductsAcrossEveryCategory() {
+        List<Product> products = generate(42L, 10_000);
+
+        assertThat(products).extracting(Product::category).containsOnly(ProductCategory.values());
+        assertThat(products).allSatisfy(product -> {
+            assertThat(product.name().length()).isBetween(2, 100);
+            assertThat(product.price()).isBetween(new BigDecimal("4.99"), new BigDecimal("2999.99"));
+            assertThat(product.price().scale()).isEqualTo(2);
+            assertThat(product.version()).isZero();
+        });
+        assertThat(products.stream().filter(Product::active).count()).isBetween(9_300L, 9_700L);
+    }
+
+    @Test
+    void next_ShouldUseTheGivenIds() {
+        assertThat(generate(42L, 3)).extracting(Product::id).containsExactly(1L, 2L, 3L);
+    }
+
+    private static List<Product> generate(long seed, int count) {
+        CatalogGenerator generator = new CatalogGenerator(seed);
+        return LongStream.rangeClosed(1, count).mapToObj(generator::next).toList();
+    }
+}
@@ -0,0 +1,177 @@
+package com.products.infrastructure.seed;
+
+import com.products.domain.model.Product;
+import com.products.domain.model.ProductCategory;
+import com.products.domain.port.ProductFacetPort;
+import com.products.infrastructure.mapper.ProductMapper;
+import com.products.infrastructure.mongo.document.ProductDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogSeederTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private CopyManager copyManager;
+
+    @Mock
+    private CopyIn copyIn;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private ProductFacetPort productFacetPort;
+
+    private CatalogSeeder seeder;
+
+    @BeforeEach
+    void setUp() {
+        seeder = new CatalogSeeder(dataSource, mongoTemplate, new ProductMapper(), productFacetPort);
+    }
+
+    @Test
+    void seed_ShouldCommitACopyPerBatchAndBulkInsertIntoMongoInBatches() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(CatalogSeeder.NEXT_ID_SQL)).thenReturn(resultSet);
+        when(resultSet.getLong(1)).thenReturn(11L);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(CatalogSeeder.COPY_SQL)).thenReturn(copyIn);
+        StringBuilder copied = new StringBuilder();
+        doAnswer(invocation -> {
+            copied.append(new String(invocation.<byte[]>getArgument(0), 0, invocation.<Integer>getArgument(2),
+                    StandardCharsets.UTF_8));
+            return null;
+        }).when(copyIn).writeToCopy(org.mockito.ArgumentMatchers.any(byte[].class), eq(0), anyInt());
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.class))
+                .thenReturn(bulkOperations);
+        List<Integer> batchSizes = new ArrayList<>();
+        when(bulkOperations.insert(anyList())).thenAnswer(invocation -> {
+            batchSizes.add(invocation.<List<?>>getArgument(0).size());
+            return bulkOperations;
+        });
+
+        long seeded = seeder.seed(5, 42L, 2);
+
+        assertThat(seeded).isEqualTo(5);
+        assertThat(copied.toString().lines()).hasSize(5)
+                .extracting(line -> line.substring(0, line.indexOf(',')))
+                .containsExactly("11", "12", "13", "14", "15");
+        assertThat(batchSizes).containsExactly(2, 2, 1);
+        verify(copyIn, times(3)).writeToCopy(org.mockito.ArgumentMatchers.any(byte[].class), eq(0), anyInt());
+        verify(copyIn, times(3)).endCopy();
+        verify(statement, times(3)).execute(CatalogSeeder.RESET_SEQUENCE_SQL);
+        verify(productFacetPort).rebuild();
+    }
+
+    @Test
+    void appendCsvRow_ShouldQuoteNameAndWritePostgresBooleans() {
+        StringBuilder rows = new StringBuilder();
+
+        CatalogSeeder.appendCsvRow(rows, new Product(7L, "12\" Monitor, matte", new BigDecimal("199.90"),
+                ProductCategory.ELECTRONICS, false, 0L));
+
+        assertThat(rows.toString()).isEqualTo("7,\"12\"\" Monitor, matte\",199.90,ELECTRONICS,f,0\n");
+    }
+
+    @Test
+    void seed_ShouldPassTheSameDocumentsToMongoAsTheGenerator() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(CatalogSeeder.NEXT_ID_SQL)).thenReturn(resultSet);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(CatalogSeeder.COPY_SQL)).thenReturn(copyIn);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.class))
+                .thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        seeder.seed(3, 42L, 10);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductDocument>> documents = ArgumentCaptor.forClass(List.class);
+        verify(bulkOperations).insert(documents.capture());
+        CatalogGenerator generator = new CatalogGenerator(42L);
+        assertThat(documents.getValue()).extracting(ProductDocument::getName)
+                .containsExactly(generator.next(1L).name(), generator.next(2L).name(), generator.next(3L).name());
+    }
+
+    @Test
+    void seed_ShouldNotInsertABatchIntoMongo_WhenItsCopyFails() throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(CatalogSeeder.NEXT_ID_SQL)).thenReturn(resultSet);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(CatalogSeeder.COPY_SQL)).thenReturn(copyIn);
+        when(copyIn.endCopy()).thenReturn(2L).thenThrow(new SQLException("duplicate key value"));
+        when(copyIn.isActive()).thenReturn(false, true);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.class))
+                .thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        assertThatThrownBy(() -> seeder.seed(4, 42L, 2)).isInstanceOf(SQLException.class);
+
+        InOrder inOrder = inOrder(copyIn, bulkOperations);
+        inOrder.verify(copyIn).endCopy();
+        inOrder.verify(bulkOperations).insert(anyList());
+        verify(bulkOperations, times(1)).insert(anyList());
+        verify(copyIn).cancelCopy();
+        verify(statement, times(1)).execute(CatalogSeeder.RESET_SEQUENCE_SQL);
+        verify(productFacetPort, never()).rebuild();
+    }
+}
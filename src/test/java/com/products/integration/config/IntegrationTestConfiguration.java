@@ -1,5 +1,6 @@
 package com.products.integration.config;
 
+import com.products.domain.port.ProductFacetPort;
 import com.products.domain.port.ProductKafkaPort;
 import com.products.domain.port.ProductMongoPort;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -22,4 +23,10 @@ public class IntegrationTestConfiguration {
     public ProductMongoPort productMongoPort() {
         return mock(ProductMongoPort.class);
     }
+
+    @Bean
+    @Primary
+    public ProductFacetPort productFacetPort() {
+        return mock(ProductFacetPort.class);
+    }
 }
\ No newline at end of file